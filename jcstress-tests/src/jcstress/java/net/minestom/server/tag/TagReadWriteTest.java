@@ -0,0 +1,35 @@
+package net.minestom.server.tag;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.LL_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "null, null", expect = ACCEPTABLE, desc = "Nothing seen")
+@Outcome(id = "value, null", expect = ACCEPTABLE, desc = "First write seen")
+@Outcome(id = "value, value", expect = ACCEPTABLE, desc = "Both writes seen")
+@Outcome(id = "null, value", expect = FORBIDDEN, desc = "Writes seen out of order")
+@State
+public class TagReadWriteTest {
+    private static final Tag<String> FIRST = Tag.String("first");
+    private static final Tag<String> SECOND = Tag.String("second");
+
+    private final TagHandler handler = TagHandler.newHandler();
+
+    @Actor
+    public void writer() {
+        handler.setTag(FIRST, "value");
+        handler.setTag(SECOND, "value");
+    }
+
+    @Actor
+    public void reader(LL_Result r) {
+        // Read in reverse order, lock-free reads must still observe the writes in program order
+        final String second = handler.getTag(SECOND);
+        final String first = handler.getTag(FIRST);
+        r.r1 = first;
+        r.r2 = second;
+    }
+}
@@ -0,0 +1,54 @@
+package net.minestom.server.tag;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.LL_Result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+@JCStressTest
+@Outcome(id = "99, 499", expect = ACCEPTABLE)
+@State
+public class TagReplaceRehashTest {
+    private static final int MAX_SIZE = 500;
+    private static final Tag<Integer> TAG = Tag.Integer("key");
+    private static final List<Tag<Integer>> TAGS;
+
+    static {
+        List<Tag<Integer>> tags = new ArrayList<>();
+        for (int i = 0; i < MAX_SIZE; i++) {
+            tags.add(Tag.Integer("key" + i));
+        }
+        TAGS = List.copyOf(tags);
+    }
+
+    private final TagHandler handler = TagHandler.newHandler();
+
+    {
+        handler.setTag(TAG, -1);
+    }
+
+    @Actor
+    public void actor1() {
+        // Replaces the existing entry, without locking
+        for (int i = 0; i < 100; i++) {
+            handler.setTag(TAG, i);
+        }
+    }
+
+    @Actor
+    public void actor2() {
+        // Forces the map to grow
+        for (int i = 0; i < MAX_SIZE; i++) {
+            handler.setTag(TAGS.get(i), i);
+        }
+    }
+
+    @Arbiter
+    public void arbiter(LL_Result r) {
+        r.r1 = handler.getTag(TAG);
+        r.r2 = handler.getTag(TAGS.get(MAX_SIZE - 1));
+    }
+}
@@ -0,0 +1,41 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+/**
+ * Acquires two tick threads in opposite orders, must neither deadlock nor lose an update.
+ */
+@JCStressTest
+@Outcome(id = "2", expect = ACCEPTABLE)
+@State
+public class AcquirableLockOrderTest {
+    private final TickThread first = new TickThread("first");
+    private final TickThread second = new TickThread("second");
+    private int counter;
+
+    @Actor
+    public void actor1() {
+        var firstLock = AcquirableImpl.enter(Thread.currentThread(), first);
+        var secondLock = AcquirableImpl.enter(Thread.currentThread(), second);
+        counter++;
+        AcquirableImpl.leave(secondLock);
+        AcquirableImpl.leave(firstLock);
+    }
+
+    @Actor
+    public void actor2() {
+        var secondLock = AcquirableImpl.enter(Thread.currentThread(), second);
+        var firstLock = AcquirableImpl.enter(Thread.currentThread(), first);
+        counter++;
+        AcquirableImpl.leave(firstLock);
+        AcquirableImpl.leave(secondLock);
+    }
+
+    @Arbiter
+    public void arbiter(I_Result r) {
+        r.r1 = counter;
+    }
+}
@@ -0,0 +1,49 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+/**
+ * Two tick threads holding their own lock acquire each other, as entities interacting across partitions do.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE)
+@State
+public class AcquirableTickThreadTest {
+    private final TickThread first = new TickThread("first");
+    private final TickThread second = new TickThread("second");
+    private int firstCounter, secondCounter;
+
+    @Actor
+    public void actor1() {
+        // Simulate the tick of the first thread
+        first.lock().lock();
+        try {
+            var lock = AcquirableImpl.enter(first, second);
+            secondCounter++;
+            AcquirableImpl.leave(lock);
+        } finally {
+            first.lock().unlock();
+        }
+    }
+
+    @Actor
+    public void actor2() {
+        second.lock().lock();
+        try {
+            var lock = AcquirableImpl.enter(second, first);
+            firstCounter++;
+            AcquirableImpl.leave(lock);
+        } finally {
+            second.lock().unlock();
+        }
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = firstCounter;
+        r.r2 = secondCounter;
+    }
+}
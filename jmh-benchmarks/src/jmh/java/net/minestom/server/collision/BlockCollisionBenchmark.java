@@ -0,0 +1,60 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BlockCollisionBenchmark {
+    private static final BoundingBox PLAYER = new BoundingBox(0.6, 1.8, 0.6);
+    private static final BoundingBox ARROW = new BoundingBox(0.5, 0.5, 0.5);
+
+    private Block.Getter flatGetter;
+    private Block.Getter stairsGetter;
+
+    @Setup
+    public void setup() {
+        // Stone floor at y=0
+        this.flatGetter = (x, y, z, condition) -> y <= 0 ? Block.STONE : Block.AIR;
+        // Staircase going up along +x, one step per block
+        final Block stairs = Block.OAK_STAIRS.withProperty("facing", "east");
+        this.stairsGetter = (x, y, z, condition) -> {
+            if (y < x) return Block.STONE;
+            if (y == x) return stairs;
+            return Block.AIR;
+        };
+    }
+
+    @Benchmark
+    public void falling(Blackhole blackhole) {
+        blackhole.consume(CollisionUtils.handlePhysics(flatGetter, PLAYER,
+                new Pos(0.5, 10, 0.5), new Vec(0, -3.92, 0), null, false));
+    }
+
+    @Benchmark
+    public void landing(Blackhole blackhole) {
+        blackhole.consume(CollisionUtils.handlePhysics(flatGetter, PLAYER,
+                new Pos(0.5, 1.2, 0.5), new Vec(0.1, -0.5, 0.1), null, false));
+    }
+
+    @Benchmark
+    public void walkingOnStairs(Blackhole blackhole) {
+        blackhole.consume(CollisionUtils.handlePhysics(stairsGetter, PLAYER,
+                new Pos(2.3, 3.5, 0.5), new Vec(0.2, -0.08, 0.05), null, false));
+    }
+
+    @Benchmark
+    public void projectileSweep(Blackhole blackhole) {
+        blackhole.consume(CollisionUtils.handlePhysics(flatGetter, ARROW,
+                new Pos(0.5, 20, 0.5), new Vec(3, -2.5, 1.5), null, true));
+    }
+}
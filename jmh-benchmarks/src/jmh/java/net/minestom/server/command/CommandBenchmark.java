@@ -1,9 +1,12 @@
 package net.minestom.server.command;
 
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.suggestion.SuggestionEntry;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -17,7 +20,13 @@ import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 @Warmup(time = 2, iterations = 3)
 @Measurement(time = 6)
 public class CommandBenchmark {
+    private static final String DEEP_COMMAND = "cmd99 sub0 sub1 sub2 sub3 sub4 sub5 sub6 sub7 123";
+
     Function<String, Object> parser;
+    Function<String, Object> deepParser;
+    Function<String, Object> deepCachedParser;
+    String[] tabCompletions;
+    int tabCompletionIndex;
 
     @Setup
     public void setup() {
@@ -52,6 +61,37 @@ public class CommandBenchmark {
         ));
         final CommandParser commandParser = CommandParser.parser();
         this.parser = input -> commandParser.parse(null, graph, input);
+
+        // Many commands, each with a deep chain of subcommands
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Command command = new Command("cmd" + i);
+            Command parent = command;
+            for (int depth = 0; depth < 8; depth++) {
+                Command subcommand = new Command("sub" + depth);
+                for (int j = 0; j < 8; j++) {
+                    subcommand.addSyntax((sender, context) -> {}, Literal("literal" + j), Integer("value"));
+                }
+                parent.addSubcommand(subcommand);
+                parent = subcommand;
+            }
+            parent.addSyntax((sender, context) -> {}, Integer("value"));
+            parent.addSyntax((sender, context) -> {}, Word("word").from("alpha", "beta", "gamma")
+                    .setSuggestionCallback((sender, context, suggestion) -> {
+                        suggestion.addEntry(new SuggestionEntry("alpha"));
+                        suggestion.addEntry(new SuggestionEntry("beta"));
+                        suggestion.addEntry(new SuggestionEntry("gamma"));
+                    }));
+            commands.add(command);
+        }
+        final Graph deepGraph = Graph.merge(commands);
+        this.deepParser = input -> commandParser.parse(null, deepGraph, input);
+        final CompiledGraph compiledGraph = new CompiledGraph(deepGraph, 1024);
+        this.deepCachedParser = input -> compiledGraph.parse(null, input);
+        // Every keystroke of a command, as sent by clients while typing
+        final String typed = "cmd42 sub0 sub1 sub2 sub3 sub4 sub5 sub6 sub7 alp";
+        this.tabCompletions = new String[typed.length()];
+        for (int i = 0; i < typed.length(); i++) tabCompletions[i] = typed.substring(0, i + 1);
     }
 
     @Benchmark
@@ -90,6 +130,35 @@ public class CommandBenchmark {
         bh.consume(parser.apply("parse long 1234567890"));
     }
 
+    @Benchmark
+    public void deepCommand(Blackhole bh) {
+        bh.consume(deepParser.apply(DEEP_COMMAND));
+    }
+
+    @Benchmark
+    public void deepCommandCompiled(Blackhole bh) {
+        bh.consume(deepCachedParser.apply(DEEP_COMMAND));
+    }
+
+    @Benchmark
+    public void tabCompletion(Blackhole bh) {
+        final String input = nextTabCompletion();
+        bh.consume(((CommandParser.Result) deepParser.apply(input)).suggestion(null));
+    }
+
+    @Benchmark
+    public void tabCompletionCompiled(Blackhole bh) {
+        final String input = nextTabCompletion();
+        bh.consume(((CommandParser.Result) deepCachedParser.apply(input)).suggestion(null));
+    }
+
+    private String nextTabCompletion() {
+        final String[] tabCompletions = this.tabCompletions;
+        final int index = tabCompletionIndex;
+        this.tabCompletionIndex = index + 1 == tabCompletions.length ? 0 : index + 1;
+        return tabCompletions[index];
+    }
+
     @Benchmark
     public void numberParsing10DigitInvalid(Blackhole bh) {
         bh.consume(parser.apply("parse int a1234567890"));
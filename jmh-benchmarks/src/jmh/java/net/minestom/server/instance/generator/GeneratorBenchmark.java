@@ -0,0 +1,110 @@
+package net.minestom.server.instance.generator;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GeneratorImpl.GenSection;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+    private static final int MIN_SECTION = -4;
+    private static final int SECTION_COUNT = 24;
+    private static final int REGION_SIZE = 8;
+
+    /**
+     * CPU-bound terrain generator, sampling 3D noise for every block.
+     */
+    private static final Generator NOISE = unit -> {
+        final Point start = unit.absoluteStart();
+        unit.modifier().setAllRelative((x, y, z) -> {
+            final int globalY = start.blockY() + y;
+            final double density = noise((start.blockX() + x) * 0.05, globalY * 0.05, (start.blockZ() + z) * 0.05)
+                    - (globalY - 64) / 64.0;
+            if (density <= 0) return globalY < 62 ? Block.WATER : Block.AIR;
+            return density < 0.1 ? Block.DIRT : Block.STONE;
+        });
+    };
+
+    private static final Generator PARALLEL_NOISE = Generator.parallel(NOISE);
+
+    @Benchmark
+    public void chunk(Blackhole blackhole) {
+        final GenSection[] sections = sections(SECTION_COUNT);
+        NOISE.generate(GeneratorImpl.chunk(null, sections, 0, MIN_SECTION, 0));
+        blackhole.consume(sections);
+    }
+
+    @Benchmark
+    public void chunkParallel(Blackhole blackhole) {
+        final GenSection[] sections = sections(SECTION_COUNT);
+        PARALLEL_NOISE.generate(GeneratorImpl.chunk(null, sections, 0, MIN_SECTION, 0));
+        blackhole.consume(sections);
+    }
+
+    @Benchmark
+    public void regionPerChunk(Blackhole blackhole) {
+        for (int x = 0; x < REGION_SIZE; x++) {
+            for (int z = 0; z < REGION_SIZE; z++) {
+                final GenSection[] sections = sections(SECTION_COUNT);
+                NOISE.generate(GeneratorImpl.chunk(null, sections, x, MIN_SECTION, z));
+                blackhole.consume(sections);
+            }
+        }
+    }
+
+    @Benchmark
+    public void region(Blackhole blackhole) {
+        final GenSection[] sections = sections(REGION_SIZE * SECTION_COUNT * REGION_SIZE);
+        NOISE.generate(GeneratorImpl.area(null, Vec.SECTION.mul(0, MIN_SECTION, 0),
+                REGION_SIZE, SECTION_COUNT, REGION_SIZE, sections));
+        blackhole.consume(sections);
+    }
+
+    @Benchmark
+    public void regionParallel(Blackhole blackhole) {
+        final GenSection[] sections = sections(REGION_SIZE * SECTION_COUNT * REGION_SIZE);
+        PARALLEL_NOISE.generate(GeneratorImpl.area(null, Vec.SECTION.mul(0, MIN_SECTION, 0),
+                REGION_SIZE, SECTION_COUNT, REGION_SIZE, sections));
+        blackhole.consume(sections);
+    }
+
+    private static GenSection[] sections(int count) {
+        GenSection[] sections = new GenSection[count];
+        Arrays.setAll(sections, i -> new GenSection());
+        return sections;
+    }
+
+    private static double noise(double x, double y, double z) {
+        final int x0 = (int) Math.floor(x), y0 = (int) Math.floor(y), z0 = (int) Math.floor(z);
+        final double fx = smooth(x - x0), fy = smooth(y - y0), fz = smooth(z - z0);
+        final double c00 = lerp(fx, hash(x0, y0, z0), hash(x0 + 1, y0, z0));
+        final double c10 = lerp(fx, hash(x0, y0 + 1, z0), hash(x0 + 1, y0 + 1, z0));
+        final double c01 = lerp(fx, hash(x0, y0, z0 + 1), hash(x0 + 1, y0, z0 + 1));
+        final double c11 = lerp(fx, hash(x0, y0 + 1, z0 + 1), hash(x0 + 1, y0 + 1, z0 + 1));
+        return lerp(fz, lerp(fy, c00, c10), lerp(fy, c01, c11));
+    }
+
+    private static double hash(int x, int y, int z) {
+        int h = x * 374761393 + y * 668265263 + z * 1274126177;
+        h = (h ^ (h >>> 13)) * 1274126177;
+        return ((h ^ (h >>> 16)) & 0xFFFF) / 65535.0 * 2 - 1;
+    }
+
+    private static double smooth(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static double lerp(double t, double a, double b) {
+        return a + t * (b - a);
+    }
+}
@@ -0,0 +1,78 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapColorsBenchmark {
+
+    // Gradient is cache friendly, random touches the whole table
+    @Param({"gradient", "random"})
+    public String pattern;
+
+    int[] argb;
+    byte[] colors;
+    Graphics2DFramebuffer framebuffer;
+
+    @Setup
+    public void setup() {
+        this.argb = new int[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        Random random = new Random(12345);
+        for (int i = 0; i < argb.length; i++) {
+            argb[i] = switch (pattern) {
+                case "gradient" -> ((i & 0x7F) << 17) | ((i >> 7) << 9) | 0x40;
+                case "random" -> random.nextInt();
+                default -> throw new IllegalArgumentException(pattern);
+            };
+        }
+        this.colors = new byte[argb.length];
+        this.framebuffer = new Graphics2DFramebuffer();
+        for (int i = 0; i < argb.length; i++) {
+            framebuffer.set(i & 0x7F, i >> 7, argb[i]);
+        }
+        // Fill the lookup table so that the first iterations are not penalized
+        MapColors.closestIndices(argb, colors);
+    }
+
+    @Benchmark
+    public void perPixel(Blackhole blackhole) {
+        final int[] argb = this.argb;
+        for (int value : argb) {
+            blackhole.consume(MapColors.closestColor(value).getIndex());
+        }
+    }
+
+    @Benchmark
+    public byte[] bulk() {
+        MapColors.closestIndices(argb, colors);
+        return colors;
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.map.rgbmapping=precise")
+    public byte[] bulkPrecise() {
+        MapColors.closestIndices(argb, colors);
+        return colors;
+    }
+
+    @Benchmark
+    @Fork(value = 3, jvmArgsAppend = {"-Dminestom.map.rgbmapping=approximate", "-Dminestom.map.rgbreduction=2"})
+    public byte[] bulkApproximate() {
+        MapColors.closestIndices(argb, colors);
+        return colors;
+    }
+
+    @Benchmark
+    public byte[] framebuffer() {
+        return framebuffer.toMapColors();
+    }
+}
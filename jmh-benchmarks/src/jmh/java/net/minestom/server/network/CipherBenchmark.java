@@ -0,0 +1,54 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CipherBenchmark {
+
+    @Param({"16", "128", "1024"})
+    public int packetSize;
+
+    @Param({"64"})
+    public int packetCount;
+
+    Cipher cipher;
+    NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        byte[] key = new byte[16];
+        ThreadLocalRandom.current().nextBytes(key);
+        this.cipher = MojangCrypt.getCipher(1, new SecretKeySpec(key, "AES"));
+
+        final int length = packetSize * packetCount;
+        byte[] data = new byte[length];
+        ThreadLocalRandom.current().nextBytes(data);
+        this.buffer = NetworkBuffer.staticBuffer(length);
+        this.buffer.write(NetworkBuffer.RAW_BYTES, data);
+    }
+
+    @Benchmark
+    public void perPacket() {
+        final NetworkBuffer buffer = this.buffer;
+        final int packetSize = this.packetSize;
+        for (int i = 0; i < packetCount; i++) {
+            buffer.cipher(cipher, (long) i * packetSize, packetSize);
+        }
+    }
+
+    @Benchmark
+    public void perFlush() {
+        buffer.cipher(cipher, 0, (long) packetSize * packetCount);
+    }
+}
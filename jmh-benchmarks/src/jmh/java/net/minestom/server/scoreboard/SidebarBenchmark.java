@@ -0,0 +1,110 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SidebarBenchmark {
+    private static final int LINES = 15;
+
+    @Param({"1000"})
+    public int viewers;
+
+    Sidebar sidebar;
+    long bytes;
+    int tick;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.sidebar = new Sidebar(Component.text("Benchmark"));
+        sidebar.setLines(lines(0));
+        for (int i = 0; i < viewers; i++) {
+            final Player player = new Player(new BenchmarkConnection(), new GameProfile(UUID.randomUUID(), "Player" + i));
+            sidebar.addViewer(player);
+        }
+    }
+
+    /**
+     * Animated sidebar updated line by line, only the timer changes.
+     */
+    @Benchmark
+    public long animatedPerLine() {
+        final int tick = ++this.tick;
+        for (Sidebar.ScoreboardLine line : lines(tick)) {
+            sidebar.updateLineContent(line.getId(), line.getContent());
+        }
+        return bytes;
+    }
+
+    /**
+     * Animated sidebar replacing all its lines, only the timer changes.
+     */
+    @Benchmark
+    public long animatedSetLines() {
+        sidebar.setLines(lines(++tick));
+        return bytes;
+    }
+
+    /**
+     * Every line changes every tick.
+     */
+    @Benchmark
+    public long allLinesChanged() {
+        final int tick = ++this.tick;
+        List<Sidebar.ScoreboardLine> lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(new Sidebar.ScoreboardLine("line-" + i, Component.text("Line " + i + " " + tick), i));
+        }
+        sidebar.setLines(lines);
+        return bytes;
+    }
+
+    private static List<Sidebar.ScoreboardLine> lines(int tick) {
+        List<Sidebar.ScoreboardLine> lines = new ArrayList<>(LINES);
+        lines.add(new Sidebar.ScoreboardLine("timer", Component.text("Time: " + tick / 20 + "s"), LINES));
+        for (int i = 1; i < LINES; i++) {
+            lines.add(new Sidebar.ScoreboardLine("line-" + i, Component.text("Line " + i), LINES - i));
+        }
+        return lines;
+    }
+
+    // Encodes grouped packets like a socket connection would, without writing them
+    final class BenchmarkConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+            if (packet instanceof CachedPacket cachedPacket) {
+                final NetworkBuffer body = cachedPacket.body(ConnectionState.PLAY);
+                if (body != null) bytes += body.capacity();
+            } else {
+                bytes++;
+            }
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+}
@@ -16,6 +16,11 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class TagReadBenchmark {
     static final Tag<String> TAG = Tag.String("key");
+    static final Tag<Integer>[] TAGS = new Tag[8];
+
+    static {
+        for (int i = 0; i < TAGS.length; i++) TAGS[i] = Tag.Integer("key" + i);
+    }
 
     @Param({"false", "true"})
     public boolean present;
@@ -30,7 +35,10 @@ public class TagReadBenchmark {
     public void setup() {
         // Tag benchmark
         this.tagHandler = TagHandler.newHandler();
-        if (present) tagHandler.setTag(TAG, "value");
+        if (present) {
+            tagHandler.setTag(TAG, "value");
+            for (int i = 0; i < TAGS.length; i++) tagHandler.setTag(TAGS[i], i);
+        }
         secondTag = Tag.String("key");
         // Concurrent map benchmark
         map = new HashMap<>();
@@ -55,6 +63,13 @@ public class TagReadBenchmark {
         blackhole.consume(tagHandler.getTag(Tag.String("key")));
     }
 
+    @Benchmark
+    public void readManyTags(Blackhole blackhole) {
+        for (Tag<Integer> tag : TAGS) {
+            blackhole.consume(tagHandler.getTag(tag));
+        }
+    }
+
     @Benchmark
     public void readConcurrentMap(Blackhole blackhole) {
         blackhole.consume(concurrentMap.get("key"));
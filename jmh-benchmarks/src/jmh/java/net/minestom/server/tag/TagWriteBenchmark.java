@@ -1,6 +1,7 @@
 package net.minestom.server.tag;
 
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,6 +16,11 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class TagWriteBenchmark {
     static final Tag<String> TAG = Tag.String("key");
+    static final Tag<Integer>[] TAGS = new Tag[8];
+
+    static {
+        for (int i = 0; i < TAGS.length; i++) TAGS[i] = Tag.Integer("key" + i);
+    }
 
     TagHandler tagHandler;
     Tag<String> secondTag;
@@ -27,6 +33,7 @@ public class TagWriteBenchmark {
         // Tag benchmark
         this.tagHandler = TagHandler.newHandler();
         tagHandler.setTag(TAG, "value");
+        for (int i = 0; i < TAGS.length; i++) tagHandler.setTag(TAGS[i], i);
         secondTag = Tag.String("key");
         // Concurrent map benchmark
         map = new HashMap<>();
@@ -51,6 +58,19 @@ public class TagWriteBenchmark {
         tagHandler.setTag(Tag.String("key"), "value");
     }
 
+    @Benchmark
+    public void writeManyTags() {
+        for (int i = 0; i < TAGS.length; i++) {
+            tagHandler.setTag(TAGS[i], i);
+        }
+    }
+
+    @Benchmark
+    public void writeAndSerialize(Blackhole blackhole) {
+        tagHandler.setTag(TAG, "value");
+        blackhole.consume(tagHandler.asCompound());
+    }
+
     @Benchmark
     public void writeConcurrentMap() {
         concurrentMap.put("key", "value");
@@ -15,19 +15,43 @@ public class SchedulerTickBenchmark {
     @Param({"0", "1", "5"})
     public int tickTasks;
 
-    Scheduler scheduler;
+    @Param({"1", "50000"})
+    public int owners;
+
+    Scheduler[] schedulers;
+    Scheduler longDelayScheduler;
 
     @Setup
     public void setup() {
-        this.scheduler = Scheduler.newScheduler();
-        for (int i = 0; i < this.tickTasks; i++) {
-            this.scheduler.scheduleTask(() -> {
-            }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+        this.schedulers = new Scheduler[owners];
+        for (int i = 0; i < owners; i++) {
+            Scheduler scheduler = Scheduler.newScheduler();
+            for (int j = 0; j < this.tickTasks; j++) {
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+            }
+            this.schedulers[i] = scheduler;
+        }
+        // Fixed set of repeating tasks far in the future, spread over the wheel levels
+        this.longDelayScheduler = Scheduler.newScheduler();
+        for (int i = 0; i < 1000; i++) {
+            final TaskSchedule delay = TaskSchedule.tick(1000 + i * 4);
+            longDelayScheduler.scheduleTask(() -> {
+            }, delay, delay);
         }
     }
 
     @Benchmark
     public void call() {
-        this.scheduler.processTick();
+        for (Scheduler scheduler : schedulers) {
+            scheduler.processTick();
+            scheduler.processTickEnd();
+        }
+    }
+
+    @Benchmark
+    public void longDelay() {
+        // Exercise the wheel cascading with tasks far in the future
+        longDelayScheduler.processTick();
     }
 }
@@ -60,6 +60,8 @@ public final class MinecraftServer implements MinecraftConstants {
 
     public static final String THREAD_NAME_TICK_SCHEDULER = "Ms-TickScheduler";
     public static final String THREAD_NAME_TICK = "Ms-Tick";
+    public static final String THREAD_NAME_EVENT_POST = "Ms-EventPost";
+    public static final String THREAD_NAME_GENERATION = "Ms-Generation";
 
     // Config
     // Can be modified at performance cost when increased
@@ -19,6 +19,7 @@ public final class ServerFlag {
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final int GENERATION_THREADS = intProperty("minestom.generation-threads", Runtime.getRuntime().availableProcessors(), 1, Short.MAX_VALUE);
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000); // 5s
     public static final long KNOWN_PACKS_RESPONSE_TIMEOUT = longProperty("minestom.known-packs-response-timeout", 5 * 60_000); // 5m
@@ -60,9 +61,26 @@ public final class ServerFlag {
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
 
+    // Chunk tickets
+    public static final boolean CHUNK_AUTO_UNLOAD = booleanProperty("minestom.chunk.auto-unload");
+    public static final int CHUNK_UNLOAD_DELAY = intProperty("minestom.chunk.unload-delay", 600, 0, Integer.MAX_VALUE); // Ticks
+    public static final int CHUNK_BUDGET = intProperty("minestom.chunk.budget", 0, 0, Integer.MAX_VALUE); // 0 for no limit
+
     // Maps
     public static final @NotNull String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
     public static final int MAP_RGB_REDUCTION = intProperty("minestom.map.rgbreduction", -1); // Only used if rgb mapping is "approximate"
+    public static final @Nullable String MAP_RGB_CACHE = stringProperty("minestom.map.rgbcache"); // Only used if rgb mapping is "precise"
+
+    // Events
+    public static final int EVENT_POST_QUEUE_SIZE = intProperty("minestom.event.post-queue-size", 4096, 1, Integer.MAX_VALUE);
+    public static final int EVENT_POST_THREADS = intProperty("minestom.event.post-threads", 0, 0, Integer.MAX_VALUE); // 0 for virtual threads
+
+    // Commands
+    public static final int COMMAND_PARSE_CACHE_SIZE = intProperty("minestom.command.parse-cache-size", 1024);
+
+    // Effects
+    public static final boolean EFFECT_BATCHING = booleanProperty("minestom.effect.batching");
+    public static final int EFFECT_BUDGET = intProperty("minestom.effect.budget", 256, 1, 4094); // Per player per tick, bounded by the bundle limit
 
     // Entities
     public static final boolean ENFORCE_INTERACTION_LIMIT = booleanProperty("minestom.enforce-entity-interaction-range", true);
@@ -70,6 +88,7 @@ public final class ServerFlag {
     // Experimental/Unstable
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
+    public static final boolean EVENT_NODE_GENERATED_DISPATCH = booleanProperty("minestom.event.generated-dispatch");
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
@@ -24,6 +24,7 @@ import net.minestom.server.gamedata.tags.TagManager;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
+import net.minestom.server.instance.InstanceTickGroup;
 import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.instance.block.banner.BannerPattern;
 import net.minestom.server.instance.block.jukebox.JukeboxSong;
@@ -60,6 +61,7 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -402,6 +404,11 @@ final class ServerProcessImpl implements ServerProcess {
         LOGGER.info("Shutting down all thread pools.");
         benchmark.disable();
         dispatcher.shutdown();
+        instance.getInstances().stream()
+                .map(Instance::getTickGroup)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(InstanceTickGroup::shutdown);
         LOGGER.info(MinecraftServer.getBrandName() + " server stopped successfully.");
     }
 
@@ -453,6 +460,8 @@ final class ServerProcessImpl implements ServerProcess {
         private void serverTick(long tickStart) {
             // Tick all instances
             for (Instance instance : instance().getInstances()) {
+                // Ticked by their own loop
+                if (instance.getTickGroup() != null) continue;
                 try {
                     instance.tick(tickStart);
                 } catch (Exception e) {
@@ -11,7 +11,15 @@ import net.minestom.server.utils.block.BlockIterator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 final class BlockCollision {
+    private static final int FACES_CACHE_SIZE = 256;
+    // Bounding box -> faces indexed by movement direction, shared and never mutated
+    private static final Map<BoundingBox, AtomicReferenceArray<Vec[]>> FACES_CACHE = new ConcurrentHashMap<>();
+
     /**
      * Moves an entity with physics applied (ie checking against blocks)
      * <p>
@@ -291,41 +299,35 @@ final class BlockCollision {
                                     Block.Getter getter, SweepResult finalResult) {
         // Don't step if chunk isn't loaded yet
         final Block currentBlock = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
-        final Shape currentShape = currentBlock.registry().collisionShape();
+        final int currentFlags = BlockCollisionTable.flags(currentBlock);
 
-        final boolean currentCollidable = !currentShape.relativeEnd().isZero();
-        final boolean currentShort = currentShape.relativeEnd().y() < 0.5;
+        final boolean currentCollidable = (currentFlags & BlockCollisionTable.EMPTY) == 0;
+        final boolean currentShort = (currentFlags & BlockCollisionTable.SHORT) != 0;
 
         // only consider the block below if our current shape is sufficiently short
         if (currentShort && shouldCheckLower(entityVelocity, entityPosition, blockX, blockY, blockZ)) {
             // we need to check below for a tall block (fence, wall, ...)
-            final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-            final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-            final Shape belowShape = belowBlock.registry().collisionShape();
-
-            final Vec currentPos = new Vec(blockX, blockY, blockZ);
+            final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
             // don't fall out of if statement, we could end up redundantly grabbing a block, and we only need to
             // collision check against the current shape since the below shape isn't tall
-            if (belowShape.relativeEnd().y() > 1) {
+            if ((BlockCollisionTable.flags(belowBlock) & BlockCollisionTable.TALL) != 0) {
                 // we should always check both shapes, so no short-circuit here, to handle properties where the bounding box
                 // hits the current solid but misses the tall solid
-                return belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult) |
-                        (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult));
+                return BlockCollisionTable.sweep(belowBlock, blockX, blockY - 1, blockZ, entityPosition, entityVelocity, boundingBox, finalResult) |
+                        (currentCollidable && BlockCollisionTable.sweep(currentBlock, blockX, blockY, blockZ, entityPosition, entityVelocity, boundingBox, finalResult));
             } else {
-                return currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity, currentPos, boundingBox, finalResult);
+                return currentCollidable && BlockCollisionTable.sweep(currentBlock, blockX, blockY, blockZ, entityPosition, entityVelocity, boundingBox, finalResult);
             }
         }
 
-        if (currentCollidable && currentShape.intersectBoxSwept(entityPosition, entityVelocity,
-                new Vec(blockX, blockY, blockZ), boundingBox, finalResult)) {
+        if (currentCollidable && BlockCollisionTable.sweep(currentBlock, blockX, blockY, blockZ,
+                entityPosition, entityVelocity, boundingBox, finalResult)) {
             // if the current collision is sufficiently short, we might need to collide against the block below too
             if (currentShort) {
-                final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-                final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-                final Shape belowShape = belowBlock.registry().collisionShape();
+                final Block belowBlock = getter.getBlock(blockX, blockY - 1, blockZ, Block.Getter.Condition.TYPE);
                 // only do sweep if the below block is big enough to possibly hit
-                if (belowShape.relativeEnd().y() > 1)
-                    belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult);
+                if ((BlockCollisionTable.flags(belowBlock) & BlockCollisionTable.TALL) != 0)
+                    BlockCollisionTable.sweep(belowBlock, blockX, blockY - 1, blockZ, entityPosition, entityVelocity, boundingBox, finalResult);
             }
             return true;
         }
@@ -370,6 +372,22 @@ final class BlockCollision {
         final int queryX = (int) Math.signum(queryVec.x());
         final int queryY = (int) Math.signum(queryVec.y());
         final int queryZ = (int) Math.signum(queryVec.z());
+        // Faces only depend on the bounding box and the movement direction
+        AtomicReferenceArray<Vec[]> cachedFaces = FACES_CACHE.get(boundingBox);
+        if (cachedFaces == null) {
+            if (FACES_CACHE.size() >= FACES_CACHE_SIZE) FACES_CACHE.clear();
+            cachedFaces = FACES_CACHE.computeIfAbsent(boundingBox, k -> new AtomicReferenceArray<>(27));
+        }
+        final int directionIndex = (queryX + 1) * 9 + (queryY + 1) * 3 + (queryZ + 1);
+        Vec[] faces = cachedFaces.get(directionIndex);
+        if (faces == null) {
+            faces = computeFaces(queryX, queryY, queryZ, boundingBox);
+            cachedFaces.set(directionIndex, faces);
+        }
+        return faces;
+    }
+
+    private static Vec[] computeFaces(int queryX, int queryY, int queryZ, BoundingBox boundingBox) {
 
         final int ceilWidth = (int) Math.ceil(boundingBox.width());
         final int ceilHeight = (int) Math.ceil(boundingBox.height());
@@ -0,0 +1,183 @@
+package net.minestom.server.collision;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed collision data of every block state, stored in flat primitive arrays.
+ * <p>
+ * Block states sharing the same collision shape (e.g. all stairs facing north) point to the same shape index,
+ * which stores the shape flags and its boxes as {@code minX, minY, minZ, maxX, maxY, maxZ} sequences.
+ * Sweeping against the table does not allocate.
+ */
+final class BlockCollisionTable {
+    static final int EMPTY = 1;
+    static final int FULL_CUBE = 1 << 1;
+    /**
+     * Shape height is lower than half a block, the block below may need to be checked.
+     */
+    static final int SHORT = 1 << 2;
+    /**
+     * Shape height is higher than a full block (fences, walls).
+     */
+    static final int TALL = 1 << 3;
+
+    private static final int BOX_STRIDE = 6;
+
+    // State id -> shape index
+    private static final int[] STATE_SHAPES;
+    // Shape index -> data
+    private static final Shape[] SHAPES;
+    private static final byte[] SHAPE_FLAGS;
+    private static final int[] SHAPE_BOX_OFFSETS;
+    private static final double[] BOXES;
+
+    static {
+        int maxStateId = 0;
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+        int[] stateShapes = new int[maxStateId + 1];
+        Arrays.fill(stateShapes, -1);
+        Reference2IntOpenHashMap<Shape> shapeIndexes = new Reference2IntOpenHashMap<>();
+        shapeIndexes.defaultReturnValue(-1);
+        List<Shape> shapes = new ArrayList<>();
+        for (Block block : Block.values()) {
+            for (Block state : block.possibleStates()) {
+                final Shape shape = state.registry().collisionShape();
+                // Custom shapes are handled by the slow path
+                if (!(shape instanceof ShapeImpl)) continue;
+                int index = shapeIndexes.getInt(shape);
+                if (index == -1) {
+                    index = shapes.size();
+                    shapes.add(shape);
+                    shapeIndexes.put(shape, index);
+                }
+                stateShapes[state.stateId()] = index;
+            }
+        }
+
+        final int shapeCount = shapes.size();
+        Shape[] shapeArray = shapes.toArray(Shape[]::new);
+        byte[] flags = new byte[shapeCount];
+        int[] offsets = new int[shapeCount + 1];
+        int boxCount = 0;
+        for (int i = 0; i < shapeCount; i++) {
+            offsets[i] = boxCount;
+            boxCount += boxes(shapeArray[i]).size();
+        }
+        offsets[shapeCount] = boxCount;
+        double[] boxes = new double[boxCount * BOX_STRIDE];
+        for (int i = 0; i < shapeCount; i++) {
+            final Shape shape = shapeArray[i];
+            flags[i] = computeFlags(shape);
+            int offset = offsets[i] * BOX_STRIDE;
+            for (BoundingBox box : boxes(shape)) {
+                boxes[offset++] = box.minX();
+                boxes[offset++] = box.minY();
+                boxes[offset++] = box.minZ();
+                boxes[offset++] = box.maxX();
+                boxes[offset++] = box.maxY();
+                boxes[offset++] = box.maxZ();
+            }
+        }
+
+        STATE_SHAPES = stateShapes;
+        SHAPES = shapeArray;
+        SHAPE_FLAGS = flags;
+        SHAPE_BOX_OFFSETS = offsets;
+        BOXES = boxes;
+    }
+
+    private BlockCollisionTable() {
+    }
+
+    /**
+     * Gets the collision flags of a block.
+     *
+     * @param block the block to retrieve the flags from
+     * @return the block flags, a combination of {@link #EMPTY}, {@link #FULL_CUBE}, {@link #SHORT} and {@link #TALL}
+     */
+    static int flags(@NotNull Block block) {
+        final int index = shapeIndex(block);
+        return index != -1 ? SHAPE_FLAGS[index] : computeFlags(block.registry().collisionShape());
+    }
+
+    /**
+     * Sweeps a moving bounding box against the collision shape of the block at the given position.
+     * <p>
+     * Equivalent to {@link Shape#intersectBoxSwept(net.minestom.server.coordinate.Point, net.minestom.server.coordinate.Point,
+     * net.minestom.server.coordinate.Point, BoundingBox, SweepResult)} without allocation.
+     *
+     * @return true if a collision closer than {@link SweepResult#res} has been found
+     */
+    static boolean sweep(@NotNull Block block, int blockX, int blockY, int blockZ,
+                         @NotNull Pos rayStart, @NotNull Vec rayDirection,
+                         @NotNull BoundingBox moving, @NotNull SweepResult finalResult) {
+        final int index = shapeIndex(block);
+        if (index == -1) {
+            // Unknown shape, use the slow path
+            return block.registry().collisionShape().intersectBoxSwept(rayStart, rayDirection,
+                    new Vec(blockX, blockY, blockZ), moving, finalResult);
+        }
+        final double startX = rayStart.x(), startY = rayStart.y(), startZ = rayStart.z();
+        final double directionX = rayDirection.x(), directionY = rayDirection.y(), directionZ = rayDirection.z();
+        final double[] boxes = BOXES;
+        final int end = SHAPE_BOX_OFFSETS[index + 1] * BOX_STRIDE;
+        boolean hitBlock = false;
+        for (int offset = SHAPE_BOX_OFFSETS[index] * BOX_STRIDE; offset < end; offset += BOX_STRIDE) {
+            if (RayUtils.BoundingBoxIntersectionCheck(moving,
+                    startX, startY, startZ, directionX, directionY, directionZ,
+                    boxes[offset], boxes[offset + 1], boxes[offset + 2],
+                    boxes[offset + 3], boxes[offset + 4], boxes[offset + 5],
+                    blockX, blockY, blockZ, finalResult)) {
+                finalResult.collidedPositionX = startX + directionX * finalResult.res;
+                finalResult.collidedPositionY = startY + directionY * finalResult.res;
+                finalResult.collidedPositionZ = startZ + directionZ * finalResult.res;
+                finalResult.collidedShapeX = blockX;
+                finalResult.collidedShapeY = blockY;
+                finalResult.collidedShapeZ = blockZ;
+                finalResult.collidedShape = SHAPES[index];
+                hitBlock = true;
+            }
+        }
+        return hitBlock;
+    }
+
+    private static int shapeIndex(Block block) {
+        final int stateId = block.stateId();
+        final int[] stateShapes = STATE_SHAPES;
+        if (stateId < 0 || stateId >= stateShapes.length) return -1;
+        final int index = stateShapes[stateId];
+        // Ensure that the block registry has not been replaced
+        if (index == -1 || SHAPES[index] != block.registry().collisionShape()) return -1;
+        return index;
+    }
+
+    private static byte computeFlags(Shape shape) {
+        final var relativeStart = shape.relativeStart();
+        final var relativeEnd = shape.relativeEnd();
+        byte flags = 0;
+        if (relativeEnd.isZero()) flags |= EMPTY;
+        if (relativeEnd.y() < 0.5) flags |= SHORT;
+        if (relativeEnd.y() > 1) flags |= TALL;
+        if (shape instanceof ShapeImpl && boxes(shape).size() == 1 && relativeStart.isZero() &&
+                relativeEnd.x() == 1 && relativeEnd.y() == 1 && relativeEnd.z() == 1) {
+            flags |= FULL_CUBE;
+        }
+        return flags;
+    }
+
+    private static List<BoundingBox> boxes(Shape shape) {
+        return shape instanceof ShapeImpl shapeImpl ? shapeImpl.collisionBoundingBoxes() : List.of();
+    }
+}
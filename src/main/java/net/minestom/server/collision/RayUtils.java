@@ -15,19 +15,47 @@ final class RayUtils {
      * @return true if an intersection between the ray and the bounding box was found
      */
     public static boolean BoundingBoxIntersectionCheck(BoundingBox moving, Point rayStart, Point rayDirection, BoundingBox collidableStatic, Point staticCollidableOffset, SweepResult finalResult) {
-        Point bbCentre = new Vec(moving.minX() + moving.width() / 2, moving.minY() + moving.height() / 2, moving.minZ() + moving.depth() / 2);
-        Point rayCentre = rayStart.add(bbCentre);
+        return BoundingBoxIntersectionCheck(moving,
+                rayStart.x(), rayStart.y(), rayStart.z(),
+                rayDirection.x(), rayDirection.y(), rayDirection.z(),
+                collidableStatic.minX(), collidableStatic.minY(), collidableStatic.minZ(),
+                collidableStatic.maxX(), collidableStatic.maxY(), collidableStatic.maxZ(),
+                staticCollidableOffset.x(), staticCollidableOffset.y(), staticCollidableOffset.z(),
+                finalResult);
+    }
+
+    /**
+     * Allocation-free variant of {@link #BoundingBoxIntersectionCheck(BoundingBox, Point, Point, BoundingBox, Point, SweepResult)}
+     * taking the static bounding box as primitives.
+     */
+    static boolean BoundingBoxIntersectionCheck(BoundingBox moving,
+                                                double rayStartX, double rayStartY, double rayStartZ,
+                                                double rayDirectionX, double rayDirectionY, double rayDirectionZ,
+                                                double staticMinX, double staticMinY, double staticMinZ,
+                                                double staticMaxX, double staticMaxY, double staticMaxZ,
+                                                double offsetX, double offsetY, double offsetZ,
+                                                SweepResult finalResult) {
+        final double halfWidth = moving.width() / 2;
+        final double halfHeight = moving.height() / 2;
+        final double halfDepth = moving.depth() / 2;
+        final double rayCentreX = rayStartX + (moving.minX() + halfWidth);
+        final double rayCentreY = rayStartY + (moving.minY() + halfHeight);
+        final double rayCentreZ = rayStartZ + (moving.minZ() + halfDepth);
 
         // Translate bounding box
-        Vec bbOffMin = new Vec(collidableStatic.minX() - rayCentre.x() + staticCollidableOffset.x() - moving.width() / 2, collidableStatic.minY() - rayCentre.y() + staticCollidableOffset.y() - moving.height() / 2, collidableStatic.minZ() - rayCentre.z() + staticCollidableOffset.z() - moving.depth() / 2);
-        Vec bbOffMax = new Vec(collidableStatic.maxX() - rayCentre.x() + staticCollidableOffset.x() + moving.width() / 2, collidableStatic.maxY() - rayCentre.y() + staticCollidableOffset.y() + moving.height() / 2, collidableStatic.maxZ() - rayCentre.z() + staticCollidableOffset.z() + moving.depth() / 2);
+        final double bbOffMinX = staticMinX - rayCentreX + offsetX - halfWidth;
+        final double bbOffMinY = staticMinY - rayCentreY + offsetY - halfHeight;
+        final double bbOffMinZ = staticMinZ - rayCentreZ + offsetZ - halfDepth;
+        final double bbOffMaxX = staticMaxX - rayCentreX + offsetX + halfWidth;
+        final double bbOffMaxY = staticMaxY - rayCentreY + offsetY + halfHeight;
+        final double bbOffMaxZ = staticMaxZ - rayCentreZ + offsetZ + halfDepth;
 
         // This check is done in 2d. it can be visualised as a rectangle (the face we are checking), and a point.
         // If the point is within the rectangle, we know the vector intersects the face.
 
-        double signumRayX = Math.signum(rayDirection.x());
-        double signumRayY = Math.signum(rayDirection.y());
-        double signumRayZ = Math.signum(rayDirection.z());
+        double signumRayX = Math.signum(rayDirectionX);
+        double signumRayY = Math.signum(rayDirectionY);
+        double signumRayZ = Math.signum(rayDirectionZ);
 
         boolean isHit = false;
         double percentage = Double.MAX_VALUE;
@@ -35,19 +63,19 @@ final class RayUtils {
 
         // Intersect X
         // Left side of bounding box
-        if (rayDirection.x() > 0) {
-            double xFac = epsilon(bbOffMin.x() / rayDirection.x());
+        if (rayDirectionX > 0) {
+            double xFac = epsilon(bbOffMinX / rayDirectionX);
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
+                double yix = rayDirectionY * xFac + rayCentreY;
+                double zix = rayDirectionZ * xFac + rayCentreZ;
 
                 // Check if ray passes through y/z plane
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
-                        && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
-                        && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && zix <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
+                        && yix >= staticMinY + offsetY - halfHeight
+                        && yix <= staticMaxY + offsetY + halfHeight
+                        && zix >= staticMinZ + offsetZ - halfDepth
+                        && zix <= staticMaxZ + offsetZ + halfDepth) {
                     isHit = true;
                     percentage = xFac;
                     collisionFace = 0;
@@ -55,18 +83,18 @@ final class RayUtils {
             }
         }
         // Right side of bounding box
-        if (rayDirection.x() < 0) {
-            double xFac = epsilon(bbOffMax.x() / rayDirection.x());
+        if (rayDirectionX < 0) {
+            double xFac = epsilon(bbOffMaxX / rayDirectionX);
             if (xFac < percentage) {
-                double yix = rayDirection.y() * xFac + rayCentre.y();
-                double zix = rayDirection.z() * xFac + rayCentre.z();
-
-                if (((yix - rayCentre.y()) * signumRayY) >= 0
-                        && ((zix - rayCentre.z()) * signumRayZ) >= 0
-                        && yix >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yix <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2
-                        && zix >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && zix <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double yix = rayDirectionY * xFac + rayCentreY;
+                double zix = rayDirectionZ * xFac + rayCentreZ;
+
+                if (((yix - rayCentreY) * signumRayY) >= 0
+                        && ((zix - rayCentreZ) * signumRayZ) >= 0
+                        && yix >= staticMinY + offsetY - halfHeight
+                        && yix <= staticMaxY + offsetY + halfHeight
+                        && zix >= staticMinZ + offsetZ - halfDepth
+                        && zix <= staticMaxZ + offsetZ + halfDepth) {
                     isHit = true;
                     percentage = xFac;
                     collisionFace = 0;
@@ -75,36 +103,36 @@ final class RayUtils {
         }
 
         // Intersect Z
-        if (rayDirection.z() > 0) {
-            double zFac = epsilon(bbOffMin.z() / rayDirection.z());
+        if (rayDirectionZ > 0) {
+            double zFac = epsilon(bbOffMinZ / rayDirectionZ);
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
-
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
-                        && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yiz <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2) {
+                double xiz = rayDirectionX * zFac + rayCentreX;
+                double yiz = rayDirectionY * zFac + rayCentreY;
+
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
+                        && xiz >= staticMinX + offsetX - halfWidth
+                        && xiz <= staticMaxX + offsetX + halfWidth
+                        && yiz >= staticMinY + offsetY - halfHeight
+                        && yiz <= staticMaxY + offsetY + halfHeight) {
                     isHit = true;
                     percentage = zFac;
                     collisionFace = 1;
                 }
             }
         }
-        if (rayDirection.z() < 0) {
-            double zFac = epsilon(bbOffMax.z() / rayDirection.z());
+        if (rayDirectionZ < 0) {
+            double zFac = epsilon(bbOffMaxZ / rayDirectionZ);
             if (zFac < percentage) {
-                double xiz = rayDirection.x() * zFac + rayCentre.x();
-                double yiz = rayDirection.y() * zFac + rayCentre.y();
-
-                if (((yiz - rayCentre.y()) * signumRayY) >= 0
-                        && ((xiz - rayCentre.x()) * signumRayX) >= 0
-                        && xiz >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiz <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && yiz >= collidableStatic.minY() + staticCollidableOffset.y() - moving.height() / 2
-                        && yiz <= collidableStatic.maxY() + staticCollidableOffset.y() + moving.height() / 2) {
+                double xiz = rayDirectionX * zFac + rayCentreX;
+                double yiz = rayDirectionY * zFac + rayCentreY;
+
+                if (((yiz - rayCentreY) * signumRayY) >= 0
+                        && ((xiz - rayCentreX) * signumRayX) >= 0
+                        && xiz >= staticMinX + offsetX - halfWidth
+                        && xiz <= staticMaxX + offsetX + halfWidth
+                        && yiz >= staticMinY + offsetY - halfHeight
+                        && yiz <= staticMaxY + offsetY + halfHeight) {
                     isHit = true;
                     percentage = zFac;
                     collisionFace = 1;
@@ -113,18 +141,18 @@ final class RayUtils {
         }
 
         // Intersect Y
-        if (rayDirection.y() > 0) {
-            double yFac = epsilon(bbOffMin.y() / rayDirection.y());
+        if (rayDirectionY > 0) {
+            double yFac = epsilon(bbOffMinY / rayDirectionY);
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
-
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
-                        && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && ziy <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double xiy = rayDirectionX * yFac + rayCentreX;
+                double ziy = rayDirectionZ * yFac + rayCentreZ;
+
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
+                        && xiy >= staticMinX + offsetX - halfWidth
+                        && xiy <= staticMaxX + offsetX + halfWidth
+                        && ziy >= staticMinZ + offsetZ - halfDepth
+                        && ziy <= staticMaxZ + offsetZ + halfDepth) {
                     isHit = true;
                     percentage = yFac;
                     collisionFace = 2;
@@ -132,18 +160,18 @@ final class RayUtils {
             }
         }
 
-        if (rayDirection.y() < 0) {
-            double yFac = epsilon(bbOffMax.y() / rayDirection.y());
+        if (rayDirectionY < 0) {
+            double yFac = epsilon(bbOffMaxY / rayDirectionY);
             if (yFac < percentage) {
-                double xiy = rayDirection.x() * yFac + rayCentre.x();
-                double ziy = rayDirection.z() * yFac + rayCentre.z();
-
-                if (((ziy - rayCentre.z()) * signumRayZ) >= 0
-                        && ((xiy - rayCentre.x()) * signumRayX) >= 0
-                        && xiy >= collidableStatic.minX() + staticCollidableOffset.x() - moving.width() / 2
-                        && xiy <= collidableStatic.maxX() + staticCollidableOffset.x() + moving.width() / 2
-                        && ziy >= collidableStatic.minZ() + staticCollidableOffset.z() - moving.depth() / 2
-                        && ziy <= collidableStatic.maxZ() + staticCollidableOffset.z() + moving.depth() / 2) {
+                double xiy = rayDirectionX * yFac + rayCentreX;
+                double ziy = rayDirectionZ * yFac + rayCentreZ;
+
+                if (((ziy - rayCentreZ) * signumRayZ) >= 0
+                        && ((xiy - rayCentreX) * signumRayX) >= 0
+                        && xiy >= staticMinX + offsetX - halfWidth
+                        && xiy <= staticMaxX + offsetX + halfWidth
+                        && ziy >= staticMinZ + offsetZ - halfDepth
+                        && ziy <= staticMaxZ + offsetZ + halfDepth) {
                     isHit = true;
                     percentage = yFac;
                     collisionFace = 2;
@@ -7,6 +7,9 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
@@ -14,6 +17,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -26,13 +30,13 @@ public final class CommandManager {
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
-    private final CommandParser parser = CommandParser.parser();
     private final CommandDispatcher dispatcher = new CommandDispatcher(this);
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Command> commands = new HashSet<>();
 
     private CommandCallback unknownCommandCallback;
-    private volatile @Nullable Graph cachedGraph;
+    private volatile @Nullable Function<@NotNull Player, @Nullable Object> visibilityProfileProvider;
+    private volatile @Nullable CompiledGraph cachedGraph;
 
     public CommandManager() {
     }
@@ -179,6 +183,30 @@ public final class CommandManager {
         return consoleSender;
     }
 
+    /**
+     * Gets the function providing the command visibility profile of players.
+     *
+     * @return the visibility profile provider, null if not any
+     * @see #setVisibilityProfileProvider(Function)
+     */
+    public @Nullable Function<@NotNull Player, @Nullable Object> getVisibilityProfileProvider() {
+        return visibilityProfileProvider;
+    }
+
+    /**
+     * Sets the function providing the command visibility profile of players.
+     * <p>
+     * Players with equal profiles (e.g. the same permission group) must be allowed to see the same commands,
+     * their commands packet is then created once and shared until the registered commands change.
+     * A null profile means that the packet is created specifically for the player.
+     *
+     * @param visibilityProfileProvider the visibility profile provider, null to create the packet for each player
+     */
+    public void setVisibilityProfileProvider(@Nullable Function<@NotNull Player, @Nullable Object> visibilityProfileProvider) {
+        this.visibilityProfileProvider = visibilityProfileProvider;
+        invalidateGraphCache();
+    }
+
     /**
      * Gets the {@link DeclareCommandsPacket} for a specific player.
      * <p>
@@ -188,7 +216,23 @@ public final class CommandManager {
      * @return the {@link DeclareCommandsPacket} for {@code player}
      */
     public @NotNull DeclareCommandsPacket createDeclareCommandsPacket(@NotNull Player player) {
-        return GraphConverter.createPacket(getGraph(), player);
+        final SendablePacket packet = declareCommandsPacket(player);
+        return packet instanceof CachedPacket cachedPacket ?
+                (DeclareCommandsPacket) cachedPacket.packet(ConnectionState.PLAY) : (DeclareCommandsPacket) packet;
+    }
+
+    /**
+     * Gets the commands packet for a specific player, shared with the players of the same visibility profile.
+     *
+     * @param player the player to get the commands packet
+     * @return the commands packet for {@code player}
+     * @see #setVisibilityProfileProvider(Function)
+     */
+    public @NotNull SendablePacket declareCommandsPacket(@NotNull Player player) {
+        final Function<Player, Object> provider = this.visibilityProfileProvider;
+        final Object profile = provider != null ? provider.apply(player) : null;
+        if (profile == null) return GraphConverter.createPacket(getGraph(), player);
+        return getCompiledGraph().declareCommandsPacket(profile, player);
     }
 
     public @NotNull Set<@NotNull Command> getCommands() {
@@ -197,21 +241,28 @@ public final class CommandManager {
 
     /**
      * Parses the command based on the registered commands
+     * <p>
+     * Results which do not depend on the sender are cached until the commands change,
+     * and may therefore be returned to multiple callers.
      *
      * @param input commands string without prefix
      * @return the parsing result
      */
     public CommandParser.Result parseCommand(@NotNull CommandSender sender, String input) {
-        return parser.parse(sender, getGraph(), input);
+        return getCompiledGraph().parse(sender, input);
     }
 
     private @NotNull Graph getGraph() {
-        Graph graph = cachedGraph;
+        return getCompiledGraph().graph();
+    }
+
+    private @NotNull CompiledGraph getCompiledGraph() {
+        CompiledGraph graph = cachedGraph;
         if (graph == null) {
             synchronized (this) {
                 graph = cachedGraph;
                 if (graph == null) {
-                    graph = cachedGraph = Graph.merge(getCommands());
+                    graph = cachedGraph = new CompiledGraph(Graph.merge(getCommands()));
                 }
             }
         }
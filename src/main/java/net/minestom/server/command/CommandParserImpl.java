@@ -2,7 +2,14 @@ package net.minestom.server.command;
 
 import net.minestom.server.command.Graph.Node;
 import net.minestom.server.command.builder.*;
-import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.*;
+import net.minestom.server.command.builder.arguments.number.ArgumentDouble;
+import net.minestom.server.command.builder.arguments.number.ArgumentFloat;
+import net.minestom.server.command.builder.arguments.number.ArgumentInteger;
+import net.minestom.server.command.builder.arguments.number.ArgumentLong;
+import net.minestom.server.command.builder.arguments.relative.ArgumentRelativeBlockPosition;
+import net.minestom.server.command.builder.arguments.relative.ArgumentRelativeVec2;
+import net.minestom.server.command.builder.arguments.relative.ArgumentRelativeVec3;
 import net.minestom.server.command.builder.condition.CommandCondition;
 import net.minestom.server.command.builder.exception.ArgumentSyntaxException;
 import net.minestom.server.command.builder.suggestion.Suggestion;
@@ -13,10 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -67,7 +71,7 @@ final class CommandParserImpl implements CommandParser {
         }
 
         List<Argument<?>> getArgs() {
-            return nodeResults.stream().map(x -> x.node.argument()).collect(Collectors.toList());
+            return nodeResults.stream().<Argument<?>>map(x -> x.node.argument()).toList();
         }
 
         int size() {
@@ -95,11 +99,21 @@ final class CommandParserImpl implements CommandParser {
 
     @Override
     public @NotNull CommandParser.Result parse(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull String input) {
-        final CommandStringReader reader = new CommandStringReader(input);
+        return parse(sender, graph, new CommandStringReader(input), node -> null);
+    }
+
+    /**
+     * Parses the command, using the compiled dispatch of the nodes when available.
+     *
+     * @param dispatches the dispatch of each node, null to try every child of the node
+     */
+    @NotNull CommandParser.Result parse(@NotNull CommandSender sender, @NotNull Graph graph, @NotNull CommandStringReader reader,
+                                        @NotNull Function<Node, CompiledGraph.Dispatch> dispatches) {
+        final String input = reader.input;
         Chain chain = new Chain();
         Node parent = graph.root();
 
-        NodeResult result = parseNode(sender, parent, chain, reader);
+        NodeResult result = parseNode(sender, parent, chain, reader, dispatches);
         chain = result.chain;
 
         NodeResult lastNodeResult = chain.nodeResults.peekLast();
@@ -126,7 +140,8 @@ final class CommandParserImpl implements CommandParser {
         return obj == null ? null : getter.apply(obj);
     }
 
-    private static NodeResult parseNode(@NotNull CommandSender sender, Node node, Chain chain, CommandStringReader reader) {
+    private static NodeResult parseNode(@NotNull CommandSender sender, Node node, Chain chain, CommandStringReader reader,
+                                        Function<Node, CompiledGraph.Dispatch> dispatches) {
         chain = chain.fork();
         Argument<?> argument = node.argument();
         int start = reader.cursor();
@@ -149,6 +164,7 @@ final class CommandParserImpl implements CommandParser {
             // Nothing left, yet we're still being asked to parse? There must be defaults then
             Function<CommandSender, ?> defaultSupplier = node.argument().getDefaultValue();
             if (defaultSupplier != null) {
+                reader.cacheable = false;
                 Object value = defaultSupplier.apply(sender);
                 ArgumentResult<Object> argumentResult = new ArgumentResult.Success<>(value, "");
                 chain.append(new NodeResult(node, chain, argumentResult, argument.getSuggestionCallback()));
@@ -168,21 +184,49 @@ final class CommandParserImpl implements CommandParser {
         if (!reader.hasRemaining()) start--; // This is needed otherwise the reader throws an AssertionError
 
         NodeResult error = null;
-        for (Node child : node.next()) {
-            NodeResult childResult = parseNode(sender, child, chain, reader);
-            if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
-                // Assume that there is only one successful node for a given chain of arguments
-                return childResult;
-            } else {
-                if (error == null || error.chain.size() < childResult.chain.size()) {
-                    // If this is the base argument (e.g. "teleport" in /teleport) then
-                    // do not report an argument to be incompatible, since the more
-                    // correct thing would be to say that the command is unknown.
-                    if (!(childResult.chain.size() == 2 && childResult.argumentResult instanceof ArgumentResult.IncompatibleType<?>)) {
-                        error = childResult;
-                    }
+        final List<Node> children = node.next();
+        final CompiledGraph.Dispatch dispatch = reader.hasRemaining() ? dispatches.apply(node) : null;
+        if (dispatch == null) {
+            for (Node child : children) {
+                NodeResult childResult = parseNode(sender, child, chain, reader, dispatches);
+                if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
+                    // Assume that there is only one successful node for a given chain of arguments
+                    return childResult;
+                } else {
+                    error = childError(error, childResult);
+                    reader.cursor(start);
+                }
+            }
+        } else {
+            // Only visit the fixed word children matching the next word, the others would fail to parse.
+            // Children are still visited in order, so that the reported error stays the same.
+            final int[] matching = dispatch.matching(reader.peekWord());
+            final int[] others = dispatch.otherIndexes();
+            // A failing word child is only reported if it is the first child to be visited,
+            // any prior failure would have a chain at least as long. Ignored for command names (see #childError).
+            int failing = chain.size() + 1 > 2 ? firstFailingWord(dispatch.wordIndexes(), matching) : -1;
+            int matchingIndex = 0, othersIndex = 0;
+            while (true) {
+                final int nextMatching = matchingIndex < matching.length ? matching[matchingIndex] : Integer.MAX_VALUE;
+                final int nextOther = othersIndex < others.length ? others[othersIndex] : Integer.MAX_VALUE;
+                int index = Math.min(nextMatching, nextOther);
+                if (failing != -1 && failing < index) {
+                    index = failing;
+                } else if (index == Integer.MAX_VALUE) {
+                    break;
+                } else if (index == nextMatching) {
+                    matchingIndex++;
+                } else {
+                    othersIndex++;
+                }
+                failing = -1;
+                NodeResult childResult = parseNode(sender, children.get(index), chain, reader, dispatches);
+                if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
+                    return childResult;
+                } else {
+                    error = childError(error, childResult);
+                    reader.cursor(start);
                 }
-                reader.cursor(start);
             }
         }
         // None were successful. Either incompatible types, or syntax error. It doesn't matter to us, though
@@ -227,6 +271,32 @@ final class CommandParserImpl implements CommandParser {
         return chain.nodeResults.peekLast();
     }
 
+    private static NodeResult childError(NodeResult error, NodeResult childResult) {
+        if (error == null || error.chain.size() < childResult.chain.size()) {
+            // If this is the base argument (e.g. "teleport" in /teleport) then
+            // do not report an argument to be incompatible, since the more
+            // correct thing would be to say that the command is unknown.
+            if (!(childResult.chain.size() == 2 && childResult.argumentResult instanceof ArgumentResult.IncompatibleType<?>)) {
+                return childResult;
+            }
+        }
+        return error;
+    }
+
+    private static int firstFailingWord(int[] wordIndexes, int[] matching) {
+        for (int index : wordIndexes) {
+            boolean matches = false;
+            for (int match : matching) {
+                if (match == index) {
+                    matches = true;
+                    break;
+                }
+            }
+            if (!matches) return index;
+        }
+        return -1;
+    }
+
     record UnknownCommandResult() implements Result.UnknownCommand {
         private static final Result INSTANCE = new UnknownCommandResult();
 
@@ -387,6 +457,8 @@ final class CommandParserImpl implements CommandParser {
     static final class CommandStringReader {
         private final String input;
         private int cursor = 0;
+        // Whether the parsing result does not depend on the sender
+        private boolean cacheable = true;
 
         CommandStringReader(String input) {
             this.input = input;
@@ -410,6 +482,12 @@ final class CommandParserImpl implements CommandParser {
             return read;
         }
 
+        String peekWord() {
+            final String input = this.input;
+            final int i = input.indexOf(' ', cursor);
+            return i == -1 ? input.substring(cursor) : input.substring(cursor, i);
+        }
+
         String readRemaining() {
             final String input = this.input;
             final String result = input.substring(cursor);
@@ -425,11 +503,25 @@ final class CommandParserImpl implements CommandParser {
             assert cursor >= 0 && cursor <= input.length();
             this.cursor = cursor;
         }
+
+        boolean cacheable() {
+            return cacheable;
+        }
     }
 
     // ARGUMENT
 
+    /**
+     * Arguments whose parsing does not depend on the sender, and whose values are immutable.
+     * Subclasses and mapped arguments are excluded.
+     */
+    private static final Set<Class<?>> CACHEABLE_ARGUMENTS = Set.of(
+            ArgumentLiteral.class, ArgumentWord.class, ArgumentString.class, ArgumentBoolean.class,
+            ArgumentInteger.class, ArgumentLong.class, ArgumentFloat.class, ArgumentDouble.class,
+            ArgumentRelativeVec2.class, ArgumentRelativeVec3.class, ArgumentRelativeBlockPosition.class);
+
     private static <T> ArgumentResult<T> parseArgument(@NotNull CommandSender sender, Argument<T> argument, CommandStringReader reader) {
+        if (!CACHEABLE_ARGUMENTS.contains(argument.getClass())) reader.cacheable = false;
         // Handle specific type without loop
         try {
             // Single word argument
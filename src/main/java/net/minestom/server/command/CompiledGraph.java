@@ -0,0 +1,156 @@
+package net.minestom.server.command;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.command.Graph.Node;
+import net.minestom.server.command.builder.arguments.Argument;
+import net.minestom.server.command.builder.arguments.ArgumentLiteral;
+import net.minestom.server.command.builder.arguments.ArgumentWord;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.CachedPacket;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Graph} prepared for repeated parsing and packet creation.
+ * <p>
+ * Every node gets a {@link Dispatch} indexing its literal children by word, allowing the parser to skip
+ * the children which cannot match the input. Parse results which do not depend on the sender
+ * are kept in a least recently used cache, repeated commands and tab completions are then resolved without parsing.
+ * <p>
+ * Commands packets are cached by visibility profile, see {@link CommandManager#setVisibilityProfileProvider(Function)}.
+ */
+final class CompiledGraph {
+    private final Graph graph;
+    private final Map<Node, Dispatch> dispatches = new IdentityHashMap<>();
+    private final int cacheSize;
+    private final Map<CacheKey, CommandParser.Result> results;
+    private final Map<Object, CachedPacket> declareCommandsPackets = new ConcurrentHashMap<>();
+
+    CompiledGraph(@NotNull Graph graph, int cacheSize) {
+        this.graph = graph;
+        this.cacheSize = cacheSize;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CommandParser.Result> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        compile(graph.root());
+    }
+
+    CompiledGraph(@NotNull Graph graph) {
+        this(graph, ServerFlag.COMMAND_PARSE_CACHE_SIZE);
+    }
+
+    @NotNull Graph graph() {
+        return graph;
+    }
+
+    /**
+     * Parses the command, reusing the result of a previous parse with the same input and sender type if possible.
+     *
+     * @param sender the command sender
+     * @param input  command string without prefix
+     * @return the parsed command, may be shared with other callers
+     */
+    @NotNull CommandParser.Result parse(@NotNull CommandSender sender, @NotNull String input) {
+        final CacheKey key = cacheSize > 0 ? new CacheKey(sender != null ? sender.getClass() : null, input) : null;
+        if (key != null) {
+            final CommandParser.Result result;
+            synchronized (results) {
+                result = results.get(key);
+            }
+            if (result != null) return result;
+        }
+        final CommandParserImpl.CommandStringReader reader = new CommandParserImpl.CommandStringReader(input);
+        final CommandParser.Result result = CommandParserImpl.PARSER.parse(sender, graph, reader, this::dispatch);
+        if (key != null && reader.cacheable()) {
+            synchronized (results) {
+                results.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the commands packet shared by every player of a visibility profile.
+     *
+     * @param profile the visibility profile of the player
+     * @param player  the player used to evaluate the command conditions if the packet is not cached yet
+     * @return the cached commands packet
+     */
+    @NotNull CachedPacket declareCommandsPacket(@NotNull Object profile, @NotNull Player player) {
+        return declareCommandsPackets.computeIfAbsent(profile,
+                p -> new CachedPacket(GraphConverter.createPacket(graph, player)));
+    }
+
+    @Nullable Dispatch dispatch(@NotNull Node node) {
+        return dispatches.get(node);
+    }
+
+    private void compile(Node node) {
+        if (dispatches.containsKey(node)) return;
+        final List<Node> next = node.next();
+        dispatches.put(node, Dispatch.of(next));
+        for (Node child : next) compile(child);
+    }
+
+    private record CacheKey(Class<?> senderType, String input) {
+    }
+
+    /**
+     * Index of the children accepting a single fixed word (literals and restricted words).
+     * <p>
+     * Indexes refer to {@link Node#next()}, and are stored in ascending order.
+     *
+     * @param words        the indexes of the children accepting each word
+     * @param wordIndexes  the indexes of all the children accepting a fixed word
+     * @param otherIndexes the indexes of the remaining children
+     */
+    record Dispatch(Map<String, int[]> words, int[] wordIndexes, int[] otherIndexes) {
+        static final int[] NO_INDEXES = new int[0];
+
+        static Dispatch of(List<Node> next) {
+            Map<String, IntArrayList> words = new HashMap<>();
+            IntArrayList wordIndexes = new IntArrayList();
+            IntArrayList otherIndexes = new IntArrayList();
+            for (int i = 0; i < next.size(); i++) {
+                final String[] accepted = acceptedWords(next.get(i).argument());
+                if (accepted == null) {
+                    otherIndexes.add(i);
+                    continue;
+                }
+                wordIndexes.add(i);
+                for (String word : accepted) {
+                    final IntArrayList indexes = words.computeIfAbsent(word, w -> new IntArrayList());
+                    if (indexes.isEmpty() || indexes.getInt(indexes.size() - 1) != i) indexes.add(i);
+                }
+            }
+            Map<String, int[]> wordMap = new HashMap<>(words.size());
+            words.forEach((word, indexes) -> wordMap.put(word, indexes.toIntArray()));
+            return new Dispatch(wordMap, wordIndexes.toIntArray(), otherIndexes.toIntArray());
+        }
+
+        int[] matching(String word) {
+            return words.getOrDefault(word, NO_INDEXES);
+        }
+
+        /**
+         * Gets the words accepted by an argument, if it can only accept a fixed set of single words.
+         * Subclasses are ignored as they may override the parsing logic.
+         */
+        private static String @Nullable [] acceptedWords(Argument<?> argument) {
+            if (argument.getDefaultValue() != null) return null;
+            if (argument.getClass() == ArgumentLiteral.class) return new String[]{argument.getId()};
+            if (argument.getClass() == ArgumentWord.class && ((ArgumentWord) argument).hasRestrictions()) {
+                return ((ArgumentWord) argument).getRestrictions().clone();
+            }
+            return null;
+        }
+    }
+}
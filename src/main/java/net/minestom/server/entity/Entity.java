@@ -47,6 +47,7 @@ import net.minestom.server.tag.TagHandler;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.AcquirableSource;
+import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.timer.Schedulable;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.timer.TaskSchedule;
@@ -106,6 +107,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     protected Instance instance;
     protected Chunk currentChunk;
+    // Dispatcher ticking the entity, changes when moving to an instance of another tick group
+    private ThreadDispatcher<Chunk> dispatcher;
     protected Pos position; // Should be updated by setPositionInternal only.
     protected Pos previousPosition;
     protected Pos lastSyncedPosition;
@@ -791,7 +794,14 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     @ApiStatus.Internal
     protected void refreshCurrentChunk(Chunk currentChunk) {
         this.currentChunk = currentChunk;
-        MinecraftServer.process().dispatcher().updateElement(this, currentChunk);
+        final ThreadDispatcher<Chunk> dispatcher = currentChunk.getInstance().dispatcher();
+        final ThreadDispatcher<Chunk> previousDispatcher = this.dispatcher;
+        if (previousDispatcher != null && previousDispatcher != dispatcher) {
+            // Moved to an instance of another tick group
+            previousDispatcher.removeElement(this);
+        }
+        this.dispatcher = dispatcher;
+        dispatcher.updateElement(this, currentChunk);
     }
 
     /**
@@ -1518,7 +1528,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         Set<Entity> leashedEntities = getLeashedEntities();
         leashedEntities.forEach(entity -> entity.setLeashHolder(null));
 
-        MinecraftServer.process().dispatcher().removeElement(this);
+        final ThreadDispatcher<Chunk> dispatcher = this.dispatcher;
+        if (dispatcher != null) dispatcher.removeElement(this);
         this.removed = true;
         if (!permanent) {
             // Reset some state to be ready for re-use
@@ -1,6 +1,8 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrayPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
@@ -28,6 +30,7 @@ import net.minestom.server.advancements.Notification;
 import net.minestom.server.adventure.AdventurePacketConvertor;
 import net.minestom.server.adventure.audience.Audiences;
 import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.command.CommandManager;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.coordinate.*;
@@ -125,6 +128,11 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     // on what it actually does so am holding off on adding API for this until I understand.
     private static final int DEFAULT_SEA_LEVEL = 63;
 
+    // Chunk prefetching, speeds in blocks per tick
+    private static final int PREFETCH_TICKS = 20;
+    private static final double PREFETCH_MIN_SPEED = 0.5;
+    private static final double PREFETCH_MAX_SPEED = 10;
+
     private long lastKeepAlive;
     private boolean answerKeepAlive;
 
@@ -154,13 +162,20 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     private float pendingChunkCount = 0f; // Number of chunks to send on the current tick (ie 0.5 means we cannot send a chunk yet, 1.5 would send a single chunk with a 0.5 remainder)
     private int maxChunkBatchLead = 1; // Maximum number of batches to send before waiting for a reply
     private int chunkBatchLead = 0; // Number of batches sent without a reply
+    // Chunks sent to the client, guarded by chunkQueueLock
+    private final PlayerChunkTracker chunkTracker = new PlayerChunkTracker(ServerFlag.CHUNK_VIEW_DISTANCE);
+    // Movement prediction used to load chunks ahead of fast players
+    private Pos lastTickPosition;
+    private long lastPrefetchChunk = Long.MAX_VALUE;
 
-    final ChunkRange.ChunkConsumer chunkAdder = (chunkX, chunkZ) -> {
-        // Load new chunks
-        this.instance.loadOptionalChunk(chunkX, chunkZ).thenAccept(this::sendChunk);
-    };
     final ChunkRange.ChunkConsumer chunkRemover = (chunkX, chunkZ) -> {
         // Unload old chunks
+        chunkQueueLock.lock();
+        try {
+            chunkTracker.unmarkSent(chunkX, chunkZ);
+        } finally {
+            chunkQueueLock.unlock();
+        }
         sendPacket(new UnloadChunkPacket(chunkX, chunkZ));
         EventDispatcher.call(new PlayerChunkUnloadEvent(this, chunkX, chunkZ));
     };
@@ -201,6 +216,10 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
     private BelowNameTag belowNameTag;
 
+    // Players listed in the tab-list of this player, and players listing this player (guarded by PlayerInfoAggregator)
+    final Set<Player> tabList = new HashSet<>();
+    final Set<Player> tabListViewers = new HashSet<>();
+
     private int permissionLevel;
 
     private boolean reducedDebugScreenInformation;
@@ -320,18 +339,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         PlayerSkinInitEvent skinInitEvent = new PlayerSkinInitEvent(this, profileSkin);
         EventDispatcher.call(skinInitEvent);
         this.skin = skinInitEvent.getSkin();
-        // FIXME: when using Geyser, this line remove the skin of the client
-        PacketSendingUtils.broadcastPlayPacket(getAddPlayerToList());
-
         var connectionManager = MinecraftServer.getConnectionManager();
-        for (var player : connectionManager.getOnlinePlayers()) {
-            if (player != this) {
-                sendPacket(player.getAddPlayerToList());
-                if (player.displayName != null) {
-                    sendPacket(new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME, player.infoEntry()));
-                }
-            }
-        }
+        connectionManager.getPlayerInfoAggregator().join(this, connectionManager.getOnlinePlayers());
 
         //Teams
         for (Team team : MinecraftServer.getTeamManager().getTeams()) {
@@ -385,6 +394,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
         // Send any available queued chunks
         sendPendingChunks();
+        prefetchChunks();
 
         super.update(time); // Super update (item pickup/fire management)
 
@@ -508,8 +518,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         Pos respawnPosition = respawnEvent.getRespawnPosition();
 
         // The client unloads chunks when respawning, so resend all chunks next to spawn
-        ChunkRange.chunksInRange(respawnPosition, settings.effectiveViewDistance(), chunkAdder);
         chunksLoadedByClient = new Vec(respawnPosition.chunkX(), respawnPosition.chunkZ());
+        resetChunkView(respawnPosition.chunkX(), respawnPosition.chunkZ());
         // Client also needs all entities resent to them, since those are unloaded as well
         this.instance.getEntityTracker().nearbyEntitiesByChunkRange(respawnPosition, settings.effectiveViewDistance(),
                 EntityTracker.Target.ENTITIES, entity -> {
@@ -537,9 +547,12 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      * Refreshes the command list for this player. This checks the
      * {@link net.minestom.server.command.builder.condition.CommandCondition}s
      * again, and any changes will be visible to the player.
+     * <p>
+     * Players sharing a visibility profile get the same cached packet,
+     * see {@link CommandManager#setVisibilityProfileProvider(java.util.function.Function)}.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().declareCommandsPacket(this));
     }
 
     /**
@@ -588,7 +601,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         // Clear all viewable chunks
         ChunkRange.chunksInRange(chunkX, chunkZ, settings.effectiveViewDistance(), chunkRemover);
         // Remove from the tab-list
-        PacketSendingUtils.broadcastPlayPacket(getRemovePlayerToList());
+        MinecraftServer.getConnectionManager().getPlayerInfoAggregator().leave(this);
 
         // Prevent the player from being stuck in loading screen, or just unable to interact with the server
         // This should be considered as a bug, since the player will ultimately time out anyway.
@@ -713,6 +726,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         if (dimensionChange) sendDimension(instance.getDimensionType(), instance.getDimensionName());
 
         super.setInstance(instance, spawnPosition);
+        refreshTabList();
 
         if (updateChunks) {
             final int chunkX = spawnPosition.chunkX();
@@ -722,7 +736,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
             sendPacket(new UpdateViewPositionPacket(chunkX, chunkZ));
 
             // Load the nearby chunks and queue them to be sent to them
-            ChunkRange.chunksInRange(spawnPosition, settings.effectiveViewDistance(), chunkAdder);
+            resetChunkView(chunkX, chunkZ);
             sendPendingChunks(); // Send available first chunk immediately to prevent falling through the floor
         }
 
@@ -765,12 +779,127 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         if (!chunk.isLoaded()) return;
         chunkQueueLock.lock();
         try {
+            // Explicit requests are resent even if the client already has the chunk
+            chunkTracker.unmarkSent(chunk.getChunkX(), chunk.getChunkZ());
             chunkQueue.enqueue(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
         } finally {
             chunkQueueLock.unlock();
         }
     }
 
+    /**
+     * Queues the given chunks to be sent to the player.
+     * <p>
+     * Like {@link #sendChunk(Chunk)}, the chunks are resent even if the client already has them.
+     *
+     * @param chunks The chunks to send
+     */
+    public void sendChunks(@NotNull Collection<@NotNull Chunk> chunks) {
+        chunkQueueLock.lock();
+        try {
+            for (Chunk chunk : chunks) {
+                if (!chunk.isLoaded()) continue;
+                chunkTracker.unmarkSent(chunk.getChunkX(), chunk.getChunkZ());
+                chunkQueue.enqueue(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()));
+            }
+        } finally {
+            chunkQueueLock.unlock();
+        }
+    }
+
+    private void updateChunkView(int centerX, int centerZ) {
+        chunkQueueLock.lock();
+        try {
+            chunkTracker.setView(centerX, centerZ, settings.effectiveViewDistance());
+        } finally {
+            chunkQueueLock.unlock();
+        }
+    }
+
+    /**
+     * Queues every chunk in view, the client is expected to have discarded all its chunks.
+     */
+    private void resetChunkView(int centerX, int centerZ) {
+        chunkQueueLock.lock();
+        try {
+            chunkTracker.clear();
+            chunkTracker.setView(centerX, centerZ, settings.effectiveViewDistance());
+        } finally {
+            chunkQueueLock.unlock();
+        }
+        LongArrayList chunks = new LongArrayList(ChunkRange.chunksCount(settings.effectiveViewDistance()));
+        ChunkRange.chunksInRange(centerX, centerZ, settings.effectiveViewDistance(),
+                (chunkX, chunkZ) -> chunks.add(CoordConversion.chunkIndex(chunkX, chunkZ)));
+        queueChunks(chunks);
+    }
+
+    /**
+     * Queues chunks to be sent, loaded chunks are queued immediately while the others are queued once loaded.
+     * <p>
+     * Unlike explicit requests, loaded chunks already sent to the client are skipped.
+     *
+     * @param chunks the indexes of the chunks to queue
+     */
+    private void queueChunks(@NotNull LongList chunks) {
+        if (chunks.isEmpty()) return;
+        final Instance instance = this.instance;
+        List<Chunk> loaded = new ArrayList<>(chunks.size());
+        LongArrayList missing = null;
+        chunkQueueLock.lock();
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                final long chunkIndex = chunks.getLong(i);
+                final int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
+                final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+                if (chunk != null && chunk.isLoaded()) {
+                    if (!chunkTracker.isSent(chunkX, chunkZ)) loaded.add(chunk);
+                } else {
+                    if (missing == null) missing = new LongArrayList();
+                    missing.add(chunkIndex);
+                }
+            }
+        } finally {
+            chunkQueueLock.unlock();
+        }
+        if (!loaded.isEmpty()) sendChunks(loaded);
+        if (missing == null) return;
+        for (int i = 0; i < missing.size(); i++) {
+            final long chunkIndex = missing.getLong(i);
+            instance.loadOptionalChunk(CoordConversion.chunkIndexGetX(chunkIndex), CoordConversion.chunkIndexGetZ(chunkIndex))
+                    .thenAccept(this::sendChunk);
+        }
+    }
+
+    /**
+     * Loads the chunks the player is about to see based on its movement during the last tick,
+     * so that they can be sent without delay once the player enters them.
+     */
+    private void prefetchChunks() {
+        final Pos position = this.position;
+        final Pos previous = this.lastTickPosition;
+        this.lastTickPosition = position;
+        if (previous == null || instance == null) return;
+        final double dx = position.x() - previous.x();
+        final double dz = position.z() - previous.z();
+        final double speedSquared = dx * dx + dz * dz;
+        // Ignore slow players and teleports
+        if (speedSquared < PREFETCH_MIN_SPEED * PREFETCH_MIN_SPEED ||
+                speedSquared > PREFETCH_MAX_SPEED * PREFETCH_MAX_SPEED) return;
+        final int chunkX = (int) chunksLoadedByClient.x();
+        final int chunkZ = (int) chunksLoadedByClient.z();
+        final int predictedX = CoordConversion.globalToChunk(position.x() + dx * PREFETCH_TICKS);
+        final int predictedZ = CoordConversion.globalToChunk(position.z() + dz * PREFETCH_TICKS);
+        if (predictedX == chunkX && predictedZ == chunkZ) return;
+        final long predicted = CoordConversion.chunkIndex(predictedX, predictedZ);
+        if (predicted == lastPrefetchChunk) return;
+        this.lastPrefetchChunk = predicted;
+        final Instance instance = this.instance;
+        ChunkRange.chunksInRangeDiffering(predictedX, predictedZ, chunkX, chunkZ, settings.effectiveViewDistance(),
+                (x, z) -> {
+                    if (instance.getChunk(x, z) == null) instance.loadOptionalChunk(x, z);
+                });
+    }
+
     private void sendPendingChunks() {
         // If we have nothing to send or have sent the max # of batches without reply, do nothing
         if (chunkQueue.isEmpty() || chunkBatchLead >= maxChunkBatchLead) return;
@@ -788,6 +917,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
                 int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
                 var chunk = instance.getChunk(chunkX, chunkZ);
                 if (chunk == null || !chunk.isLoaded()) continue;
+                // Skip chunks which have already been sent
+                if (!chunkTracker.markSent(chunkX, chunkZ)) continue;
 
                 sendPacket(chunk.getFullDataPacket());
                 EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
@@ -1160,7 +1291,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      */
     public void setDisplayName(@Nullable Component displayName) {
         this.displayName = displayName;
-        PacketSendingUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME, infoEntry()));
+        queuePlayerInfo(PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME);
     }
 
     /**
@@ -1204,11 +1335,10 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
         {
             // Remove player
-            PacketSendingUtils.broadcastPlayPacket(removePlayerPacket);
             sendPacketToViewers(destroyEntitiesPacket);
 
             // Show player again
-            PacketSendingUtils.broadcastPlayPacket(addPlayerPacket);
+            MinecraftServer.getConnectionManager().getPlayerInfoAggregator().resend(this);
             getViewers().forEach(player -> showPlayer(player.getPlayerConnection()));
         }
 
@@ -1549,17 +1679,23 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         // Check to see if we're in an instance first, as this method is called when first logging in since the client sends the Settings packet during configuration
         if (instance != null) {
             // Load/unload chunks if necessary due to view distance changes
+            final int centerX = (int) chunksLoadedByClient.x();
+            final int centerZ = (int) chunksLoadedByClient.z();
             if (previousViewDistance < newViewDistance) {
                 // View distance expanded, send chunks
-                ChunkRange.chunksInRange(position.chunkX(), position.chunkZ(), newViewDistance, (chunkX, chunkZ) -> {
-                    if (Math.abs(chunkX - position.chunkX()) > previousViewDistance || Math.abs(chunkZ - position.chunkZ()) > previousViewDistance) {
-                        chunkAdder.accept(chunkX, chunkZ);
+                LongArrayList added = new LongArrayList();
+                ChunkRange.chunksInRange(centerX, centerZ, newViewDistance, (chunkX, chunkZ) -> {
+                    if (Math.abs(chunkX - centerX) > previousViewDistance || Math.abs(chunkZ - centerZ) > previousViewDistance) {
+                        added.add(CoordConversion.chunkIndex(chunkX, chunkZ));
                     }
                 });
+                updateChunkView(centerX, centerZ);
+                queueChunks(added);
             } else if (previousViewDistance > newViewDistance) {
                 // View distance shrunk, unload chunks
-                ChunkRange.chunksInRange(position.chunkX(), position.chunkZ(), previousViewDistance, (chunkX, chunkZ) -> {
-                    if (Math.abs(chunkX - position.chunkX()) > newViewDistance || Math.abs(chunkZ - position.chunkZ()) > newViewDistance) {
+                updateChunkView(centerX, centerZ);
+                ChunkRange.chunksInRange(centerX, centerZ, previousViewDistance, (chunkX, chunkZ) -> {
+                    if (Math.abs(chunkX - centerX) > newViewDistance || Math.abs(chunkZ - centerZ) > newViewDistance) {
                         chunkRemover.accept(chunkX, chunkZ);
                     }
                 });
@@ -1620,7 +1756,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         // Condition to prevent sending the packets before spawning the player
         if (isActive()) {
             sendPacket(new ChangeGameStatePacket(ChangeGameStatePacket.Reason.CHANGE_GAMEMODE, gameMode.ordinal()));
-            PacketSendingUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE, infoEntry()));
+            queuePlayerInfo(PlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE);
         }
 
         // The client updates their abilities based on the GameMode as follows
@@ -2115,7 +2251,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     public void refreshLatency(int latency) {
         this.latency = latency;
         if (getPlayerConnection().getConnectionState() == ConnectionState.PLAY) {
-            PacketSendingUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY, infoEntry()));
+            queuePlayerInfo(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY);
         }
     }
 
@@ -2201,8 +2337,9 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      * @return a {@link PlayerInfoUpdatePacket} to add the player
      */
     protected @NotNull PlayerInfoUpdatePacket getAddPlayerToList() {
-        return new PlayerInfoUpdatePacket(EnumSet.of(PlayerInfoUpdatePacket.Action.ADD_PLAYER, PlayerInfoUpdatePacket.Action.UPDATE_LISTED),
-                List.of(infoEntry()));
+        return new PlayerInfoUpdatePacket(EnumSet.of(PlayerInfoUpdatePacket.Action.ADD_PLAYER, PlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE,
+                PlayerInfoUpdatePacket.Action.UPDATE_LISTED, PlayerInfoUpdatePacket.Action.UPDATE_LATENCY,
+                PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME), List.of(infoEntry(true)));
     }
 
     /**
@@ -2214,13 +2351,45 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         return new PlayerInfoRemovePacket(getUuid());
     }
 
-    private PlayerInfoUpdatePacket.Entry infoEntry() {
+    /**
+     * Queues a tab-list change, sent to all players on the next tick alongside the changes of the other players.
+     *
+     * @param action the changed action
+     */
+    private void queuePlayerInfo(@NotNull PlayerInfoUpdatePacket.Action action) {
+        MinecraftServer.getConnectionManager().getPlayerInfoAggregator().queue(this, action);
+    }
+
+    /**
+     * Evaluates again the {@link TabListScope} for this player, updating the players listed to and by it.
+     * <p>
+     * Automatically called when the player spawns in an instance, has no effect with a global scope.
+     *
+     * @see net.minestom.server.network.ConnectionManager#setTabListScope(TabListScope)
+     */
+    public void refreshTabList() {
+        MinecraftServer.getConnectionManager().getPlayerInfoAggregator().refresh(this);
+    }
+
+    @Override
+    public void updateNewViewer(@NotNull Player player) {
+        MinecraftServer.getConnectionManager().getPlayerInfoAggregator().showEntity(this, player);
+        super.updateNewViewer(player);
+    }
+
+    @Override
+    public void updateOldViewer(@NotNull Player player) {
+        super.updateOldViewer(player);
+        MinecraftServer.getConnectionManager().getPlayerInfoAggregator().hideEntity(this, player);
+    }
+
+    PlayerInfoUpdatePacket.Entry infoEntry(boolean listed) {
         final PlayerSkin skin = this.skin;
         List<PlayerInfoUpdatePacket.Property> prop = skin != null ?
                 List.of(new PlayerInfoUpdatePacket.Property("textures", skin.textures(), skin.signature())) :
                 List.of();
         return new PlayerInfoUpdatePacket.Entry(getUuid(), getUsername(), prop,
-                true, getLatency(), getGameMode(), displayName, null, 0);
+                listed, getLatency(), getGameMode(), displayName, null, 0);
     }
 
     /**
@@ -2299,9 +2468,12 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
             final int newZ = newChunk.getChunkZ();
             final Vec old = chunksLoadedByClient;
             sendPacket(new UpdateViewPositionPacket(newX, newZ));
-            ChunkRange.chunksInRangeDiffering(newX, newZ, (int) old.x(), (int) old.z(),
-                    settings.effectiveViewDistance(), chunkAdder, chunkRemover);
             this.chunksLoadedByClient = new Vec(newX, newZ);
+            updateChunkView(newX, newZ);
+            LongArrayList added = new LongArrayList();
+            ChunkRange.chunksInRangeDiffering(newX, newZ, (int) old.x(), (int) old.z(), settings.effectiveViewDistance(),
+                    (chunkX, chunkZ) -> added.add(CoordConversion.chunkIndex(chunkX, chunkZ)), chunkRemover);
+            queueChunks(added);
         }
     }
 
@@ -0,0 +1,85 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.CoordConversion;
+
+import java.util.Arrays;
+
+/**
+ * Keeps track of the chunks sent to a player client.
+ * <p>
+ * The chunks are stored in a ring buffer of {@code (2 * maxRange + 1)²} slots indexed by their coordinates modulo the side,
+ * two chunks within the view range can therefore never share a slot and no rehashing is required when the player moves.
+ * Each slot contains the index of the chunk occupying it, so that stale entries left by chunks outside the range are
+ * overwritten instead of being mistaken for visible chunks.
+ * <p>
+ * Not thread-safe, guarded by the chunk queue lock of the player.
+ */
+final class PlayerChunkTracker {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int side;
+    private final long[] slots;
+
+    private int centerX, centerZ;
+    private int range;
+
+    PlayerChunkTracker(int maxRange) {
+        this.side = maxRange * 2 + 1;
+        this.slots = new long[side * side];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /**
+     * Changes the area visible by the client.
+     *
+     * @param centerX the view center chunk X
+     * @param centerZ the view center chunk Z
+     * @param range   the view distance, clamped to the maximum range
+     */
+    void setView(int centerX, int centerZ, int range) {
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.range = Math.min(range, (side - 1) / 2);
+    }
+
+    boolean isInView(int chunkX, int chunkZ) {
+        return Math.abs(chunkX - centerX) <= range && Math.abs(chunkZ - centerZ) <= range;
+    }
+
+    /**
+     * Marks a chunk as sent, chunks out of view are not tracked.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk should be sent, false if it has already been sent
+     */
+    boolean markSent(int chunkX, int chunkZ) {
+        if (!isInView(chunkX, chunkZ)) return true;
+        final int slot = slot(chunkX, chunkZ);
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        if (slots[slot] == index) return false;
+        // Any other chunk in the slot is necessarily out of view
+        slots[slot] = index;
+        return true;
+    }
+
+    boolean isSent(int chunkX, int chunkZ) {
+        return slots[slot(chunkX, chunkZ)] == CoordConversion.chunkIndex(chunkX, chunkZ);
+    }
+
+    void unmarkSent(int chunkX, int chunkZ) {
+        final int slot = slot(chunkX, chunkZ);
+        if (slots[slot] == CoordConversion.chunkIndex(chunkX, chunkZ)) slots[slot] = EMPTY;
+    }
+
+    /**
+     * Forgets every sent chunk, used when the client discards its chunks (e.g. respawn).
+     */
+    void clear() {
+        Arrays.fill(slots, EMPTY);
+    }
+
+    private int slot(int chunkX, int chunkZ) {
+        return Math.floorMod(chunkZ, side) * side + Math.floorMod(chunkX, side);
+    }
+}
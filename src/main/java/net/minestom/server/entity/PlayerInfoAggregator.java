@@ -0,0 +1,353 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.PlayerInfoRemovePacket;
+import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
+import net.minestom.server.utils.PacketSendingUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Manages the tab-list entries sent to the players.
+ * <p>
+ * Changes are collected from every player to be broadcast once per tick: they are merged per player, and players
+ * sharing the same set of changed actions are sent in a single {@link PlayerInfoUpdatePacket} built from their state
+ * at the time of the flush. Adding a player to the tab-list is not aggregated as clients require it before the
+ * player entity is spawned.
+ * <p>
+ * Unless the {@link TabListScope} is global, the players listed to each player are tracked so that packets are only
+ * sent to the players knowing the entry, the scope is then only evaluated for the refreshed player.
+ * <p>
+ * Players are always added using {@link Player#getAddPlayerToList()}, whichever side joined first.
+ */
+@ApiStatus.Internal
+public final class PlayerInfoAggregator {
+    private static final EnumSet<PlayerInfoUpdatePacket.Action> LISTED_ACTIONS = EnumSet.of(
+            PlayerInfoUpdatePacket.Action.UPDATE_LISTED);
+
+    private final Map<Player, EnumSet<PlayerInfoUpdatePacket.Action>> pending = new LinkedHashMap<>();
+
+    private volatile TabListScope scope = TabListScope.global();
+    // Players who joined, and the members of each group when using a group scope
+    private final Set<Player> players = new HashSet<>();
+    private final Map<Object, Set<Player>> groups = new HashMap<>();
+    private final Map<Player, Object> playerGroups = new HashMap<>();
+
+    public @NotNull TabListScope getScope() {
+        return scope;
+    }
+
+    public synchronized void setScope(@NotNull TabListScope scope) {
+        Check.stateCondition(!players.isEmpty(), "The tab-list scope cannot be changed while players are online");
+        this.scope = scope;
+    }
+
+    synchronized void queue(@NotNull Player player, @NotNull PlayerInfoUpdatePacket.Action action) {
+        pending.computeIfAbsent(player, p -> EnumSet.noneOf(PlayerInfoUpdatePacket.Action.class)).add(action);
+    }
+
+    /**
+     * Adds a player to its own tab-list, and to the tab-list of every player if the scope is global.
+     * <p>
+     * Scoped players are listed to the others once {@link #refresh(Player) refreshed}.
+     *
+     * @param player the joining player
+     * @param online the online players
+     */
+    void join(@NotNull Player player, @NotNull Collection<Player> online) {
+        synchronized (this) {
+            players.add(player);
+        }
+        if (!(scope instanceof TabListScope.Global)) {
+            player.sendPacket(player.getAddPlayerToList());
+            return;
+        }
+        // FIXME: when using Geyser, this line remove the skin of the client
+        PacketSendingUtils.broadcastPlayPacket(player.getAddPlayerToList());
+        // Receive the other players in as few packets as possible
+        List<Player> others = new ArrayList<>(online.size());
+        for (Player other : online) {
+            if (other != player) others.add(other);
+        }
+        sendAddEntries(List.of(player), others, true);
+    }
+
+    /**
+     * Removes a player from every tab-list, discarding its pending changes.
+     *
+     * @param player the leaving player
+     */
+    void leave(@NotNull Player player) {
+        final List<Player> recipients;
+        synchronized (this) {
+            pending.remove(player);
+            if (!players.remove(player)) return;
+            if (scope instanceof TabListScope.Global) {
+                recipients = null;
+            } else {
+                leaveGroup(player);
+                recipients = new ArrayList<>(player.tabListViewers);
+                recipients.add(player);
+                for (Player viewer : player.tabListViewers) viewer.tabList.remove(player);
+                for (Player target : player.tabList) target.tabListViewers.remove(player);
+                player.tabList.clear();
+                player.tabListViewers.clear();
+            }
+        }
+        if (recipients == null) {
+            PacketSendingUtils.broadcastPlayPacket(player.getRemovePlayerToList());
+        } else {
+            PacketSendingUtils.sendGroupedPacket(recipients, player.getRemovePlayerToList());
+        }
+    }
+
+    /**
+     * Evaluates the scope of a player, listing and unlisting the players whose relation with it changed.
+     *
+     * @param player the player to refresh
+     */
+    synchronized void refresh(@NotNull Player player) {
+        if (!players.contains(player)) return;
+        Set<Player> targets = new HashSet<>(); // Players listed to the refreshed player
+        Set<Player> viewers = new HashSet<>(); // Players listing the refreshed player
+        switch (scope) {
+            case TabListScope.Global ignored -> {
+                return;
+            }
+            case TabListScope.Group(var function) -> {
+                final Object group = function.apply(player);
+                if (!Objects.equals(group, playerGroups.get(player))) {
+                    leaveGroup(player);
+                    if (group != null) {
+                        playerGroups.put(player, group);
+                        groups.computeIfAbsent(group, g -> new HashSet<>()).add(player);
+                    }
+                }
+                if (group != null) {
+                    for (Player member : groups.get(group)) {
+                        if (member == player) continue;
+                        targets.add(member);
+                        viewers.add(member);
+                    }
+                }
+            }
+            case TabListScope.Filter(var predicate, var limit) -> {
+                // Keep the players already listed before adding new ones
+                for (Player target : player.tabList) {
+                    if (targets.size() < limit && predicate.test(player, target)) targets.add(target);
+                }
+                for (Player other : players) {
+                    if (other == player) continue;
+                    if (targets.size() < limit && !targets.contains(other) && predicate.test(player, other)) {
+                        targets.add(other);
+                    }
+                    if (predicate.test(other, player) &&
+                            (other.tabList.contains(player) || other.tabList.size() < limit)) {
+                        viewers.add(other);
+                    }
+                }
+            }
+        }
+
+        List<Player> addedTargets = new ArrayList<>(), removedTargets = new ArrayList<>();
+        for (Player target : targets) {
+            if (player.tabList.add(target)) {
+                target.tabListViewers.add(player);
+                addedTargets.add(target);
+            }
+        }
+        for (Iterator<Player> iterator = player.tabList.iterator(); iterator.hasNext(); ) {
+            final Player target = iterator.next();
+            if (targets.contains(target)) continue;
+            iterator.remove();
+            target.tabListViewers.remove(player);
+            removedTargets.add(target);
+        }
+        List<Player> addedViewers = new ArrayList<>(), removedViewers = new ArrayList<>();
+        for (Player viewer : viewers) {
+            if (player.tabListViewers.add(viewer)) {
+                viewer.tabList.add(player);
+                addedViewers.add(viewer);
+            }
+        }
+        for (Iterator<Player> iterator = player.tabListViewers.iterator(); iterator.hasNext(); ) {
+            final Player viewer = iterator.next();
+            if (viewers.contains(viewer)) continue;
+            iterator.remove();
+            viewer.tabList.remove(player);
+            removedViewers.add(viewer);
+        }
+
+        // Changes of the refreshed player tab-list
+        if (!addedTargets.isEmpty()) {
+            sendAddEntries(List.of(player), addedTargets, true);
+        }
+        if (!removedTargets.isEmpty()) {
+            // Players still visible in the world have to stay known by the client
+            List<PlayerInfoUpdatePacket.Entry> unlisted = new ArrayList<>();
+            List<UUID> removed = new ArrayList<>();
+            for (Player target : removedTargets) {
+                if (target.isViewer(player)) unlisted.add(target.infoEntry(false));
+                else removed.add(target.getUuid());
+            }
+            sendEntries(List.of(player), LISTED_ACTIONS, unlisted);
+            for (int i = 0; i < removed.size(); i += PlayerInfoRemovePacket.MAX_ENTRIES) {
+                player.sendPacket(new PlayerInfoRemovePacket(removed.subList(i, Math.min(removed.size(), i + PlayerInfoRemovePacket.MAX_ENTRIES))));
+            }
+        }
+        // Changes of the other players tab-list
+        if (!addedViewers.isEmpty()) {
+            sendAddEntries(addedViewers, List.of(player), true);
+        }
+        if (!removedViewers.isEmpty()) {
+            PacketSendingUtils.sendGroupedPacket(removedViewers, new PlayerInfoUpdatePacket(LISTED_ACTIONS, List.of(player.infoEntry(false))),
+                    player::isViewer);
+            PacketSendingUtils.sendGroupedPacket(removedViewers, player.getRemovePlayerToList(), viewer -> !player.isViewer(viewer));
+        }
+    }
+
+    /**
+     * Sends a player entry to a viewer unaware of it, before its entity is spawned.
+     */
+    void showEntity(@NotNull Player player, @NotNull Player viewer) {
+        if (scope instanceof TabListScope.Global) return;
+        synchronized (this) {
+            if (player.tabListViewers.contains(viewer)) return;
+        }
+        sendAddEntries(List.of(viewer), List.of(player), false);
+    }
+
+    /**
+     * Removes a player entry known by a viewer only because of its entity.
+     */
+    void hideEntity(@NotNull Player player, @NotNull Player viewer) {
+        if (scope instanceof TabListScope.Global) return;
+        synchronized (this) {
+            if (player.tabListViewers.contains(viewer)) return;
+        }
+        viewer.sendPacket(player.getRemovePlayerToList());
+    }
+
+    /**
+     * Removes and adds back a player to every player knowing it, used to refresh its skin.
+     */
+    void resend(@NotNull Player player) {
+        if (scope instanceof TabListScope.Global) {
+            PacketSendingUtils.broadcastPlayPacket(player.getRemovePlayerToList());
+            PacketSendingUtils.broadcastPlayPacket(player.getAddPlayerToList());
+            return;
+        }
+        final List<Player> listed, unlisted;
+        synchronized (this) {
+            listed = new ArrayList<>(player.tabListViewers);
+            unlisted = new ArrayList<>();
+            for (Player viewer : player.getViewers()) {
+                if (!player.tabListViewers.contains(viewer)) unlisted.add(viewer);
+            }
+        }
+        PacketSendingUtils.sendGroupedPacket(listed, player.getRemovePlayerToList());
+        PacketSendingUtils.sendGroupedPacket(unlisted, player.getRemovePlayerToList());
+        sendAddEntries(listed, List.of(player), true);
+        sendAddEntries(unlisted, List.of(player), false);
+    }
+
+    /**
+     * Sends the changes queued since the previous flush.
+     */
+    public void flush() {
+        final Map<Player, EnumSet<PlayerInfoUpdatePacket.Action>> pending;
+        synchronized (this) {
+            if (this.pending.isEmpty()) return;
+            pending = new LinkedHashMap<>(this.pending);
+            this.pending.clear();
+        }
+        Map<EnumSet<PlayerInfoUpdatePacket.Action>, List<Player>> groups = new HashMap<>();
+        pending.forEach((player, actions) -> {
+            if (!player.isOnline() || player.getPlayerConnection().getConnectionState() != ConnectionState.PLAY) return;
+            groups.computeIfAbsent(actions, a -> new ArrayList<>()).add(player);
+        });
+        if (scope instanceof TabListScope.Global) {
+            groups.forEach((actions, players) -> {
+                final List<PlayerInfoUpdatePacket.Entry> entries = players.stream().map(player -> player.infoEntry(true)).toList();
+                for (List<PlayerInfoUpdatePacket.Entry> part : partition(entries)) {
+                    PacketSendingUtils.broadcastPlayPacket(new PlayerInfoUpdatePacket(actions, part));
+                }
+            });
+            return;
+        }
+        groups.forEach((actions, players) -> {
+            // Entries known by each player, players with the same entries share the same packets
+            Map<Player, List<PlayerInfoUpdatePacket.Entry>> viewerEntries = new HashMap<>();
+            synchronized (this) {
+                for (Player player : players) {
+                    final PlayerInfoUpdatePacket.Entry entry = player.infoEntry(true);
+                    viewerEntries.computeIfAbsent(player, p -> new ArrayList<>()).add(entry);
+                    for (Player viewer : player.tabListViewers) {
+                        viewerEntries.computeIfAbsent(viewer, p -> new ArrayList<>()).add(entry);
+                    }
+                    for (Player viewer : player.getViewers()) {
+                        if (player.tabListViewers.contains(viewer)) continue;
+                        viewerEntries.computeIfAbsent(viewer, p -> new ArrayList<>()).add(entry);
+                    }
+                }
+            }
+            Map<List<PlayerInfoUpdatePacket.Entry>, List<Player>> recipients = new HashMap<>();
+            viewerEntries.forEach((viewer, entries) -> recipients.computeIfAbsent(entries, e -> new ArrayList<>()).add(viewer));
+            recipients.forEach((entries, viewers) -> sendEntries(viewers, actions, entries));
+        });
+    }
+
+    private void leaveGroup(Player player) {
+        final Object previous = playerGroups.remove(player);
+        if (previous == null) return;
+        final Set<Player> members = groups.get(previous);
+        members.remove(player);
+        if (members.isEmpty()) groups.remove(previous);
+    }
+
+    /**
+     * Sends the {@link Player#getAddPlayerToList() add packets} of players, merging those with the same actions.
+     *
+     * @param recipients the players receiving the entries
+     * @param players    the players to add
+     * @param listed     false to add the players without listing them
+     */
+    private static void sendAddEntries(@NotNull Collection<Player> recipients, @NotNull Collection<Player> players, boolean listed) {
+        if (recipients.isEmpty()) return;
+        Map<EnumSet<PlayerInfoUpdatePacket.Action>, List<PlayerInfoUpdatePacket.Entry>> entries = new LinkedHashMap<>();
+        for (Player player : players) {
+            final PlayerInfoUpdatePacket packet = player.getAddPlayerToList();
+            List<PlayerInfoUpdatePacket.Entry> actionEntries = entries.computeIfAbsent(packet.actions(), a -> new ArrayList<>());
+            for (PlayerInfoUpdatePacket.Entry entry : packet.entries()) {
+                actionEntries.add(listed ? entry : new PlayerInfoUpdatePacket.Entry(entry.uuid(), entry.username(),
+                        entry.properties(), false, entry.latency(), entry.gameMode(), entry.displayName(),
+                        entry.chatSession(), entry.listOrder()));
+            }
+        }
+        entries.forEach((actions, actionEntries) -> sendEntries(recipients, actions, actionEntries));
+    }
+
+    private static void sendEntries(@NotNull Collection<Player> players, @NotNull EnumSet<PlayerInfoUpdatePacket.Action> actions,
+                                    @NotNull List<PlayerInfoUpdatePacket.Entry> entries) {
+        if (entries.isEmpty()) return;
+        for (List<PlayerInfoUpdatePacket.Entry> part : partition(entries)) {
+            final ServerPacket packet = new PlayerInfoUpdatePacket(actions, part);
+            if (players.size() == 1) players.iterator().next().sendPacket(packet);
+            else PacketSendingUtils.sendGroupedPacket(players, packet);
+        }
+    }
+
+    static @NotNull List<List<PlayerInfoUpdatePacket.Entry>> partition(@NotNull List<PlayerInfoUpdatePacket.Entry> entries) {
+        final int size = entries.size();
+        if (size <= PlayerInfoUpdatePacket.MAX_ENTRIES) return List.of(entries);
+        List<List<PlayerInfoUpdatePacket.Entry>> parts = new ArrayList<>();
+        for (int i = 0; i < size; i += PlayerInfoUpdatePacket.MAX_ENTRIES) {
+            parts.add(entries.subList(i, Math.min(size, i + PlayerInfoUpdatePacket.MAX_ENTRIES)));
+        }
+        return parts;
+    }
+}
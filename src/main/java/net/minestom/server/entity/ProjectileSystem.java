@@ -0,0 +1,498 @@
+package net.minestom.server.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.entity.projectile.ProjectileCollideWithBlockEvent;
+import net.minestom.server.event.entity.projectile.ProjectileCollideWithEntityEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionSyncPacket;
+import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
+import net.minestom.server.registry.Registry;
+import net.minestom.server.utils.PacketSendingUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Simulates many lightweight projectiles of an {@link Instance} at once.
+ * <p>
+ * Projectiles are not {@link Entity entities}: their state is stored in primitive arrays and all of them
+ * are stepped together at the start of the instance tick. Entity collisions use a spatial hash rebuilt once per tick
+ * instead of querying the entity tracker for each projectile.
+ * Viewers receive the usual spawn, position synchronization and destroy packets.
+ * <p>
+ * An {@link EntityProjectile} is only created when a projectile hits something, and is used to call
+ * {@link ProjectileCollideWithBlockEvent} and {@link ProjectileCollideWithEntityEvent}.
+ * If a block collision is not cancelled, the projectile entity is spawned stuck in the block
+ * and the lightweight projectile is removed. If an entity collision is not cancelled, the projectile is removed
+ * and the entity is never spawned.
+ * <p>
+ * Projectiles are only sent to players viewing the chunk at spawn or chunk change.
+ * {@link #spawn(EntityType, Entity, Pos, Vec)} and {@link #remove(int)} are thread-safe and applied on the next tick.
+ */
+public final class ProjectileSystem {
+    private static final int CELL_SHIFT = 2; // 4 blocks
+    private static final int MAX_AGE = 1200;
+    private static final int SHOOTER_IMMUNITY_TICKS = 3;
+
+    private final Instance instance;
+
+    private int size;
+    private int[] ids = new int[16];
+    private UUID[] uuids = new UUID[16];
+    private EntityType[] types = new EntityType[16];
+    private Entity[] shooters = new Entity[16];
+    private Chunk[] chunks = new Chunk[16];
+    private double[] positions = new double[16 * 3];
+    private double[] velocities = new double[16 * 3];
+    // gravity, horizontal drag, vertical drag, half width
+    private double[] properties = new double[16 * 4];
+    private int[] ages = new int[16];
+    private boolean[] removed = new boolean[16];
+    private final Int2IntOpenHashMap idToIndex = new Int2IntOpenHashMap();
+
+    private final MpscUnboundedArrayQueue<PendingSpawn> pendingSpawns = new MpscUnboundedArrayQueue<>(64);
+    private final MpscUnboundedArrayQueue<Integer> pendingRemovals = new MpscUnboundedArrayQueue<>(64);
+
+    // Spatial hash of the living entities, rebuilt every tick
+    private final Long2IntOpenHashMap cellHeads = new Long2IntOpenHashMap();
+    private LivingEntity[] hashEntities = new LivingEntity[16];
+    private double[] hashBoxes = new double[16 * 6];
+    private int hashEntityCount;
+    private int[] entryEntities = new int[16];
+    private int[] entryNext = new int[16];
+    private int entryCount;
+
+    public ProjectileSystem(@NotNull Instance instance) {
+        this.instance = instance;
+        this.idToIndex.defaultReturnValue(-1);
+        this.cellHeads.defaultReturnValue(-1);
+    }
+
+    /**
+     * Spawns a new projectile.
+     * <p>
+     * The projectile is added to the simulation at the start of the next instance tick.
+     *
+     * @param type     the entity type sent to viewers, also defines the physics and hit box
+     * @param shooter  the shooter of the projectile, can be null
+     * @param position the spawn position
+     * @param velocity the velocity in blocks per second
+     * @return the entity id of the projectile
+     */
+    public int spawn(@NotNull EntityType type, @Nullable Entity shooter, @NotNull Pos position, @NotNull Vec velocity) {
+        final int id = Entity.generateId();
+        this.pendingSpawns.relaxedOffer(new PendingSpawn(id, type, shooter, position, velocity));
+        return id;
+    }
+
+    /**
+     * Removes a projectile and destroys it for its viewers.
+     * <p>
+     * The projectile is removed at the start of the next instance tick.
+     *
+     * @param entityId the entity id returned by {@link #spawn(EntityType, Entity, Pos, Vec)}
+     */
+    public void remove(int entityId) {
+        this.pendingRemovals.relaxedOffer(entityId);
+    }
+
+    /**
+     * Gets the number of simulated projectiles.
+     *
+     * @return the projectile count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Steps every projectile, called by {@link Instance#tick(long)}.
+     *
+     * @param time the tick time in milliseconds
+     */
+    @ApiStatus.Internal
+    public void tick(long time) {
+        this.pendingSpawns.drain(this::add);
+        this.pendingRemovals.drain(entityId -> {
+            final int index = idToIndex.get((int) entityId);
+            if (index != -1) markRemoved(index);
+        });
+        if (size == 0) return;
+        try {
+            buildSpatialHash();
+            final int count = size;
+            for (int i = 0; i < count; i++) {
+                if (!removed[i]) step(i);
+            }
+        } finally {
+            this.cellHeads.clear();
+            Arrays.fill(hashEntities, 0, hashEntityCount, null);
+            compact();
+        }
+    }
+
+    private void add(PendingSpawn spawn) {
+        final Pos position = spawn.position();
+        final Chunk chunk = instance.getChunkAt(position);
+        if (!ChunkUtils.isLoaded(chunk)) return;
+        ensureCapacity(size + 1);
+        final int index = size++;
+        final EntityType type = spawn.type();
+        final Registry.EntityEntry registry = type.registry();
+        final Vec velocity = spawn.velocity().div(ServerFlag.SERVER_TICKS_PER_SECOND);
+        this.ids[index] = spawn.id();
+        this.uuids[index] = UUID.randomUUID();
+        this.types[index] = type;
+        this.shooters[index] = spawn.shooter();
+        this.chunks[index] = chunk;
+        this.ages[index] = 0;
+        this.removed[index] = false;
+        setVector(positions, index, position.x(), position.y(), position.z());
+        setVector(velocities, index, velocity.x(), velocity.y(), velocity.z());
+        final int propertyOffset = index * 4;
+        properties[propertyOffset] = registry.acceleration();
+        properties[propertyOffset + 1] = registry.horizontalAirResistance();
+        properties[propertyOffset + 2] = registry.verticalAirResistance();
+        properties[propertyOffset + 3] = registry.width() / 2;
+        this.idToIndex.put(spawn.id(), index);
+        chunk.sendPacketToViewers(spawnPacket(index));
+    }
+
+    private void step(int index) {
+        final int offset = index * 3;
+        final double startX = positions[offset], startY = positions[offset + 1], startZ = positions[offset + 2];
+        final double velocityX = velocities[offset], velocityY = velocities[offset + 1], velocityZ = velocities[offset + 2];
+        final int propertyOffset = index * 4;
+        final double halfWidth = properties[propertyOffset + 3];
+        final int age = ++ages[index];
+        if (age > MAX_AGE) {
+            markRemoved(index);
+            return;
+        }
+
+        // Block collision, discretely walk the movement like EntityProjectile
+        final double length = Math.sqrt(velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ);
+        final double part = Math.max(halfWidth, 0.05);
+        final int parts = Math.max(1, (int) Math.ceil(length / part));
+        double blockHit = Double.MAX_VALUE;
+        Block hitBlock = null;
+        Chunk chunk = chunks[index];
+        for (int i = 1; i <= parts; i++) {
+            final double progress = (double) i / parts;
+            final double x = startX + velocityX * progress;
+            final double y = startY + velocityY * progress;
+            final double z = startZ + velocityZ * progress;
+            chunk = ChunkUtils.retrieve(instance, chunk, x, z);
+            if (!ChunkUtils.isLoaded(chunk)) {
+                // Left the loaded world
+                markRemoved(index);
+                return;
+            }
+            final Block block = chunk.getBlock((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z),
+                    Block.Getter.Condition.TYPE);
+            if (block != null && block.isSolid()) {
+                blockHit = progress;
+                hitBlock = block;
+                break;
+            }
+        }
+
+        // Entity collision
+        final Entity shooter = shooters[index];
+        final boolean ignoreShooter = age <= SHOOTER_IMMUNITY_TICKS;
+        double entityHit = Double.MAX_VALUE;
+        LivingEntity hitEntity = null;
+        {
+            final double endX = startX + velocityX, endY = startY + velocityY, endZ = startZ + velocityZ;
+            final int minCellX = cell(Math.min(startX, endX) - halfWidth), maxCellX = cell(Math.max(startX, endX) + halfWidth);
+            final int minCellY = cell(Math.min(startY, endY) - halfWidth), maxCellY = cell(Math.max(startY, endY) + halfWidth);
+            final int minCellZ = cell(Math.min(startZ, endZ) - halfWidth), maxCellZ = cell(Math.max(startZ, endZ) + halfWidth);
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        int entry = cellHeads.get(cellKey(cellX, cellY, cellZ));
+                        while (entry != -1) {
+                            final int entityIndex = entryEntities[entry];
+                            entry = entryNext[entry];
+                            final LivingEntity entity = hashEntities[entityIndex];
+                            if (ignoreShooter && entity == shooter) continue;
+                            final int boxOffset = entityIndex * 6;
+                            final double t = segmentIntersection(startX, startY, startZ, velocityX, velocityY, velocityZ,
+                                    hashBoxes[boxOffset] - halfWidth, hashBoxes[boxOffset + 1] - halfWidth, hashBoxes[boxOffset + 2] - halfWidth,
+                                    hashBoxes[boxOffset + 3] + halfWidth, hashBoxes[boxOffset + 4] + halfWidth, hashBoxes[boxOffset + 5] + halfWidth);
+                            if (t >= 0 && t < entityHit && t <= blockHit) {
+                                entityHit = t;
+                                hitEntity = entity;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        if (hitEntity != null) {
+            final Pos hitPosition = position(startX, startY, startZ, velocityX, velocityY, velocityZ, entityHit);
+            final EntityProjectile projectile = materialize(index);
+            final ProjectileCollideWithEntityEvent event = new ProjectileCollideWithEntityEvent(projectile, hitPosition, hitEntity);
+            EventDispatcher.call(event);
+            if (!event.isCancelled()) {
+                markRemoved(index);
+                return;
+            }
+        }
+        if (removed[index]) return;
+        if (hitBlock != null) {
+            final Pos hitPosition = position(startX, startY, startZ, velocityX, velocityY, velocityZ, blockHit);
+            final EntityProjectile projectile = materialize(index);
+            final ProjectileCollideWithBlockEvent event = new ProjectileCollideWithBlockEvent(projectile, hitPosition, hitBlock);
+            EventDispatcher.call(event);
+            if (removed[index]) return;
+            if (!event.isCancelled()) {
+                markRemoved(index);
+                // Stuck projectiles are regular entities
+                projectile.setVelocity(Vec.ZERO);
+                projectile.setNoGravity(true);
+                projectile.setInstance(instance, hitPosition);
+                return;
+            }
+        }
+
+        // Move
+        final double newX = startX + velocityX, newY = startY + velocityY, newZ = startZ + velocityZ;
+        setVector(positions, index, newX, newY, newZ);
+        setVector(velocities, index,
+                velocityX * properties[propertyOffset + 1],
+                (velocityY - properties[propertyOffset]) * properties[propertyOffset + 2],
+                velocityZ * properties[propertyOffset + 1]);
+
+        // Viewers
+        final Chunk previousChunk = chunks[index];
+        if (chunk != previousChunk) {
+            this.chunks[index] = chunk;
+            updateViewers(index, previousChunk, chunk);
+        } else if (age % ServerFlag.ENTITY_SYNCHRONIZATION_TICKS == 0) {
+            chunk.sendPacketToViewers(new EntityPositionSyncPacket(ids[index], new Vec(newX, newY, newZ),
+                    new Vec(velocities[offset], velocities[offset + 1], velocities[offset + 2]),
+                    yaw(velocityX, velocityZ), pitch(velocityX, velocityY, velocityZ), false));
+        }
+    }
+
+    private void updateViewers(int index, Chunk previousChunk, Chunk chunk) {
+        final Set<Player> previousViewers = previousChunk.getViewers();
+        final Set<Player> viewers = chunk.getViewers();
+        if (previousViewers.equals(viewers)) return;
+        Set<Player> added = new HashSet<>(viewers);
+        added.removeAll(previousViewers);
+        Set<Player> removedViewers = new HashSet<>(previousViewers);
+        removedViewers.removeAll(viewers);
+        if (!added.isEmpty()) PacketSendingUtils.sendGroupedPacket(added, spawnPacket(index));
+        if (!removedViewers.isEmpty())
+            PacketSendingUtils.sendGroupedPacket(removedViewers, new DestroyEntitiesPacket(ids[index]));
+    }
+
+    private EntityProjectile materialize(int index) {
+        final EntityProjectile projectile = new EntityProjectile(shooters[index], types[index]);
+        final int offset = index * 3;
+        projectile.setVelocity(new Vec(velocities[offset], velocities[offset + 1], velocities[offset + 2])
+                .mul(ServerFlag.SERVER_TICKS_PER_SECOND));
+        return projectile;
+    }
+
+    private void markRemoved(int index) {
+        if (removed[index]) return;
+        this.removed[index] = true;
+        this.idToIndex.remove(ids[index]);
+        final Chunk chunk = chunks[index];
+        if (chunk != null) chunk.sendPacketToViewers(new DestroyEntitiesPacket(ids[index]));
+    }
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (removed[read]) continue;
+            if (write != read) move(read, write);
+            write++;
+        }
+        for (int i = write; i < size; i++) {
+            this.uuids[i] = null;
+            this.types[i] = null;
+            this.shooters[i] = null;
+            this.chunks[i] = null;
+            this.removed[i] = false;
+        }
+        this.size = write;
+    }
+
+    private void move(int from, int to) {
+        this.ids[to] = ids[from];
+        this.uuids[to] = uuids[from];
+        this.types[to] = types[from];
+        this.shooters[to] = shooters[from];
+        this.chunks[to] = chunks[from];
+        this.ages[to] = ages[from];
+        this.removed[to] = false;
+        System.arraycopy(positions, from * 3, positions, to * 3, 3);
+        System.arraycopy(velocities, from * 3, velocities, to * 3, 3);
+        System.arraycopy(properties, from * 4, properties, to * 4, 4);
+        this.idToIndex.put(ids[to], to);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) return;
+        final int newCapacity = Math.max(capacity, ids.length * 2);
+        this.ids = Arrays.copyOf(ids, newCapacity);
+        this.uuids = Arrays.copyOf(uuids, newCapacity);
+        this.types = Arrays.copyOf(types, newCapacity);
+        this.shooters = Arrays.copyOf(shooters, newCapacity);
+        this.chunks = Arrays.copyOf(chunks, newCapacity);
+        this.positions = Arrays.copyOf(positions, newCapacity * 3);
+        this.velocities = Arrays.copyOf(velocities, newCapacity * 3);
+        this.properties = Arrays.copyOf(properties, newCapacity * 4);
+        this.ages = Arrays.copyOf(ages, newCapacity);
+        this.removed = Arrays.copyOf(removed, newCapacity);
+    }
+
+    private void buildSpatialHash() {
+        this.hashEntityCount = 0;
+        this.entryCount = 0;
+        for (Entity entity : instance.getEntities()) {
+            if (!(entity instanceof LivingEntity living) || living.isRemoved() || living.isDead()) continue;
+            final int entityIndex = hashEntityCount++;
+            if (entityIndex == hashEntities.length) {
+                this.hashEntities = Arrays.copyOf(hashEntities, entityIndex * 2);
+                this.hashBoxes = Arrays.copyOf(hashBoxes, entityIndex * 2 * 6);
+            }
+            final Pos position = living.getPosition();
+            final BoundingBox boundingBox = living.getBoundingBox();
+            final double minX = position.x() + boundingBox.minX(), minY = position.y() + boundingBox.minY(), minZ = position.z() + boundingBox.minZ();
+            final double maxX = position.x() + boundingBox.maxX(), maxY = position.y() + boundingBox.maxY(), maxZ = position.z() + boundingBox.maxZ();
+            this.hashEntities[entityIndex] = living;
+            final int boxOffset = entityIndex * 6;
+            hashBoxes[boxOffset] = minX;
+            hashBoxes[boxOffset + 1] = minY;
+            hashBoxes[boxOffset + 2] = minZ;
+            hashBoxes[boxOffset + 3] = maxX;
+            hashBoxes[boxOffset + 4] = maxY;
+            hashBoxes[boxOffset + 5] = maxZ;
+            for (int cellX = cell(minX); cellX <= cell(maxX); cellX++) {
+                for (int cellY = cell(minY); cellY <= cell(maxY); cellY++) {
+                    for (int cellZ = cell(minZ); cellZ <= cell(maxZ); cellZ++) {
+                        final int entry = entryCount++;
+                        if (entry == entryEntities.length) {
+                            this.entryEntities = Arrays.copyOf(entryEntities, entry * 2);
+                            this.entryNext = Arrays.copyOf(entryNext, entry * 2);
+                        }
+                        final long key = cellKey(cellX, cellY, cellZ);
+                        entryEntities[entry] = entityIndex;
+                        entryNext[entry] = cellHeads.get(key);
+                        cellHeads.put(key, entry);
+                    }
+                }
+            }
+        }
+    }
+
+    private SpawnEntityPacket spawnPacket(int index) {
+        final int offset = index * 3;
+        final double velocityX = velocities[offset], velocityY = velocities[offset + 1], velocityZ = velocities[offset + 2];
+        final float yaw = yaw(velocityX, velocityZ);
+        final Pos position = new Pos(positions[offset], positions[offset + 1], positions[offset + 2],
+                yaw, pitch(velocityX, velocityY, velocityZ));
+        final Entity shooter = shooters[index];
+        return new SpawnEntityPacket(ids[index], uuids[index], types[index].id(), position, yaw,
+                shooter != null ? shooter.getEntityId() : 0,
+                packetVelocity(velocityX), packetVelocity(velocityY), packetVelocity(velocityZ));
+    }
+
+    private static short packetVelocity(double tickVelocity) {
+        return (short) Math.clamp(tickVelocity * 8000, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    /**
+     * Slab test of the segment {@code start + direction * t} for {@code t} in [0, 1].
+     *
+     * @return the entry time, or -1 if the segment misses the box
+     */
+    private static double segmentIntersection(double startX, double startY, double startZ,
+                                              double directionX, double directionY, double directionZ,
+                                              double minX, double minY, double minZ,
+                                              double maxX, double maxY, double maxZ) {
+        double tMin = 0, tMax = 1;
+        // X
+        if (directionX == 0) {
+            if (startX < minX || startX > maxX) return -1;
+        } else {
+            double t1 = (minX - startX) / directionX, t2 = (maxX - startX) / directionX;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+        // Y
+        if (directionY == 0) {
+            if (startY < minY || startY > maxY) return -1;
+        } else {
+            double t1 = (minY - startY) / directionY, t2 = (maxY - startY) / directionY;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+        // Z
+        if (directionZ == 0) {
+            if (startZ < minZ || startZ > maxZ) return -1;
+        } else {
+            double t1 = (minZ - startZ) / directionZ, t2 = (maxZ - startZ) / directionZ;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin > tMax) return -1;
+        }
+        return tMin;
+    }
+
+    private static Pos position(double startX, double startY, double startZ,
+                                double velocityX, double velocityY, double velocityZ, double progress) {
+        return new Pos(startX + velocityX * progress, startY + velocityY * progress, startZ + velocityZ * progress,
+                yaw(velocityX, velocityZ), pitch(velocityX, velocityY, velocityZ));
+    }
+
+    private static float yaw(double velocityX, double velocityZ) {
+        return (float) Math.toDegrees(Math.atan2(velocityX, velocityZ));
+    }
+
+    private static float pitch(double velocityX, double velocityY, double velocityZ) {
+        return (float) Math.toDegrees(Math.atan2(velocityY, Math.sqrt(velocityX * velocityX + velocityZ * velocityZ)));
+    }
+
+    private static void setVector(double[] array, int index, double x, double y, double z) {
+        final int offset = index * 3;
+        array[offset] = x;
+        array[offset + 1] = y;
+        array[offset + 2] = z;
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long cellKey(int cellX, int cellY, int cellZ) {
+        return ((long) cellX & 0x1FFFFF) << 42 | ((long) cellY & 0x1FFFFF) << 21 | ((long) cellZ & 0x1FFFFF);
+    }
+
+    private record PendingSpawn(int id, EntityType type, Entity shooter, Pos position, Vec velocity) {
+    }
+}
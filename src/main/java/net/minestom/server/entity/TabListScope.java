@@ -0,0 +1,69 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Defines which players are listed in the tab-list of each player.
+ * <p>
+ * Players are always listed in their own tab-list. Players outside the scope whose entity is visible
+ * are still sent to the client, unlisted, as it is required to render them.
+ * Scopes are evaluated incrementally when a player spawns in an instance or when {@link Player#refreshTabList()} is called.
+ *
+ * @see net.minestom.server.network.ConnectionManager#setTabListScope(TabListScope)
+ */
+public sealed interface TabListScope {
+    /**
+     * Every online player is listed to every other player, the default.
+     */
+    static @NotNull TabListScope global() {
+        return Global.INSTANCE;
+    }
+
+    /**
+     * Players are listed to the players of the same instance.
+     */
+    static @NotNull TabListScope instance() {
+        return Group.INSTANCE;
+    }
+
+    /**
+     * Players are listed to the players of the same group, players with a null group are only listed to themselves.
+     * <p>
+     * Only the members of the previous and new groups of a player are visited when it is refreshed.
+     *
+     * @param group the group of a player, compared using {@link Object#equals(Object)}
+     */
+    static @NotNull TabListScope group(@NotNull Function<@NotNull Player, ?> group) {
+        return new Group(group);
+    }
+
+    /**
+     * Players are listed based on a predicate, up to a maximum number of other players per tab-list.
+     * <p>
+     * Refreshing a player tests the predicate against every online player.
+     *
+     * @param predicate tests if the second player should be listed to the first
+     * @param limit     the maximum number of other players in a tab-list
+     */
+    static @NotNull TabListScope filter(@NotNull BiPredicate<@NotNull Player, @NotNull Player> predicate, int limit) {
+        return new Filter(predicate, limit);
+    }
+
+    record Global() implements TabListScope {
+        static final Global INSTANCE = new Global();
+    }
+
+    record Group(@NotNull Function<@NotNull Player, ?> group) implements TabListScope {
+        static final Group INSTANCE = new Group(Player::getInstance);
+    }
+
+    record Filter(@NotNull BiPredicate<@NotNull Player, @NotNull Player> predicate, int limit) implements TabListScope {
+        public Filter {
+            Check.argCondition(limit < 0, "The limit cannot be negative");
+        }
+    }
+}
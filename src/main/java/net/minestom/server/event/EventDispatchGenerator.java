@@ -0,0 +1,257 @@
+package net.minestom.server.event;
+
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Alternative dispatch backend of {@link EventNodeImpl}, enabled with {@link ServerFlag#EVENT_NODE_GENERATED_DISPATCH}.
+ * <p>
+ * The listeners, filters and children of a handle are composed into a single {@link MethodHandle},
+ * which is then stored as a constant in a generated hidden class. The JIT is able to inline the whole tree
+ * into straight-line code, instead of going through megamorphic {@link Consumer} call sites.
+ * <p>
+ * The hidden class is unloaded once the handle is invalidated and collected.
+ */
+final class EventDispatchGenerator {
+    static final boolean ENABLED = ServerFlag.EVENT_NODE_GENERATED_DISPATCH;
+    /**
+     * Maximum number of handles inlined in a sequence, longer sequences are called in a loop
+     * to avoid deep method handle trees.
+     */
+    static final int MAX_INLINED = 32;
+
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle NOOP = MethodHandles.empty(DISPATCH_TYPE);
+    private static final MethodHandle CONSUMER_ACCEPT;
+    private static final MethodHandle CALL_LISTENER;
+    private static final MethodHandle TEST;
+    private static final MethodHandle LOOP;
+    private static final byte[] CLASS_BYTES = classBytes();
+
+    static {
+        try {
+            CONSUMER_ACCEPT = LOOKUP.findVirtual(Consumer.class, "accept", DISPATCH_TYPE);
+            CALL_LISTENER = LOOKUP.findVirtual(EventNodeImpl.Handle.class, "callListener",
+                    MethodType.methodType(void.class, EventListener.class, Event.class));
+            TEST = LOOKUP.findStatic(EventDispatchGenerator.class, "test",
+                    MethodType.methodType(boolean.class, BiPredicate.class, EventFilter.class, Object.class));
+            LOOP = LOOKUP.findStatic(EventDispatchGenerator.class, "loop",
+                    MethodType.methodType(void.class, MethodHandle[].class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private EventDispatchGenerator() {
+    }
+
+    static @NotNull MethodHandle listener(@NotNull EventNodeImpl<?>.Handle<?> handle, @NotNull EventListener<?> listener) {
+        return MethodHandles.insertArguments(CALL_LISTENER, 0, handle, listener).asType(DISPATCH_TYPE);
+    }
+
+    static @NotNull MethodHandle consumer(@NotNull Consumer<?> consumer) {
+        return CONSUMER_ACCEPT.bindTo(consumer);
+    }
+
+    /**
+     * Creates a handle calling each of the given handles in order.
+     */
+    static @NotNull MethodHandle sequence(@NotNull List<MethodHandle> handles) {
+        final int size = handles.size();
+        if (size == 0) return NOOP;
+        if (size > MAX_INLINED) {
+            return MethodHandles.insertArguments(LOOP, 0, (Object) handles.toArray(MethodHandle[]::new));
+        }
+        MethodHandle result = handles.get(size - 1);
+        for (int i = size - 2; i >= 0; i--) {
+            // The combiner returns void, the target receives the same event once it completes
+            result = MethodHandles.foldArguments(result, handles.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a handle only calling {@code target} if the event passes the node predicate.
+     */
+    static @NotNull MethodHandle filter(@NotNull BiPredicate<?, Object> predicate, @NotNull EventFilter<?, ?> filter,
+                                        @NotNull MethodHandle target) {
+        final MethodHandle test = MethodHandles.insertArguments(TEST, 0, predicate, filter);
+        return MethodHandles.guardWithTest(test, target, NOOP);
+    }
+
+    /**
+     * Spins a hidden class holding {@code dispatch} as a constant.
+     *
+     * @param dispatch the composed handle, of type {@code (Object)void}
+     * @return a consumer invoking {@code dispatch}
+     */
+    @SuppressWarnings("unchecked")
+    static <E> @NotNull Consumer<E> generate(@NotNull MethodHandle dispatch) {
+        try {
+            final MethodHandles.Lookup lookup = LOOKUP.defineHiddenClassWithClassData(CLASS_BYTES,
+                    dispatch.asType(DISPATCH_TYPE), true);
+            final MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class));
+            return (Consumer<E>) constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to generate event dispatch class", e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean test(BiPredicate predicate, EventFilter filter, Object event) {
+        return predicate.test(event, filter.castHandler(event));
+    }
+
+    private static void loop(MethodHandle[] handles, Object event) throws Throwable {
+        for (MethodHandle handle : handles) handle.invokeExact(event);
+    }
+
+    /**
+     * Writes the class file of:
+     * <pre>{@code
+     * public final class EventDispatch implements Consumer {
+     *     private static final MethodHandle HANDLE = MethodHandles.classData(MethodHandles.lookup(), "_", MethodHandle.class);
+     *
+     *     public void accept(Object event) {
+     *         HANDLE.invokeExact(event);
+     *     }
+     * }
+     * }</pre>
+     * The class has no branch, and therefore does not need stack map frames.
+     */
+    private static byte[] classBytes() {
+        final String className = EventDispatchGenerator.class.getPackageName().replace('.', '/') + "/EventDispatch";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); // Minor version
+            out.writeShort(61); // Major version (Java 17)
+            // Constant pool
+            out.writeShort(36);
+            utf8(out, className); // 1
+            classRef(out, 1); // 2
+            utf8(out, "java/lang/Object"); // 3
+            classRef(out, 3); // 4
+            utf8(out, "java/util/function/Consumer"); // 5
+            classRef(out, 5); // 6
+            utf8(out, "HANDLE"); // 7
+            utf8(out, "Ljava/lang/invoke/MethodHandle;"); // 8
+            utf8(out, "<init>"); // 9
+            utf8(out, "()V"); // 10
+            nameAndType(out, 9, 10); // 11
+            memberRef(out, 10, 4, 11); // 12 Object#<init>
+            utf8(out, "<clinit>"); // 13
+            utf8(out, "java/lang/invoke/MethodHandles"); // 14
+            classRef(out, 14); // 15
+            utf8(out, "lookup"); // 16
+            utf8(out, "()Ljava/lang/invoke/MethodHandles$Lookup;"); // 17
+            nameAndType(out, 16, 17); // 18
+            memberRef(out, 10, 15, 18); // 19 MethodHandles#lookup
+            utf8(out, "_"); // 20
+            out.writeByte(8); // 21 String
+            out.writeShort(20);
+            utf8(out, "java/lang/invoke/MethodHandle"); // 22
+            classRef(out, 22); // 23
+            utf8(out, "classData"); // 24
+            utf8(out, "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"); // 25
+            nameAndType(out, 24, 25); // 26
+            memberRef(out, 10, 15, 26); // 27 MethodHandles#classData
+            nameAndType(out, 7, 8); // 28
+            memberRef(out, 9, 2, 28); // 29 HANDLE field
+            utf8(out, "accept"); // 30
+            utf8(out, "(Ljava/lang/Object;)V"); // 31
+            utf8(out, "invokeExact"); // 32
+            nameAndType(out, 32, 31); // 33
+            memberRef(out, 10, 23, 33); // 34 MethodHandle#invokeExact
+            utf8(out, "Code"); // 35
+            // Class
+            out.writeShort(0x0001 | 0x0010 | 0x0020); // ACC_PUBLIC | ACC_FINAL | ACC_SUPER
+            out.writeShort(2); // This class
+            out.writeShort(4); // Super class
+            out.writeShort(1); // Interfaces
+            out.writeShort(6);
+            // Fields
+            out.writeShort(1);
+            out.writeShort(0x0002 | 0x0008 | 0x0010); // ACC_PRIVATE | ACC_STATIC | ACC_FINAL
+            out.writeShort(7);
+            out.writeShort(8);
+            out.writeShort(0);
+            // Methods
+            out.writeShort(3);
+            method(out, 0x0001, 9, 10, 1, 1, new byte[]{
+                    0x2A, // aload_0
+                    (byte) 0xB7, 0, 12, // invokespecial Object#<init>
+                    (byte) 0xB1 // return
+            });
+            method(out, 0x0008, 13, 10, 3, 0, new byte[]{
+                    (byte) 0xB8, 0, 19, // invokestatic MethodHandles#lookup
+                    0x12, 21, // ldc "_"
+                    0x12, 23, // ldc MethodHandle.class
+                    (byte) 0xB8, 0, 27, // invokestatic MethodHandles#classData
+                    (byte) 0xC0, 0, 23, // checkcast MethodHandle
+                    (byte) 0xB3, 0, 29, // putstatic HANDLE
+                    (byte) 0xB1 // return
+            });
+            method(out, 0x0001, 30, 31, 2, 2, new byte[]{
+                    (byte) 0xB2, 0, 29, // getstatic HANDLE
+                    0x2B, // aload_1
+                    (byte) 0xB6, 0, 34, // invokevirtual MethodHandle#invokeExact
+                    (byte) 0xB1 // return
+            });
+            // Attributes
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static void classRef(DataOutputStream out, int nameIndex) throws IOException {
+        out.writeByte(7);
+        out.writeShort(nameIndex);
+    }
+
+    private static void nameAndType(DataOutputStream out, int nameIndex, int descriptorIndex) throws IOException {
+        out.writeByte(12);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+    }
+
+    private static void memberRef(DataOutputStream out, int tag, int classIndex, int nameAndTypeIndex) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(classIndex);
+        out.writeShort(nameAndTypeIndex);
+    }
+
+    private static void method(DataOutputStream out, int access, int nameIndex, int descriptorIndex,
+                               int maxStack, int maxLocals, byte[] code) throws IOException {
+        out.writeShort(access);
+        out.writeShort(nameIndex);
+        out.writeShort(descriptorIndex);
+        out.writeShort(1); // Attributes
+        out.writeShort(35); // Code
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0); // Exception table
+        out.writeShort(0); // Attributes
+    }
+}
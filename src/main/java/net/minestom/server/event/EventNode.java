@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -332,6 +333,31 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
     @Contract(value = "_ -> this")
     @NotNull EventNode<T> removeListener(@NotNull EventListener<? extends T> listener);
 
+    /**
+     * Adds a listener to the post phase of this node.
+     * <p>
+     * Post listeners are notified after every synchronous listener of the called node, and run off-thread
+     * on the {@link EventPostExecutor}. They are dropped when the executor is saturated.
+     *
+     * @param listener the post listener
+     * @return this node
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> addPostListener(@NotNull EventPostListener<? extends T> listener);
+
+    @ApiStatus.Experimental
+    @Contract(value = "_, _, _ -> this")
+    default <E extends T, S> @NotNull EventNode<T> addPostListener(@NotNull Class<E> eventType,
+                                                                  @NotNull Function<@NotNull E, @Nullable S> snapshot,
+                                                                  @NotNull Consumer<@NotNull S> listener) {
+        return addPostListener(EventPostListener.of(eventType, snapshot, listener));
+    }
+
+    @ApiStatus.Experimental
+    @Contract(value = "_ -> this")
+    @NotNull EventNode<T> removePostListener(@NotNull EventPostListener<? extends T> listener);
+
     /**
      * Maps a specific object to a node.
      * <p>
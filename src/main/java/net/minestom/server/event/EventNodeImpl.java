@@ -8,6 +8,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -156,6 +157,28 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         return this;
     }
 
+    @Override
+    public @NotNull EventNode<T> addPostListener(@NotNull EventPostListener<? extends T> listener) {
+        synchronized (GLOBAL_CHILD_LOCK) {
+            final var eventType = listener.eventType();
+            ListenerEntry<T> entry = getEntry(eventType);
+            entry.postListeners.add((EventPostListener<T>) listener);
+            invalidateEvent(eventType);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull EventNode<T> removePostListener(@NotNull EventPostListener<? extends T> listener) {
+        synchronized (GLOBAL_CHILD_LOCK) {
+            final var eventType = listener.eventType();
+            ListenerEntry<T> entry = listenerMap.get(eventType);
+            if (entry == null) return this; // There is no listener with such type
+            if (entry.postListeners.remove(listener)) invalidateEvent(eventType);
+        }
+        return this;
+    }
+
     @Override
     public @NotNull <E extends T, H> EventNode<E> map(@NotNull H value, @NotNull EventFilter<E, H> filter) {
         EventNodeImpl<E> node;
@@ -329,12 +352,17 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     private static class ListenerEntry<T extends Event> {
         final List<EventListener<T>> listeners = new CopyOnWriteArrayList<>();
         final Set<Consumer<T>> bindingConsumers = new CopyOnWriteArraySet<>();
+        final List<EventPostListener<T>> postListeners = new CopyOnWriteArrayList<>();
     }
 
     @SuppressWarnings("unchecked")
     final class Handle<E extends Event> implements ListenerHandle<E> {
         private final Class<E> eventType;
         private Consumer<E> listener = null;
+        // Post phase, executed by the called handle once the listener completed
+        private Consumer<E> postListener = null;
+        // Composed listener, only used by the generated backend
+        private MethodHandle dispatch = null;
         private volatile boolean updated;
 
         Handle(Class<E> eventType) {
@@ -344,35 +372,102 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         @Override
         public void call(@NotNull E event) {
             final Consumer<E> listener = updatedListener();
-            if (listener == null) return;
-            try {
-                listener.accept(event);
-            } catch (Throwable e) {
-                MinecraftServer.getExceptionManager().handleException(e);
+            final Consumer<E> postListener = this.postListener;
+            if (listener == null && postListener == null) return;
+            if (listener != null) {
+                try {
+                    listener.accept(event);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+            // Still run when a synchronous listener failed, the snapshots see the event as it was left
+            if (postListener != null) {
+                try {
+                    postListener.accept(event);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
             }
         }
 
         @Override
         public boolean hasListener() {
-            return updatedListener() != null;
+            return updatedListener() != null || postListener != null;
         }
 
         void invalidate() {
             this.updated = false;
             this.listener = null;
+            this.postListener = null;
+            this.dispatch = null;
         }
 
         @Nullable Consumer<E> updatedListener() {
             if (updated) return listener;
             synchronized (GLOBAL_CHILD_LOCK) {
                 if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
+                final Consumer<E> listener;
+                if (EventDispatchGenerator.ENABLED) {
+                    final MethodHandle dispatch = createDispatch();
+                    listener = dispatch != null ? EventDispatchGenerator.generate(dispatch) : null;
+                    this.dispatch = dispatch;
+                } else {
+                    listener = createConsumer();
+                }
                 this.listener = listener;
+                this.postListener = createPostConsumer();
                 this.updated = true;
                 return listener;
             }
         }
 
+        private @Nullable Consumer<E> updatedPostListener() {
+            assert Thread.holdsLock(GLOBAL_CHILD_LOCK);
+            updatedListener();
+            return postListener;
+        }
+
+        private @Nullable MethodHandle updatedDispatch() {
+            assert Thread.holdsLock(GLOBAL_CHILD_LOCK);
+            updatedListener();
+            return dispatch;
+        }
+
+        /**
+         * Equivalent of {@link #createConsumer()} for the generated backend,
+         * children dispatches are inlined in the returned handle.
+         */
+        private @Nullable MethodHandle createDispatch() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<MethodHandle> handles = new ArrayList<>();
+            // Standalone listeners
+            forTargetEvents(eventType, type -> {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) {
+                    handles.add(EventDispatchGenerator.listener(this, listener));
+                }
+                for (Consumer<E> binding : entry.bindingConsumers) {
+                    handles.add(EventDispatchGenerator.consumer(binding));
+                }
+            });
+            // Mapped
+            final Consumer<E> mappedListener = mappedConsumer();
+            if (mappedListener != null) handles.add(EventDispatchGenerator.consumer(mappedListener));
+            // Children
+            node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedDispatch())
+                    .filter(Objects::nonNull)
+                    .forEach(handles::add);
+            if (handles.isEmpty()) return null;
+            final MethodHandle dispatch = EventDispatchGenerator.sequence(handles);
+            final BiPredicate<E, Object> predicate = node.predicate;
+            return predicate != null ? EventDispatchGenerator.filter(predicate, node.filter, dispatch) : dispatch;
+        }
+
         private @Nullable Consumer<E> createConsumer() {
             var node = (EventNodeImpl<E>) EventNodeImpl.this;
             // Standalone listeners
@@ -428,6 +523,40 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             };
         }
 
+        /**
+         * Create a consumer submitting the post listeners of this node and its children to the {@link EventPostExecutor}.
+         * <p>
+         * Mapped nodes are excluded, their post phase is run when they are called by {@link #mappedConsumer()}.
+         */
+        private @Nullable Consumer<E> createPostConsumer() {
+            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+            List<EventPostListener<E>> listeners = new ArrayList<>();
+            forTargetEvents(eventType, type -> {
+                final ListenerEntry<E> entry = node.listenerMap.get(type);
+                if (entry != null) listeners.addAll(entry.postListeners);
+            });
+            final EventPostListener<E>[] listenersArray = listeners.toArray(EventPostListener[]::new);
+            final Consumer<E>[] childrenListeners = node.children.stream()
+                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
+                    .sorted(Comparator.comparing(EventNode::getPriority))
+                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedPostListener())
+                    .filter(Objects::nonNull)
+                    .toArray(Consumer[]::new);
+            if (listenersArray.length == 0 && childrenListeners.length == 0) return null;
+            final BiPredicate<E, Object> predicate = node.predicate;
+            final EventFilter<E, ?> filter = node.filter;
+            return e -> {
+                if (predicate != null && !predicate.test(e, filter.getHandler(e))) return;
+                for (EventPostListener<E> listener : listenersArray) {
+                    final Runnable task = listener.snapshot(e);
+                    if (task != null) EventPostExecutor.submit(task);
+                }
+                for (Consumer<E> childHandle : childrenListeners) {
+                    childHandle.accept(e);
+                }
+            };
+        }
+
         /**
          * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
          * {@link EventNode#register(EventBinding)}.
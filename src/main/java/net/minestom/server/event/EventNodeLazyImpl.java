@@ -44,6 +44,12 @@ final class EventNodeLazyImpl<E extends Event> extends EventNodeImpl<E> {
         return super.addListener(listener);
     }
 
+    @Override
+    public @NotNull EventNode<E> addPostListener(@NotNull EventPostListener<? extends E> listener) {
+        ensureMap();
+        return super.addPostListener(listener);
+    }
+
     @Override
     public @NotNull <E1 extends E> EventNode<E> addListener(@NotNull Class<E1> eventType, @NotNull Consumer<@NotNull E1> listener) {
         ensureMap();
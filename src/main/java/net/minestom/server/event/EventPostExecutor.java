@@ -0,0 +1,108 @@
+package net.minestom.server.event;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.ServerProcess;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes the {@link EventPostListener post listeners} off the dispatching thread.
+ * <p>
+ * At most {@link ServerFlag#EVENT_POST_QUEUE_SIZE} tasks can be pending at once, additional tasks are dropped
+ * instead of blocking the dispatching (tick) thread. Tasks run on virtual threads,
+ * or on a fixed pool if {@link ServerFlag#EVENT_POST_THREADS} is positive.
+ */
+@ApiStatus.Experimental
+public final class EventPostExecutor {
+    private static final int CAPACITY = ServerFlag.EVENT_POST_QUEUE_SIZE;
+    private static final ExecutorService EXECUTOR = createExecutor(ServerFlag.EVENT_POST_THREADS);
+
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    private static final LongAdder SUBMITTED = new LongAdder();
+    private static final LongAdder COMPLETED = new LongAdder();
+    private static final LongAdder REJECTED = new LongAdder();
+
+    private EventPostExecutor() {
+    }
+
+    /**
+     * Gets a snapshot of the executor counters.
+     *
+     * @return the current metrics
+     */
+    public static @NotNull Metrics metrics() {
+        return new Metrics(SUBMITTED.sum(), COMPLETED.sum(), REJECTED.sum(), PENDING.get(), CAPACITY);
+    }
+
+    /**
+     * Schedules a task, never blocks.
+     *
+     * @param task the task to run
+     * @return true if the task has been scheduled, false if it was dropped because of backpressure
+     */
+    static boolean submit(@NotNull Runnable task) {
+        if (PENDING.incrementAndGet() > CAPACITY) {
+            PENDING.decrementAndGet();
+            REJECTED.increment();
+            return false;
+        }
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    handleException(e);
+                } finally {
+                    PENDING.decrementAndGet();
+                    COMPLETED.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            PENDING.decrementAndGet();
+            REJECTED.increment();
+            return false;
+        }
+        SUBMITTED.increment();
+        return true;
+    }
+
+    private static void handleException(Throwable e) {
+        final ServerProcess process = MinecraftServer.process();
+        if (process != null) {
+            process.exception().handleException(e);
+        } else {
+            MinecraftServer.LOGGER.error("Exception in post event listener", e);
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        if (threads <= 0) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name(MinecraftServer.THREAD_NAME_EVENT_POST + "-", 0)
+                    .factory());
+        }
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform()
+                .name(MinecraftServer.THREAD_NAME_EVENT_POST + "-", 0)
+                .daemon(true)
+                .factory());
+    }
+
+    /**
+     * Counters of the post executor.
+     *
+     * @param submitted the number of tasks scheduled since startup
+     * @param completed the number of tasks which finished, normally or exceptionally
+     * @param rejected  the number of tasks dropped because the executor was saturated
+     * @param pending   the number of tasks waiting or running
+     * @param capacity  the maximum number of pending tasks
+     */
+    public record Metrics(long submitted, long completed, long rejected, int pending, int capacity) {
+    }
+}
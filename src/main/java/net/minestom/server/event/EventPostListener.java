@@ -0,0 +1,76 @@
+package net.minestom.server.event;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents a listener of the post phase of an event.
+ * <p>
+ * Post listeners are notified once every synchronous listener of the called node completed. The event is first
+ * converted to a snapshot on the dispatching thread, the listener then runs on the {@link EventPostExecutor}
+ * and therefore never delays the tick.
+ *
+ * @param <T> The event type being handled.
+ */
+@ApiStatus.Experimental
+public interface EventPostListener<T extends Event> {
+
+    @NotNull Class<T> eventType();
+
+    /**
+     * Captures the state of a completed event, called on the dispatching thread.
+     *
+     * @param event the completed event
+     * @return the task to run off-thread, null to ignore the event
+     */
+    @Nullable Runnable snapshot(@NotNull T event);
+
+    /**
+     * Creates a post listener receiving an immutable copy of the event.
+     *
+     * @param eventType The event type to handle
+     * @param snapshot  The function copying the relevant state of the event, returning null ignores the event
+     * @param listener  The handler function, executed off-thread
+     * @param <T>       The event type to handle
+     * @param <S>       The snapshot type
+     * @return A post listener with the given properties
+     */
+    @Contract(pure = true)
+    static <T extends Event, S> @NotNull EventPostListener<T> of(@NotNull Class<T> eventType,
+                                                                @NotNull Function<@NotNull T, @Nullable S> snapshot,
+                                                                @NotNull Consumer<@NotNull S> listener) {
+        return new EventPostListener<>() {
+            @Override
+            public @NotNull Class<T> eventType() {
+                return eventType;
+            }
+
+            @Override
+            public @Nullable Runnable snapshot(@NotNull T event) {
+                final S copy = snapshot.apply(event);
+                return copy != null ? () -> listener.accept(copy) : null;
+            }
+        };
+    }
+
+    /**
+     * Creates a post listener receiving the event itself.
+     * <p>
+     * The event is shared with the dispatching thread, it should only be used with immutable events.
+     *
+     * @param eventType The event type to handle
+     * @param listener  The handler function, executed off-thread
+     * @param <T>       The event type to handle
+     * @return A post listener with the given properties
+     */
+    @Contract(pure = true)
+    static <T extends Event> @NotNull EventPostListener<T> of(@NotNull Class<T> eventType,
+                                                             @NotNull Consumer<@NotNull T> listener) {
+        return of(eventType, Function.identity(), listener);
+    }
+}
@@ -0,0 +1,317 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps track of the chunks required by an {@link InstanceContainer}.
+ * <p>
+ * Chunks are held by tickets, and implicitly by the view of the players in the instance (and its shared instances).
+ * Once enabled with {@link #setAutoUnload(boolean)}, chunks without ticket are unloaded after {@link #getUnloadDelay()} ticks,
+ * modified chunks being saved beforehand using {@link IChunkLoader#saveChunk(Chunk)}.
+ * <p>
+ * A chunk budget can also be set with {@link #setChunkBudget(int)}, in which case the least recently held
+ * chunks are unloaded without delay when the instance holds too many chunks.
+ */
+public final class ChunkTicketManager {
+    /**
+     * Interval in ticks between two scans of the loaded chunks.
+     */
+    static final int SCAN_INTERVAL = 20;
+
+    private final InstanceContainer instance;
+
+    // Number of tickets covering each chunk
+    private final Long2IntOpenHashMap ticketCounts = new Long2IntOpenHashMap();
+    // Tick at which each loaded chunk was last held, used for the delay and LRU eviction
+    private final Long2LongOpenHashMap lastHeld = new Long2LongOpenHashMap();
+    // Last change time of each loaded chunk when it was loaded or saved
+    private final Long2LongOpenHashMap savedChanges = new Long2LongOpenHashMap();
+    // Chunks being saved before unloading
+    private final LongSet unloading = new LongOpenHashSet();
+    private final List<Ticket> expiringTickets = new ArrayList<>();
+    private long tick;
+
+    private volatile boolean autoUnload = ServerFlag.CHUNK_AUTO_UNLOAD;
+    private volatile int unloadDelay = ServerFlag.CHUNK_UNLOAD_DELAY;
+    private volatile int chunkBudget = ServerFlag.CHUNK_BUDGET;
+
+    ChunkTicketManager(@NotNull InstanceContainer instance) {
+        this.instance = instance;
+        this.lastHeld.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds a ticket holding the chunks in a square around a chunk, loading them if necessary.
+     *
+     * @param type   the ticket type
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param level  the radius of the square, 0 to only hold the chunk itself
+     * @return the ticket, to be removed using {@link #removeTicket(Ticket)}
+     */
+    public @NotNull Ticket addTicket(@NotNull Type type, int chunkX, int chunkZ, int level) {
+        Check.argCondition(level < 0, "Ticket level cannot be negative: {0}", level);
+        final Ticket ticket;
+        synchronized (this) {
+            ticket = new Ticket(type, chunkX, chunkZ, level, type.expiry() > 0 ? tick + type.expiry() : -1);
+            ChunkRange.chunksInRange(chunkX, chunkZ, level, (x, z) -> ticketCounts.addTo(CoordConversion.chunkIndex(x, z), 1));
+            if (ticket.expireTick != -1) expiringTickets.add(ticket);
+        }
+        ChunkRange.chunksInRange(chunkX, chunkZ, level, instance::loadChunk);
+        return ticket;
+    }
+
+    public @NotNull Ticket addTicket(@NotNull Type type, @NotNull Point point, int level) {
+        return addTicket(type, point.chunkX(), point.chunkZ(), level);
+    }
+
+    /**
+     * Removes a ticket, the chunks it held can then be unloaded.
+     * Does nothing if the ticket has already been removed or expired.
+     *
+     * @param ticket the ticket to remove
+     */
+    public synchronized void removeTicket(@NotNull Ticket ticket) {
+        if (ticket.released) return;
+        ticket.released = true;
+        if (ticket.expireTick != -1) expiringTickets.remove(ticket);
+        ChunkRange.chunksInRange(ticket.chunkX, ticket.chunkZ, ticket.level, (x, z) -> {
+            final long index = CoordConversion.chunkIndex(x, z);
+            if (ticketCounts.addTo(index, -1) == 1) {
+                ticketCounts.remove(index);
+                // Start the unload delay now
+                if (lastHeld.containsKey(index)) lastHeld.put(index, tick);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of tickets holding a chunk, without counting players.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the number of tickets
+     */
+    public synchronized int getTicketCount(int chunkX, int chunkZ) {
+        return ticketCounts.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+    }
+
+    public boolean isAutoUnload() {
+        return autoUnload;
+    }
+
+    public void setAutoUnload(boolean autoUnload) {
+        this.autoUnload = autoUnload;
+    }
+
+    public int getUnloadDelay() {
+        return unloadDelay;
+    }
+
+    /**
+     * Changes the number of ticks an unused chunk stays loaded before being unloaded.
+     *
+     * @param unloadDelay the delay in ticks
+     */
+    public void setUnloadDelay(int unloadDelay) {
+        Check.argCondition(unloadDelay < 0, "Unload delay cannot be negative: {0}", unloadDelay);
+        this.unloadDelay = unloadDelay;
+    }
+
+    public int getChunkBudget() {
+        return chunkBudget;
+    }
+
+    /**
+     * Changes the maximum number of chunks kept loaded, chunks held by a ticket or a player are never evicted.
+     *
+     * @param chunkBudget the maximum number of loaded chunks, 0 for no limit
+     */
+    public void setChunkBudget(int chunkBudget) {
+        Check.argCondition(chunkBudget < 0, "Chunk budget cannot be negative: {0}", chunkBudget);
+        this.chunkBudget = chunkBudget;
+    }
+
+    synchronized void onLoad(@NotNull Chunk chunk) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        this.lastHeld.put(index, tick);
+        this.savedChanges.put(index, chunk.getLastChangeTime());
+    }
+
+    synchronized void onUnload(@NotNull Chunk chunk) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        this.lastHeld.remove(index);
+        this.savedChanges.remove(index);
+    }
+
+    void tick() {
+        final long tick;
+        synchronized (this) {
+            tick = ++this.tick;
+            if (!expiringTickets.isEmpty()) {
+                for (Ticket ticket : List.copyOf(expiringTickets)) {
+                    if (ticket.expireTick <= tick) removeTicket(ticket);
+                }
+            }
+        }
+        final boolean autoUnload = this.autoUnload;
+        final int chunkBudget = this.chunkBudget;
+        if (!autoUnload && chunkBudget == 0) return;
+        if (tick % SCAN_INTERVAL != 0) return;
+
+        final LongSet viewed = viewedChunks();
+        List<Chunk> candidates = new ArrayList<>();
+        int loadedCount = 0;
+        synchronized (this) {
+            for (Chunk chunk : instance.getChunks()) {
+                loadedCount++;
+                final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+                if (ticketCounts.get(index) > 0 || viewed.contains(index)) {
+                    lastHeld.put(index, tick);
+                } else if (!unloading.contains(index)) {
+                    if (lastHeld.get(index) == -1) lastHeld.put(index, tick);
+                    candidates.add(chunk);
+                }
+            }
+            candidates.sort(Comparator.comparingLong(chunk ->
+                    lastHeld.get(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()))));
+        }
+        final int unloadDelay = this.unloadDelay;
+        int excess = chunkBudget > 0 ? loadedCount - unloading.size() - chunkBudget : 0;
+        for (Chunk chunk : candidates) {
+            final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+            final long held;
+            synchronized (this) {
+                held = lastHeld.get(index);
+            }
+            final boolean expired = autoUnload && tick - held >= unloadDelay;
+            if (!expired && excess <= 0) break; // Sorted by last use, next chunks are more recent
+            excess--;
+            unload(chunk, index);
+        }
+    }
+
+    /**
+     * Saves the chunk if modified, and unloads it once saved.
+     */
+    private void unload(Chunk chunk, long index) {
+        final long changeTime = chunk.getLastChangeTime();
+        final boolean dirty;
+        synchronized (this) {
+            dirty = changeTime != savedChanges.get(index);
+            if (dirty) unloading.add(index);
+        }
+        if (!dirty) {
+            instance.unloadChunk(chunk);
+            return;
+        }
+        instance.saveChunkToStorage(chunk).whenComplete((unused, throwable) -> {
+            if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+            instance.scheduleNextTick(ignored -> {
+                final boolean stillUnused;
+                synchronized (this) {
+                    unloading.remove(index);
+                    if (throwable == null) savedChanges.put(index, changeTime);
+                    // The chunk may have been modified or held again while being saved
+                    stillUnused = throwable == null && ticketCounts.get(index) == 0 &&
+                            chunk.getLastChangeTime() == changeTime && !viewedChunks().contains(index);
+                }
+                if (stillUnused && chunk.isLoaded()) instance.unloadChunk(chunk);
+            });
+        });
+    }
+
+    private LongSet viewedChunks() {
+        LongSet viewed = new LongOpenHashSet();
+        collectViewed(instance, viewed);
+        for (SharedInstance shared : instance.getSharedInstances()) collectViewed(shared, viewed);
+        return viewed;
+    }
+
+    private static void collectViewed(Instance instance, LongSet viewed) {
+        for (Player player : instance.getPlayers()) {
+            ChunkRange.chunksInRange(player.getPosition(), ServerFlag.CHUNK_VIEW_DISTANCE,
+                    (x, z) -> viewed.add(CoordConversion.chunkIndex(x, z)));
+        }
+    }
+
+    /**
+     * Type of ticket.
+     *
+     * @param name   the name of the type, for debugging
+     * @param expiry the number of ticks before tickets of this type are removed, 0 for tickets removed manually
+     */
+    public record Type(@NotNull String name, int expiry) {
+        public static final Type PLAYER = new Type("player", 0);
+        public static final Type ENTITY = new Type("entity", 0);
+        public static final Type PLUGIN = new Type("plugin", 0);
+        public static final Type SPAWN = new Type("spawn", 0);
+        /**
+         * Short-lived ticket, for example to keep chunks loaded while an entity is being teleported.
+         */
+        public static final Type TEMPORARY = new Type("temporary", 5 * ServerFlag.SERVER_TICKS_PER_SECOND);
+
+        public Type {
+            Check.argCondition(expiry < 0, "Ticket expiry cannot be negative: {0}", expiry);
+        }
+    }
+
+    /**
+     * Ticket holding a square of chunks, created by {@link #addTicket(Type, int, int, int)}.
+     */
+    public static final class Ticket {
+        private final Type type;
+        private final int chunkX, chunkZ;
+        private final int level;
+        private final long expireTick;
+        private volatile boolean released;
+
+        private Ticket(Type type, int chunkX, int chunkZ, int level, long expireTick) {
+            this.type = type;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.level = level;
+            this.expireTick = expireTick;
+        }
+
+        public @NotNull Type type() {
+            return type;
+        }
+
+        public int chunkX() {
+            return chunkX;
+        }
+
+        public int chunkZ() {
+            return chunkZ;
+        }
+
+        public int level() {
+            return level;
+        }
+
+        /**
+         * Gets if the ticket has been removed or has expired.
+         *
+         * @return true if the ticket no longer holds its chunks
+         */
+        public boolean isReleased() {
+            return released;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.network.packet.server.play.ParticlePacket;
+import net.minestom.server.network.packet.server.play.SoundEffectPacket;
+import net.minestom.server.particle.Particle;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the particles and sounds of an instance to send them at the start of its next tick.
+ * <p>
+ * Each player only receives the effects within their range, up to a budget per tick: once exceeded, identical
+ * effects are dropped first, then the farthest ones. The remaining effects are sent inside a single {@link BundlePacket}.
+ * <p>
+ * When enabled, particle and sound packets sent through {@link Instance#sendGroupedPacket(ServerPacket)}
+ * (and therefore {@link Instance#playSound(net.kyori.adventure.sound.Sound, double, double, double)}) are queued.
+ *
+ * @see ServerFlag#EFFECT_BATCHING
+ * @see ServerFlag#EFFECT_BUDGET
+ */
+public final class EffectAggregator {
+    private static final BundlePacket BUNDLE = new BundlePacket();
+    private static final double PARTICLE_RANGE = 32;
+    private static final double LONG_DISTANCE_PARTICLE_RANGE = 512;
+    private static final double SOUND_RANGE = 16;
+
+    private final Instance instance;
+    private final Map<Particle, Double> particleRanges = new ConcurrentHashMap<>();
+    private volatile boolean enabled = ServerFlag.EFFECT_BATCHING;
+    private volatile int budget = ServerFlag.EFFECT_BUDGET;
+
+    private List<Effect> pending = new ArrayList<>();
+    private volatile Metrics metrics = new Metrics(0, 0, 0, 0, 0, 0);
+
+    EffectAggregator(@NotNull Instance instance) {
+        this.instance = instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Changes whether particles and sounds sent to the instance are queued, queued effects are still sent.
+     *
+     * @param enabled true to batch the effects
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Changes the maximum number of effects sent to a player per tick.
+     *
+     * @param budget the new budget
+     */
+    public void setBudget(int budget) {
+        Check.argCondition(budget < 1 || budget > 4094, "The budget must be between 1 and 4094");
+        this.budget = budget;
+    }
+
+    /**
+     * Overrides the distance at which a particle type is visible, 32 blocks by default or 512 for long distance particles.
+     *
+     * @param particle the particle type
+     * @param range    the range in blocks
+     */
+    public void setParticleRange(@NotNull Particle particle, double range) {
+        Check.argCondition(range < 0, "The range cannot be negative");
+        this.particleRanges.put(particle, range);
+    }
+
+    /**
+     * Gets the metrics of the last flush.
+     *
+     * @return the last metrics
+     */
+    public @NotNull Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Queues a particle or sound packet, using the range of the effect.
+     *
+     * @param packet the packet to queue
+     * @return true if the packet is a positioned effect and has been queued
+     */
+    public boolean queue(@NotNull ServerPacket packet) {
+        switch (packet) {
+            case ParticlePacket particle -> {
+                final Double override = particleRanges.get(particle.particle());
+                final double range = override != null ? override :
+                        particle.longDistance() ? LONG_DISTANCE_PARTICLE_RANGE : PARTICLE_RANGE;
+                queue(packet, particle, particle.x(), particle.y(), particle.z(), range);
+            }
+            case SoundEffectPacket sound -> {
+                // The seed is random by default, ignore it when comparing sounds
+                final SoundEffectPacket key = new SoundEffectPacket(sound.soundEvent(), sound.source(),
+                        sound.x(), sound.y(), sound.z(), sound.volume(), sound.pitch(), 0);
+                queue(packet, key, sound.x(), sound.y(), sound.z(), SOUND_RANGE * Math.max(1, sound.volume()));
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Queues a packet sent to the players within a range of a position.
+     *
+     * @param packet   the packet to queue
+     * @param position the position of the effect
+     * @param range    the range in blocks
+     */
+    public void queue(@NotNull ServerPacket packet, @NotNull Point position, double range) {
+        queue(packet, packet, position.x(), position.y(), position.z(), range);
+    }
+
+    private synchronized void queue(ServerPacket packet, Object key, double x, double y, double z, double range) {
+        this.pending.add(new Effect(packet, key, x, y, z, range * range));
+    }
+
+    /**
+     * Sends the queued effects to the players of the instance.
+     */
+    void flush() {
+        final List<Effect> effects;
+        synchronized (this) {
+            effects = pending;
+            if (effects.isEmpty()) {
+                this.metrics = new Metrics(0, 0, 0, 0, 0, 0);
+                return;
+            }
+            this.pending = new ArrayList<>();
+        }
+        final int size = effects.size();
+        // Index of the first identical effect
+        int[] firstIndex = new int[size];
+        Map<Object, Integer> firsts = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            firstIndex[i] = firsts.computeIfAbsent(effects.get(i).key(), k -> index);
+        }
+        // Encoded once for all the players
+        SendablePacket[] packets = new SendablePacket[size];
+
+        final int budget = this.budget;
+        int sent = 0, culled = 0, deduplicated = 0, dropped = 0, throttled = 0;
+        IntArrayList visible = new IntArrayList();
+        double[] distances = new double[size];
+        for (Player player : instance.getPlayers()) {
+            final Pos position = player.getPosition();
+            visible.clear();
+            for (int i = 0; i < size; i++) {
+                final Effect effect = effects.get(i);
+                final double dx = effect.x() - position.x(), dy = effect.y() - position.y(), dz = effect.z() - position.z();
+                final double distance = dx * dx + dy * dy + dz * dz;
+                if (distance > effect.rangeSquared()) {
+                    culled++;
+                    continue;
+                }
+                distances[i] = distance;
+                visible.add(i);
+            }
+            if (visible.isEmpty()) continue;
+
+            if (visible.size() > budget) {
+                throttled++;
+                int unique = 0;
+                for (int j = 0; j < visible.size(); j++) {
+                    final int i = visible.getInt(j);
+                    if (firstIndex[i] == i) visible.set(unique++, i);
+                }
+                deduplicated += visible.size() - unique;
+                visible.size(unique);
+                if (visible.size() > budget) {
+                    dropped += visible.size() - budget;
+                    int[] closest = visible.toIntArray();
+                    IntArrays.quickSort(closest, (a, b) -> Double.compare(distances[a], distances[b]));
+                    closest = Arrays.copyOf(closest, budget);
+                    // Keep the queue order
+                    Arrays.sort(closest);
+                    visible.clear();
+                    visible.addElements(0, closest);
+                }
+            }
+
+            List<SendablePacket> bundle = new ArrayList<>(visible.size() + 2);
+            if (visible.size() > 1) bundle.add(BUNDLE);
+            for (int j = 0; j < visible.size(); j++) {
+                final int i = visible.getInt(j);
+                SendablePacket packet = packets[i];
+                if (packet == null) packets[i] = packet = new CachedPacket(effects.get(i).packet());
+                bundle.add(packet);
+            }
+            if (visible.size() > 1) bundle.add(BUNDLE);
+            player.sendPackets(bundle);
+            sent += visible.size();
+        }
+        this.metrics = new Metrics(size, sent, culled, deduplicated, dropped, throttled);
+    }
+
+    /**
+     * Statistics of a flush, counted per player and effect.
+     *
+     * @param queued           the number of queued effects
+     * @param sent             the number of effects sent
+     * @param culled           the number of effects out of range
+     * @param deduplicated     the number of identical effects dropped to respect the budget
+     * @param dropped          the number of distant effects dropped to respect the budget
+     * @param throttledPlayers the number of players who exceeded their budget
+     */
+    public record Metrics(int queued, int sent, int culled, int deduplicated, int dropped, int throttledPlayers) {
+    }
+
+    private record Effect(ServerPacket packet, Object key, double x, double y, double z, double rangeSquared) {
+    }
+}
@@ -60,9 +60,7 @@ public abstract class Explosion {
      */
     public void apply(@NotNull Instance instance) {
         List<Point> blocks = prepare(instance);
-        for (final Point pos : blocks) {
-            instance.setBlock(pos, Block.AIR);
-        }
+        breakBlocks(instance, blocks);
 
         ExplosionPacket packet = new ExplosionPacket(
                 new Vec(centerX, centerY, centerZ), Vec.ZERO,
@@ -73,6 +71,18 @@ public abstract class Explosion {
         postSend(instance, blocks);
     }
 
+    /**
+     * Removes the blocks returned by prepare, one by one by default.
+     *
+     * @param instance the instance in which the explosion occurs
+     * @param blocks   the block positions returned by prepare
+     */
+    protected void breakBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        for (final Point pos : blocks) {
+            instance.setBlock(pos, Block.AIR);
+        }
+    }
+
     /**
      * Called after removing blocks and preparing the packet, but before sending it.
      *
@@ -19,6 +19,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.ProjectileSystem;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
@@ -71,6 +72,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         Tickable, Schedulable, Snapshotable, EventHandler<InstanceEvent>, Taggable, PacketGroupingAudience {
 
     private boolean registered;
+    private InstanceTickGroup tickGroup;
 
     private final DynamicRegistry.Key<DimensionType> dimensionType;
     private final DimensionType cachedDimensionType; // Cached to prevent self-destruction if the registry is changed, and to avoid the lookups.
@@ -99,6 +101,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     private long lastTickAge = System.currentTimeMillis();
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final ProjectileSystem projectileSystem = new ProjectileSystem(this);
+    private final EffectAggregator effectAggregator = new EffectAggregator(this);
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -404,6 +408,39 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.registered = registered;
     }
 
+    /**
+     * Gets the group ticking this instance independently of the server tick.
+     *
+     * @return the instance tick group, null if ticked by the server
+     */
+    public @Nullable InstanceTickGroup getTickGroup() {
+        return tickGroup;
+    }
+
+    /**
+     * Changes the group ticking this instance, must be called before the instance is registered and loads chunks.
+     *
+     * @param tickGroup the new tick group, null to be ticked by the server
+     * @throws IllegalStateException if the instance is already registered or has loaded chunks
+     */
+    public void setTickGroup(@Nullable InstanceTickGroup tickGroup) {
+        Check.stateCondition(isRegistered(), "The tick group cannot be changed once the instance is registered");
+        // Loaded chunks are already partitions of the previous dispatcher
+        Check.stateCondition(!getChunks().isEmpty(), "The tick group cannot be changed once chunks are loaded");
+        this.tickGroup = tickGroup;
+    }
+
+    /**
+     * Gets the dispatcher ticking the chunks and entities of this instance.
+     *
+     * @return the dispatcher of the tick group, or the server one
+     */
+    @ApiStatus.Internal
+    public @NotNull ThreadDispatcher<Chunk> dispatcher() {
+        final InstanceTickGroup tickGroup = getTickGroup();
+        return tickGroup != null ? tickGroup.dispatcher() : MinecraftServer.process().dispatcher();
+    }
+
     /**
      * Gets the instance {@link DimensionType}.
      *
@@ -745,6 +782,30 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    /**
+     * Gets the batched projectile simulation of this instance.
+     *
+     * @return the projectile system
+     */
+    public @NotNull ProjectileSystem getProjectileSystem() {
+        return projectileSystem;
+    }
+
+    /**
+     * Gets the aggregator batching the particles and sounds of this instance.
+     *
+     * @return the effect aggregator
+     */
+    public @NotNull EffectAggregator getEffectAggregator() {
+        return effectAggregator;
+    }
+
+    @Override
+    public void sendGroupedPacket(@NotNull ServerPacket packet) {
+        if (effectAggregator.isEnabled() && effectAggregator.queue(packet)) return;
+        PacketGroupingAudience.super.sendGroupedPacket(packet);
+    }
+
     /**
      * Gets the instance unique id.
      *
@@ -776,6 +837,10 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     public void tick(long time) {
         // Scheduled tasks
         this.scheduler.processTick();
+        // Batched projectiles
+        this.projectileSystem.tick(time);
+        // Batched particles and sounds
+        this.effectAggregator.flush();
         // Time
         {
             this.worldAge++;
@@ -1,6 +1,12 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
@@ -24,6 +30,7 @@ import net.minestom.server.instance.generator.GeneratorImpl;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.network.packet.server.play.WorldEventPacket;
 import net.minestom.server.registry.DynamicRegistry;
@@ -74,6 +81,8 @@ public class InstanceContainer extends Instance {
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
 
+    private final ChunkTicketManager chunkTickets = new ChunkTicketManager(this);
+
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<Point, Block> currentlyChangingBlocks = new HashMap<>();
 
@@ -206,6 +215,56 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Sets multiple blocks of a chunk at once.
+     * <p>
+     * The lighting is invalidated once per modified section and viewers receive a single
+     * {@link MultiBlockChangePacket} per section. Placement rules and neighbour updates are not applied.
+     *
+     * @param chunk  the chunk to modify, ignored if unloaded
+     * @param blocks the blocks to set, indexed using {@link CoordConversion#chunkBlockIndex(int, int, int)}
+     */
+    public synchronized void setBlocks(@NotNull Chunk chunk, @NotNull Int2ObjectMap<Block> blocks) {
+        Check.argCondition(chunk.getInstance() != this, "The chunk must belong to this instance");
+        if (blocks.isEmpty() || chunk.isReadOnly() || !isLoaded(chunk)) return;
+        final DimensionType dim = getCachedDimensionType();
+        final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
+        Int2ObjectMap<LongArrayList> sectionChanges = new Int2ObjectOpenHashMap<>();
+        List<BlockEntityDataPacket> blockEntities = new ArrayList<>();
+        synchronized (chunk) {
+            final LightingChunk lightingChunk = chunk instanceof LightingChunk light && !light.isFreezeInvalidation() ? light : null;
+            if (lightingChunk != null) lightingChunk.setFreezeInvalidation(true);
+            try {
+                for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+                    final int index = entry.getIntKey();
+                    final int x = CoordConversion.chunkBlockIndexGetX(index);
+                    final int y = CoordConversion.chunkBlockIndexGetY(index);
+                    final int z = CoordConversion.chunkBlockIndexGetZ(index);
+                    if (y >= dim.maxY() || y < dim.minY()) continue;
+                    final Block block = entry.getValue();
+                    final int globalX = chunkX * Chunk.CHUNK_SIZE_X + x, globalZ = chunkZ * Chunk.CHUNK_SIZE_Z + z;
+                    chunk.setBlock(globalX, y, globalZ, block);
+                    final long change = (long) block.stateId() << 12 | x << 8 | z << 4 | CoordConversion.globalToSectionRelative(y);
+                    sectionChanges.computeIfAbsent(CoordConversion.globalToChunk(y), s -> new LongArrayList()).add(change);
+                    final var registry = block.registry();
+                    if (registry.isBlockEntity()) {
+                        final Vec blockPosition = new Vec(globalX, y, globalZ);
+                        blockEntities.add(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), BlockUtils.extractClientNbt(block)));
+                    }
+                }
+            } finally {
+                if (lightingChunk != null) lightingChunk.setFreezeInvalidation(false);
+            }
+            if (lightingChunk != null) lightingChunk.invalidateSections(sectionChanges.keySet());
+        }
+        refreshLastBlockChangeTime();
+
+        for (Int2ObjectMap.Entry<LongArrayList> entry : sectionChanges.int2ObjectEntrySet()) {
+            chunk.sendPacketToViewers(new MultiBlockChangePacket(chunkX, entry.getIntKey(), chunkZ, entry.getValue().toLongArray()));
+        }
+        for (BlockEntityDataPacket packet : blockEntities) chunk.sendPacketToViewers(packet);
+    }
+
     @Override
     public boolean placeBlock(@NotNull BlockHandler.Placement placement, boolean doBlockUpdates) {
         final Point blockPosition = placement.getBlockPosition();
@@ -272,7 +331,8 @@ public class InstanceContainer extends Instance {
         this.chunks.remove(CoordConversion.chunkIndex(chunkX, chunkZ));
         chunk.unload();
         chunkLoader.unloadChunk(chunk);
-        var dispatcher = MinecraftServer.process().dispatcher();
+        chunkTickets.onUnload(chunk);
+        var dispatcher = dispatcher();
         dispatcher.deletePartition(chunk);
     }
 
@@ -328,15 +388,7 @@ public class InstanceContainer extends Instance {
                 chunk = createChunk(chunkX, chunkZ);
                 chunk.onGenerate();
             }
-
-            // TODO run in the instance thread?
-            cacheChunk(chunk);
-            chunk.onLoad();
-
-            EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
-            final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
-            assert future == completableFuture : "Invalid future: " + future;
-            completableFuture.complete(chunk);
+            completeChunkLoad(index, chunk, completableFuture);
         };
         if (loader.supportsParallelLoading()) {
             Thread.startVirtualThread(() -> {
@@ -360,6 +412,143 @@ public class InstanceContainer extends Instance {
         return completableFuture;
     }
 
+    private void completeChunkLoad(long index, Chunk chunk, CompletableFuture<Chunk> completableFuture) {
+        // TODO run in the instance thread?
+        cacheChunk(chunk);
+        chunk.onLoad();
+
+        EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
+        final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
+        assert future == completableFuture : "Invalid future: " + future;
+        completableFuture.complete(chunk);
+    }
+
+    /**
+     * Loads a rectangle of chunks, the chunks missing from the {@link IChunkLoader} are generated
+     * together in a single {@link net.minestom.server.instance.generator.GenerationUnit}.
+     * <p>
+     * Generating a whole region at once lets the generator share its work (e.g. noise sampling) between chunks.
+     * Chunks already loaded or being loaded are left untouched.
+     *
+     * @param chunkX the X coordinate of the first chunk
+     * @param chunkZ the Z coordinate of the first chunk
+     * @param width  the number of chunks on the X axis
+     * @param depth  the number of chunks on the Z axis
+     * @return a future completed once every chunk of the region is loaded
+     */
+    public @NotNull CompletableFuture<Void> loadRegion(int chunkX, int chunkZ, int width, int depth) {
+        Check.argCondition(width <= 0 || depth <= 0, "Region size must be positive, got {0}x{1}", width, depth);
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(width * depth);
+        Long2ObjectMap<CompletableFuture<Chunk>> owned = new Long2ObjectOpenHashMap<>();
+        for (int z = chunkZ; z < chunkZ + depth; z++) {
+            for (int x = chunkX; x < chunkX + width; x++) {
+                final long index = CoordConversion.chunkIndex(x, z);
+                if (chunks.containsKey(index)) continue;
+                final CompletableFuture<Chunk> future = new CompletableFuture<>();
+                final CompletableFuture<Chunk> prev = loadingChunks.putIfAbsent(index, future);
+                if (prev != null) {
+                    futures.add(prev);
+                    continue;
+                }
+                owned.put(index, future);
+                futures.add(future);
+            }
+        }
+        if (!owned.isEmpty()) {
+            final IChunkLoader loader = chunkLoader;
+            final Runnable load = () -> {
+                try {
+                    loadRegion(loader, chunkX, chunkZ, width, depth, owned);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                    for (var entry : owned.long2ObjectEntrySet()) {
+                        if (loadingChunks.remove(entry.getLongKey(), entry.getValue())) {
+                            entry.getValue().completeExceptionally(e);
+                        }
+                    }
+                }
+            };
+            if (loader.supportsParallelLoading()) {
+                Thread.startVirtualThread(load);
+            } else {
+                load.run();
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private void loadRegion(IChunkLoader loader, int chunkX, int chunkZ, int width, int depth,
+                            Long2ObjectMap<CompletableFuture<Chunk>> owned) {
+        Long2ObjectMap<Chunk> loaded = new Long2ObjectOpenHashMap<>(owned.size());
+        Long2ObjectMap<Chunk> generated = new Long2ObjectOpenHashMap<>(owned.size());
+        for (long index : owned.keySet()) {
+            final int x = CoordConversion.chunkIndexGetX(index);
+            final int z = CoordConversion.chunkIndexGetZ(index);
+            Chunk chunk = loader.loadChunk(this, x, z);
+            if (chunk != null) {
+                loaded.put(index, chunk);
+                continue;
+            }
+            chunk = chunkSupplier.createChunk(this, x, z);
+            Check.notNull(chunk, "Chunks supplied by a ChunkSupplier cannot be null.");
+            generated.put(index, chunk);
+        }
+        generateRegion(chunkX, chunkZ, width, depth, generated);
+        for (var entry : owned.long2ObjectEntrySet()) {
+            final long index = entry.getLongKey();
+            Chunk chunk = loaded.get(index);
+            if (chunk == null) {
+                chunk = generated.get(index);
+                chunk.onGenerate();
+            }
+            completeChunkLoad(index, chunk, entry.getValue());
+        }
+    }
+
+    private void generateRegion(int chunkX, int chunkZ, int width, int depth, Long2ObjectMap<Chunk> chunks) {
+        if (chunks.isEmpty()) return;
+        final Generator generator = generator();
+        Long2ObjectMap<Chunk> targets = new Long2ObjectOpenHashMap<>(chunks.size());
+        for (Chunk chunk : chunks.values()) {
+            if (generator == null || !chunk.shouldGenerate()) {
+                processFork(chunk);
+            } else {
+                targets.put(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), chunk);
+            }
+        }
+        if (targets.isEmpty()) return;
+        final Chunk first = targets.values().iterator().next();
+        final int minSection = first.minSection;
+        final int height = first.getSections().size();
+        // Chunks outside the targets (loaded or generated elsewhere) get a discarded section
+        GeneratorImpl.GenSection[] genSections = new GeneratorImpl.GenSection[width * height * depth];
+        for (int z = 0; z < depth; z++) {
+            for (int x = 0; x < width; x++) {
+                final Chunk chunk = targets.get(CoordConversion.chunkIndex(chunkX + x, chunkZ + z));
+                for (int y = 0; y < height; y++) {
+                    final int i = (z * width * height) + (y * width) + x;
+                    if (chunk == null) {
+                        genSections[i] = new GeneratorImpl.GenSection();
+                        continue;
+                    }
+                    final Section section = chunk.getSections().get(y);
+                    genSections[i] = new GeneratorImpl.GenSection(section.blockPalette(), section.biomePalette());
+                }
+            }
+        }
+        var regionUnit = GeneratorImpl.area(MinecraftServer.getBiomeRegistry(), Vec.SECTION.mul(chunkX, minSection, chunkZ),
+                width, height, depth, genSections);
+        try {
+            generator.generate(regionUnit);
+            applyGeneration(regionUnit, targets);
+            for (Chunk chunk : targets.values()) processFork(chunk);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            refreshLastBlockChangeTime();
+        }
+    }
+
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
 
     protected @NotNull Chunk createChunk(int chunkX, int chunkZ) {
@@ -381,39 +570,7 @@ public class InstanceContainer extends Instance {
         try {
             // Generate block/biome palette
             generator.generate(chunkUnit);
-            // Apply nbt/handler
-            if (chunkUnit.modifier() instanceof GeneratorImpl.AreaModifierImpl chunkModifier) {
-                for (var section : chunkModifier.sections()) {
-                    if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
-                        applyGenerationData(chunk, sectionModifier);
-                    }
-                }
-            }
-            // Register forks or apply locally
-            for (var fork : chunkUnit.forks()) {
-                var sections = ((GeneratorImpl.AreaModifierImpl) fork.modifier()).sections();
-                for (var section : sections) {
-                    if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
-                        if (sectionModifier.genSection().blocks().count() == 0)
-                            continue;
-                        final Point start = section.absoluteStart();
-                        final Chunk forkChunk = start.chunkX() == chunkX && start.chunkZ() == chunkZ ? chunk : getChunkAt(start);
-                        if (forkChunk != null) {
-                            applyFork(forkChunk, sectionModifier);
-                            // Update players
-                            forkChunk.invalidate();
-                            forkChunk.sendChunk();
-                        } else {
-                            final long index = CoordConversion.chunkIndex(start);
-                            this.generationForks.compute(index, (i, sectionModifiers) -> {
-                                if (sectionModifiers == null) sectionModifiers = new ArrayList<>();
-                                sectionModifiers.add(sectionModifier);
-                                return sectionModifiers;
-                            });
-                        }
-                    }
-                }
-            }
+            applyGeneration(chunkUnit, Long2ObjectMaps.singleton(CoordConversion.chunkIndex(chunkX, chunkZ), chunk));
             // Apply awaiting forks
             processFork(chunk);
         } catch (Throwable e) {
@@ -425,6 +582,50 @@ public class InstanceContainer extends Instance {
         return chunk;
     }
 
+    /**
+     * Applies the block entities of a generated unit to its chunks, and dispatches its forks.
+     *
+     * @param unit    the generated unit
+     * @param targets the chunks being generated by the unit, by index
+     */
+    private void applyGeneration(GeneratorImpl.UnitImpl unit, Long2ObjectMap<Chunk> targets) {
+        // Apply nbt/handler
+        if (unit.modifier() instanceof GeneratorImpl.AreaModifierImpl areaModifier) {
+            for (var section : areaModifier.sections()) {
+                if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
+                    final Chunk chunk = targets.get(CoordConversion.chunkIndex(section.absoluteStart()));
+                    if (chunk != null) applyGenerationData(chunk, sectionModifier);
+                }
+            }
+        }
+        // Register forks or apply locally
+        for (var fork : unit.forks()) {
+            var sections = ((GeneratorImpl.AreaModifierImpl) fork.modifier()).sections();
+            for (var section : sections) {
+                if (section.modifier() instanceof GeneratorImpl.SectionModifierImpl sectionModifier) {
+                    if (sectionModifier.genSection().blocks().count() == 0)
+                        continue;
+                    final Point start = section.absoluteStart();
+                    final Chunk localChunk = targets.get(CoordConversion.chunkIndex(start));
+                    final Chunk forkChunk = localChunk != null ? localChunk : getChunkAt(start);
+                    if (forkChunk != null) {
+                        applyFork(forkChunk, sectionModifier);
+                        // Update players
+                        forkChunk.invalidate();
+                        forkChunk.sendChunk();
+                    } else {
+                        final long index = CoordConversion.chunkIndex(start);
+                        this.generationForks.compute(index, (i, sectionModifiers) -> {
+                            if (sectionModifiers == null) sectionModifiers = new ArrayList<>();
+                            sectionModifiers.add(sectionModifier);
+                            return sectionModifiers;
+                        });
+                    }
+                }
+            }
+        }
+    }
+
     private void processFork(Chunk chunk) {
         this.generationForks.compute(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), (aLong, sectionModifiers) -> {
             if (sectionModifiers != null) {
@@ -628,6 +829,15 @@ public class InstanceContainer extends Instance {
         this.chunkLoader = Objects.requireNonNull(chunkLoader, "Chunk loader cannot be null");
     }
 
+    /**
+     * Gets the {@link ChunkTicketManager} deciding which chunks are kept loaded.
+     *
+     * @return the chunk ticket manager of this instance
+     */
+    public @NotNull ChunkTicketManager chunkTickets() {
+        return chunkTickets;
+    }
+
     @Override
     public void tick(long time) {
         // Time/world border
@@ -637,6 +847,8 @@ public class InstanceContainer extends Instance {
         wrlock.lock();
         this.currentlyChangingBlocks.clear();
         wrlock.unlock();
+        // Expire tickets and unload unused chunks
+        this.chunkTickets.tick();
     }
 
     /**
@@ -702,7 +914,8 @@ public class InstanceContainer extends Instance {
 
     private void cacheChunk(@NotNull Chunk chunk) {
         this.chunks.put(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), chunk);
-        var dispatcher = MinecraftServer.process().dispatcher();
+        this.chunkTickets.onLoad(chunk);
+        var dispatcher = dispatcher();
         dispatcher.createPartition(chunk);
     }
 }
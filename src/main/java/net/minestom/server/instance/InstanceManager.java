@@ -1,6 +1,5 @@
 package net.minestom.server.instance;
 
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.instance.InstanceRegisterEvent;
@@ -124,12 +123,14 @@ public final class InstanceManager {
             // Unload all chunks
             if (instance instanceof InstanceContainer) {
                 instance.getChunks().forEach(instance::unloadChunk);
-                var dispatcher = MinecraftServer.process().dispatcher();
+                var dispatcher = instance.dispatcher();
                 instance.getChunks().forEach(dispatcher::deletePartition);
             }
             // Unregister
             instance.setRegistered(false);
             this.instances.remove(instance);
+            final InstanceTickGroup tickGroup = instance.getTickGroup();
+            if (tickGroup != null) tickGroup.unregister(instance);
         }
     }
 
@@ -166,8 +167,10 @@ public final class InstanceManager {
     private void UNSAFE_registerInstance(@NotNull Instance instance) {
         instance.setRegistered(true);
         this.instances.add(instance);
-        var dispatcher = MinecraftServer.process().dispatcher();
+        var dispatcher = instance.dispatcher();
         instance.getChunks().forEach(dispatcher::createPartition);
+        final InstanceTickGroup tickGroup = instance.getTickGroup();
+        if (tickGroup != null) tickGroup.register(instance);
         InstanceRegisterEvent event = new InstanceRegisterEvent(instance);
         EventDispatcher.call(event);
     }
@@ -0,0 +1,174 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.thread.ThreadDispatcher;
+import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickSchedulerThread;
+import net.minestom.server.utils.PacketViewableUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Group of instances ticked by their own loop, independently of the server tick.
+ * <p>
+ * The group owns the {@link ThreadDispatcher} of the chunks and entities of its instances, and runs at its own
+ * tick rate. An overloaded group therefore only slows down its own instances.
+ * <p>
+ * Assigned using {@link Instance#setTickGroup(InstanceTickGroup)} before registering the instance,
+ * the loop starts with the first registered instance and idles while the group is empty, until {@link #shutdown()}.
+ */
+public final class InstanceTickGroup {
+    private final String name;
+    private final int ticksPerSecond;
+    private final int maxTickCatchUp;
+    private final ThreadDispatcher<Chunk> dispatcher;
+    private final Set<Instance> instances = new CopyOnWriteArraySet<>();
+
+    // Single loop of the group, started on the first registration
+    private TickSchedulerThread thread;
+    private volatile boolean shutdown;
+
+    // Metrics
+    private volatile double tickTime;
+    private volatile double tps;
+    private long lastTickStart;
+
+    /**
+     * Creates a tick group.
+     *
+     * @param name           the group name, used for thread names
+     * @param ticksPerSecond the tick rate of the group
+     * @param threadCount    the number of threads ticking the chunks and entities of the group
+     * @param maxTickCatchUp the number of late ticks after which the group stops catching up
+     */
+    public InstanceTickGroup(@NotNull String name, int ticksPerSecond, int threadCount, int maxTickCatchUp) {
+        Check.argCondition(ticksPerSecond <= 0, "Tick rate must be positive");
+        Check.argCondition(threadCount <= 0, "Thread count must be positive");
+        this.name = name;
+        this.ticksPerSecond = ticksPerSecond;
+        this.maxTickCatchUp = maxTickCatchUp;
+        this.dispatcher = ThreadDispatcher.of(ThreadProvider.counter(),
+                index -> MinecraftServer.THREAD_NAME_TICK + "-" + name + "-" + index, threadCount);
+        this.tps = ticksPerSecond;
+    }
+
+    public InstanceTickGroup(@NotNull String name, int ticksPerSecond, int threadCount) {
+        this(name, ticksPerSecond, threadCount, ServerFlag.SERVER_MAX_TICK_CATCH_UP);
+    }
+
+    public @NotNull String getName() {
+        return name;
+    }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the registered instances of this group.
+     *
+     * @return an unmodifiable view of the group instances
+     */
+    public @Unmodifiable @NotNull Set<@NotNull Instance> getInstances() {
+        return Collections.unmodifiableSet(instances);
+    }
+
+    /**
+     * Gets the duration of the last tick.
+     *
+     * @return the last tick time in milliseconds
+     */
+    public double getTickTime() {
+        return tickTime;
+    }
+
+    /**
+     * Gets the measured tick rate, smoothed over the last ticks.
+     * <p>
+     * Lower than {@link #getTicksPerSecond()} when the group cannot keep up.
+     *
+     * @return the measured ticks per second
+     */
+    public double getTps() {
+        return tps;
+    }
+
+    @ApiStatus.Internal
+    public @NotNull ThreadDispatcher<Chunk> dispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Ticks every instance of the group, then their chunks and entities.
+     *
+     * @param nanoTime the tick start in nanoseconds
+     */
+    @ApiStatus.Internal
+    public void tick(long nanoTime) {
+        final long msTime = System.currentTimeMillis();
+        for (Instance instance : instances) {
+            try {
+                instance.tick(msTime);
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        // Tick all chunks (and entities inside)
+        dispatcher.updateAndAwait(msTime);
+        // Clear removed entities & update threads
+        final long tickTime = System.currentTimeMillis() - msTime;
+        dispatcher.refreshThreads(tickTime);
+        // Flush the waiting packets of the group
+        PacketViewableUtils.flush(this);
+
+        // Metrics
+        this.tickTime = (System.nanoTime() - nanoTime) / 1e6D;
+        final long lastTickStart = this.lastTickStart;
+        if (lastTickStart != 0) {
+            final double currentTps = 1e9D / Math.max(1, nanoTime - lastTickStart);
+            // Exponential moving average over ~1 second
+            final double alpha = 1D / ticksPerSecond;
+            this.tps = Math.min(ticksPerSecond, tps + alpha * (currentTps - tps));
+        }
+        this.lastTickStart = nanoTime;
+    }
+
+    synchronized void register(@NotNull Instance instance) {
+        Check.stateCondition(shutdown, "The tick group has been shut down");
+        this.instances.add(instance);
+        if (thread != null) return;
+        this.thread = new TickSchedulerThread(MinecraftServer.THREAD_NAME_TICK_SCHEDULER + "-" + name,
+                ticksPerSecond, maxTickCatchUp, () -> !shutdown, nanoTime -> {
+            if (instances.isEmpty()) {
+                // Idle, do not account for the pause in the tick rate
+                this.lastTickStart = 0;
+                return;
+            }
+            // Only tick alongside the server
+            if (MinecraftServer.process().isAlive()) tick(nanoTime);
+        }, MinecraftServer.getExceptionManager());
+        this.thread.start();
+    }
+
+    synchronized void unregister(@NotNull Instance instance) {
+        this.instances.remove(instance);
+    }
+
+    /**
+     * Stops the tick loop and the dispatcher threads.
+     * <p>
+     * Action is irreversible.
+     */
+    @ApiStatus.Internal
+    public synchronized void shutdown() {
+        this.shutdown = true;
+        this.dispatcher.shutdown();
+    }
+}
@@ -1,5 +1,6 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.IntCollection;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
@@ -113,6 +114,22 @@ public class LightingChunk extends DynamicChunk {
         this.freezeInvalidation = freezeInvalidation;
     }
 
+    boolean isFreezeInvalidation() {
+        return freezeInvalidation;
+    }
+
+    /**
+     * Invalidates the lighting once after a bulk change made while the invalidation was frozen.
+     *
+     * @param sections the section coordinates that changed
+     */
+    void invalidateSections(@NotNull IntCollection sections) {
+        if (!doneInit || freezeInvalidation) return;
+        sections.forEach(this::invalidateNeighborsSection);
+        invalidateResendDelay();
+        this.partialLightCache.invalidate();
+    }
+
     public void invalidateNeighborsSection(int coordinate) {
         if (freezeInvalidation) {
             return;
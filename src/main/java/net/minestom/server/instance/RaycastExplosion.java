@@ -0,0 +1,268 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.entity.damage.DamageType;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Explosion following the vanilla algorithm.
+ * <p>
+ * Rays are cast in parallel over a read-only copy of the surrounding block palettes, the destroyed blocks
+ * are then removed section by section using {@link InstanceContainer#setBlocks(Chunk, Int2ObjectMap)}.
+ * Entities in range are damaged and pushed depending on how exposed they are to the explosion.
+ */
+public class RaycastExplosion extends Explosion {
+    public static final ExplosionSupplier SUPPLIER = (centerX, centerY, centerZ, strength, additionalData) ->
+            new RaycastExplosion(centerX, centerY, centerZ, strength);
+
+    private static final int RAY_GRID = 16;
+    private static final float RAY_STEP = 0.3f;
+    private static final float RAY_DECAY = 0.22500001f;
+    private static final float[] RAYS = createRays();
+
+    public RaycastExplosion(float centerX, float centerY, float centerZ, float strength) {
+        super(centerX, centerY, centerZ, strength);
+    }
+
+    @Override
+    protected List<Point> prepare(Instance instance) {
+        final float strength = getStrength();
+        final double radius = strength * 2.0;
+        // Covers both the block rays and the exposure rays of the entities in range
+        final double maxRayDistance = strength * 1.3 / RAY_DECAY * RAY_STEP;
+        final Snapshot snapshot = Snapshot.capture(instance, getCenterX(), getCenterY(), getCenterZ(),
+                (int) Math.ceil(Math.max(maxRayDistance, radius)) + 2);
+
+        final LongOpenHashSet positions = IntStream.range(0, RAYS.length / 3).parallel()
+                .collect(LongOpenHashSet::new, (set, ray) -> castRay(snapshot, ray, set), LongOpenHashSet::addAll);
+        List<Point> blocks = new ArrayList<>(positions.size());
+        positions.forEach((long packed) -> blocks.add(unpack(packed)));
+
+        pushEntities(instance, snapshot, radius);
+        return blocks;
+    }
+
+    @Override
+    protected void breakBlocks(@NotNull Instance instance, @NotNull List<Point> blocks) {
+        final InstanceContainer container;
+        if (instance instanceof InstanceContainer instanceContainer) {
+            container = instanceContainer;
+        } else if (instance instanceof SharedInstance sharedInstance) {
+            container = sharedInstance.getInstanceContainer();
+        } else {
+            super.breakBlocks(instance, blocks);
+            return;
+        }
+
+        Long2ObjectMap<Int2ObjectMap<Block>> chunks = new Long2ObjectOpenHashMap<>();
+        for (Point point : blocks) {
+            chunks.computeIfAbsent(CoordConversion.chunkIndex(point), index -> new Int2ObjectOpenHashMap<>())
+                    .put(CoordConversion.chunkBlockIndex(point.blockX(), point.blockY(), point.blockZ()), Block.AIR);
+        }
+        for (Long2ObjectMap.Entry<Int2ObjectMap<Block>> entry : chunks.long2ObjectEntrySet()) {
+            final long index = entry.getLongKey();
+            final Chunk chunk = container.getChunk(CoordConversion.chunkIndexGetX(index), CoordConversion.chunkIndexGetZ(index));
+            if (chunk != null) container.setBlocks(chunk, entry.getValue());
+        }
+    }
+
+    private void castRay(Snapshot snapshot, int ray, LongOpenHashSet positions) {
+        final double dirX = RAYS[ray * 3] * RAY_STEP;
+        final double dirY = RAYS[ray * 3 + 1] * RAY_STEP;
+        final double dirZ = RAYS[ray * 3 + 2] * RAY_STEP;
+        double x = getCenterX(), y = getCenterY(), z = getCenterZ();
+        float intensity = getStrength() * (0.7f + ThreadLocalRandom.current().nextFloat() * 0.6f);
+        for (; intensity > 0; intensity -= RAY_DECAY) {
+            final int blockX = (int) Math.floor(x), blockY = (int) Math.floor(y), blockZ = (int) Math.floor(z);
+            final int stateId = snapshot.stateAt(blockX, blockY, blockZ);
+            if (stateId != Block.AIR.stateId()) {
+                final Block block = Block.fromStateId(stateId);
+                final double resistance = block != null ? block.registry().explosionResistance() : 0;
+                intensity -= (float) ((resistance + 0.3) * 0.3);
+                if (intensity > 0) positions.add(pack(blockX, blockY, blockZ));
+            }
+            x += dirX;
+            y += dirY;
+            z += dirZ;
+        }
+    }
+
+    private void pushEntities(Instance instance, Snapshot snapshot, double radius) {
+        final Vec center = new Vec(getCenterX(), getCenterY(), getCenterZ());
+        List<Entity> entities = new ArrayList<>();
+        instance.getEntityTracker().nearbyEntities(center, radius, EntityTracker.Target.ENTITIES, entities::add);
+        for (Entity entity : entities) {
+            if (entity instanceof Player player && (player.getGameMode() == GameMode.SPECTATOR ||
+                    (player.getGameMode() == GameMode.CREATIVE && player.isFlying()))) continue;
+            final Pos position = entity.getPosition();
+            final double distance = position.distance(center) / radius;
+            if (distance > 1) continue;
+            final Vec direction = position.add(0, entity.getEyeHeight(), 0).sub(center).asVec();
+            if (direction.isZero()) continue;
+
+            final double impact = (1 - distance) * snapshot.exposure(center, position, entity.getBoundingBox());
+            if (entity instanceof LivingEntity living) {
+                living.damage(DamageType.EXPLOSION, (float) ((impact * impact + impact) / 2 * 7 * radius + 1));
+            }
+            final Vec knockback = direction.normalize().mul(impact * ServerFlag.SERVER_TICKS_PER_SECOND);
+            entity.setVelocity(entity.getVelocity().add(knockback));
+        }
+    }
+
+    private static float[] createRays() {
+        List<Vec> rays = new ArrayList<>();
+        for (int x = 0; x < RAY_GRID; x++) {
+            for (int y = 0; y < RAY_GRID; y++) {
+                for (int z = 0; z < RAY_GRID; z++) {
+                    // Only the surface of the cube
+                    if (x != 0 && x != RAY_GRID - 1 && y != 0 && y != RAY_GRID - 1 && z != 0 && z != RAY_GRID - 1)
+                        continue;
+                    rays.add(new Vec(x, y, z).div(RAY_GRID - 1).mul(2).sub(1, 1, 1).normalize());
+                }
+            }
+        }
+        float[] result = new float[rays.size() * 3];
+        for (int i = 0; i < rays.size(); i++) {
+            final Vec ray = rays.get(i);
+            result[i * 3] = (float) ray.x();
+            result[i * 3 + 1] = (float) ray.y();
+            result[i * 3 + 2] = (float) ray.z();
+        }
+        return result;
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    private static Point unpack(long packed) {
+        return new Vec((int) (packed >> 38), (int) (packed << 52 >> 52), (int) (packed << 26 >> 38));
+    }
+
+    /**
+     * Copy of the block palettes around the explosion, safe to read from multiple threads.
+     * Unloaded chunks and positions outside the world are considered as air.
+     */
+    private record Snapshot(int minChunkX, int minChunkZ, int sizeX, int sizeZ,
+                            int minSection, int sectionCount, Palette[] palettes) {
+        static Snapshot capture(Instance instance, double centerX, double centerY, double centerZ, int range) {
+            final int minChunkX = CoordConversion.globalToChunk(centerX - range);
+            final int minChunkZ = CoordConversion.globalToChunk(centerZ - range);
+            final int sizeX = CoordConversion.globalToChunk(centerX + range) - minChunkX + 1;
+            final int sizeZ = CoordConversion.globalToChunk(centerZ + range) - minChunkZ + 1;
+            final int minSection = CoordConversion.globalToChunk(centerY - range);
+            final int sectionCount = CoordConversion.globalToChunk(centerY + range) - minSection + 1;
+            Palette[] palettes = new Palette[sizeX * sizeZ * sectionCount];
+            for (int x = 0; x < sizeX; x++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    final Chunk chunk = instance.getChunk(minChunkX + x, minChunkZ + z);
+                    if (chunk == null || !chunk.isLoaded()) continue;
+                    final int from = Math.max(minSection, chunk.getMinSection());
+                    final int to = Math.min(minSection + sectionCount, chunk.getMaxSection());
+                    synchronized (chunk) {
+                        for (int section = from; section < to; section++) {
+                            palettes[(x * sizeZ + z) * sectionCount + section - minSection] =
+                                    chunk.getSection(section).blockPalette().clone();
+                        }
+                    }
+                }
+            }
+            return new Snapshot(minChunkX, minChunkZ, sizeX, sizeZ, minSection, sectionCount, palettes);
+        }
+
+        int stateAt(int x, int y, int z) {
+            final int chunkX = CoordConversion.globalToChunk(x) - minChunkX;
+            final int chunkZ = CoordConversion.globalToChunk(z) - minChunkZ;
+            final int section = CoordConversion.globalToChunk(y) - minSection;
+            if (chunkX < 0 || chunkX >= sizeX || chunkZ < 0 || chunkZ >= sizeZ || section < 0 || section >= sectionCount)
+                return Block.AIR.stateId();
+            final Palette palette = palettes[(chunkX * sizeZ + chunkZ) * sectionCount + section];
+            if (palette == null) return Block.AIR.stateId();
+            return palette.get(CoordConversion.globalToSectionRelative(x),
+                    CoordConversion.globalToSectionRelative(y),
+                    CoordConversion.globalToSectionRelative(z));
+        }
+
+        /**
+         * Gets the fraction of points on a grid covering the bounding box with a clear line of sight to the center.
+         */
+        double exposure(Point center, Point position, BoundingBox boundingBox) {
+            final double minX = position.x() + boundingBox.minX(), maxX = position.x() + boundingBox.maxX();
+            final double minY = position.y() + boundingBox.minY(), maxY = position.y() + boundingBox.maxY();
+            final double minZ = position.z() + boundingBox.minZ(), maxZ = position.z() + boundingBox.maxZ();
+            final double stepX = 1 / ((maxX - minX) * 2 + 1);
+            final double stepY = 1 / ((maxY - minY) * 2 + 1);
+            final double stepZ = 1 / ((maxZ - minZ) * 2 + 1);
+            final double offsetX = (1 - Math.floor(1 / stepX) * stepX) / 2;
+            final double offsetZ = (1 - Math.floor(1 / stepZ) * stepZ) / 2;
+            int visible = 0, total = 0;
+            for (double a = 0; a <= 1; a += stepX) {
+                for (double b = 0; b <= 1; b += stepY) {
+                    for (double c = 0; c <= 1; c += stepZ) {
+                        final double x = minX + (maxX - minX) * a + offsetX;
+                        final double y = minY + (maxY - minY) * b;
+                        final double z = minZ + (maxZ - minZ) * c + offsetZ;
+                        if (isClear(x, y, z, center.x(), center.y(), center.z())) visible++;
+                        total++;
+                    }
+                }
+            }
+            return total == 0 ? 0 : (double) visible / total;
+        }
+
+        /**
+         * Walks the blocks crossed by the segment, returns false if a solid block is hit.
+         */
+        private boolean isClear(double fromX, double fromY, double fromZ, double toX, double toY, double toZ) {
+            int x = (int) Math.floor(fromX), y = (int) Math.floor(fromY), z = (int) Math.floor(fromZ);
+            final int endX = (int) Math.floor(toX), endY = (int) Math.floor(toY), endZ = (int) Math.floor(toZ);
+            final double dx = toX - fromX, dy = toY - fromY, dz = toZ - fromZ;
+            final int stepX = (int) Math.signum(dx), stepY = (int) Math.signum(dy), stepZ = (int) Math.signum(dz);
+            final double deltaX = dx == 0 ? Double.MAX_VALUE : Math.abs(1 / dx);
+            final double deltaY = dy == 0 ? Double.MAX_VALUE : Math.abs(1 / dy);
+            final double deltaZ = dz == 0 ? Double.MAX_VALUE : Math.abs(1 / dz);
+            double maxX = dx == 0 ? Double.MAX_VALUE : (dx > 0 ? x + 1 - fromX : fromX - x) * deltaX;
+            double maxY = dy == 0 ? Double.MAX_VALUE : (dy > 0 ? y + 1 - fromY : fromY - y) * deltaY;
+            double maxZ = dz == 0 ? Double.MAX_VALUE : (dz > 0 ? z + 1 - fromZ : fromZ - z) * deltaZ;
+            while (true) {
+                final Block block = Block.fromStateId(stateAt(x, y, z));
+                if (block != null && block.isSolid()) return false;
+                if (x == endX && y == endY && z == endZ) return true;
+                if (maxX < maxY && maxX < maxZ) {
+                    if (maxX > 1) return true;
+                    x += stepX;
+                    maxX += deltaX;
+                } else if (maxY < maxZ) {
+                    if (maxY > 1) return true;
+                    y += stepY;
+                    maxY += deltaY;
+                } else {
+                    if (maxZ > 1) return true;
+                    z += stepZ;
+                    maxZ += deltaZ;
+                }
+            }
+        }
+    }
+}
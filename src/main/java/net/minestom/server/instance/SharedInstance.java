@@ -96,6 +96,17 @@ public class SharedInstance extends Instance {
         instanceContainer.setGenerator(generator);
     }
 
+    @Override
+    public @Nullable InstanceTickGroup getTickGroup() {
+        // Chunks are shared, and therefore ticked by the container dispatcher
+        return instanceContainer.getTickGroup();
+    }
+
+    @Override
+    public void setTickGroup(@Nullable InstanceTickGroup tickGroup) {
+        instanceContainer.setTickGroup(tickGroup);
+    }
+
     @NotNull
     @Override
     public Collection<Chunk> getChunks() {
@@ -1,11 +1,27 @@
 package net.minestom.server.instance.generator;
 
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Point;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 
 @FunctionalInterface
 public interface Generator {
+    /**
+     * Creates a generator splitting each unit into its sections, generated in parallel on the generation pool.
+     * <p>
+     * The given generator must be thread-safe, and only modify the section it receives.
+     * Blocks outside the section must be placed using {@link GenerationUnit#fork(Point, Point)}.
+     * The pool size is defined by {@link ServerFlag#GENERATION_THREADS}.
+     *
+     * @param generator the section generator
+     * @return a generator running {@code generator} concurrently on each section
+     */
+    static @NotNull Generator parallel(@NotNull Generator generator) {
+        return unit -> GeneratorImpl.generateParallel(generator, unit);
+    }
+
     /**
      * This method is called when this generator is requesting this unit to be filled with blocks or biomes.
      *
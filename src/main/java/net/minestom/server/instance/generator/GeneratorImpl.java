@@ -2,6 +2,8 @@ package net.minestom.server.instance.generator;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
@@ -16,12 +18,24 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static net.minestom.server.coordinate.CoordConversion.*;
 
 @ApiStatus.Internal
 public final class GeneratorImpl {
+    private static final AtomicInteger GENERATION_THREAD_COUNTER = new AtomicInteger();
+    static final ForkJoinPool GENERATION_POOL = new ForkJoinPool(ServerFlag.GENERATION_THREADS, pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(MinecraftServer.THREAD_NAME_GENERATION + "-" + GENERATION_THREAD_COUNTER.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
     public record GenSection(Palette blocks, Palette biomes, Int2ObjectMap<Block> specials) {
         public GenSection(Palette blocks, Palette biomes) {
             this(blocks, biomes, new Int2ObjectOpenHashMap<>(0));
@@ -35,11 +49,17 @@ public final class GeneratorImpl {
     static GenerationUnit section(DynamicRegistry<Biome> biomeRegistry, GenSection section,
                                   int sectionX, int sectionY, int sectionZ,
                                   boolean fork) {
+        return section(biomeRegistry, section, sectionX, sectionY, sectionZ, fork, new CopyOnWriteArrayList<>());
+    }
+
+    private static GenerationUnit section(DynamicRegistry<Biome> biomeRegistry, GenSection section,
+                                          int sectionX, int sectionY, int sectionZ,
+                                          boolean fork, List<UnitImpl> forks) {
         final Vec start = Vec.SECTION.mul(sectionX, sectionY, sectionZ);
         final Vec end = start.add(Vec.SECTION);
         final UnitModifier modifier = new SectionModifierImpl(biomeRegistry, Vec.SECTION,
                 start, end, section, fork);
-        return unit(biomeRegistry, modifier, start, end, null);
+        return unit(biomeRegistry, modifier, start, end, null, forks);
     }
 
     public static GenerationUnit section(DynamicRegistry<Biome> biomeRegistry, GenSection section, int sectionX, int sectionY, int sectionZ) {
@@ -59,6 +79,8 @@ public final class GeneratorImpl {
             throw new IllegalArgumentException("Invalid section count, expected " + width * height * depth + " but got " + areaSections.length);
         }
 
+        // Subdivided units share the forks of the area, so that forks created by section generators are not lost
+        final List<UnitImpl> forks = new CopyOnWriteArrayList<>();
         List<GenerationUnit> sections = new ArrayList<>();
         for (int i = 0; i < areaSections.length; i++) {
             GenSection section = areaSections[i];
@@ -66,18 +88,23 @@ public final class GeneratorImpl {
             final int sectionX = (int) point.x() + start.chunkX();
             final int sectionY = (int) point.y() + start.section();
             final int sectionZ = (int) point.z() + start.chunkZ();
-            sections.add(section(biomeRegistry, section, sectionX, sectionY, sectionZ));
+            sections.add(section(biomeRegistry, section, sectionX, sectionY, sectionZ, false, forks));
         }
         sections = List.copyOf(sections);
 
         final Point size = Vec.SECTION.mul(width, height, depth);
         final Point end = start.add(size);
         final UnitModifier modifier = new AreaModifierImpl(size, start, end, width, height, depth, sections);
-        return unit(biomeRegistry, modifier, start, end, sections);
+        return unit(biomeRegistry, modifier, start, end, sections, forks);
     }
 
     public static UnitImpl unit(DynamicRegistry<Biome> biomeRegistry, UnitModifier modifier, Point start, Point end,
                                 List<GenerationUnit> divided) {
+        return unit(biomeRegistry, modifier, start, end, divided, new CopyOnWriteArrayList<>());
+    }
+
+    private static UnitImpl unit(DynamicRegistry<Biome> biomeRegistry, UnitModifier modifier, Point start, Point end,
+                                 List<GenerationUnit> divided, List<UnitImpl> forks) {
         if (start.x() > end.x() || start.y() > end.y() || start.z() > end.z()) {
             throw new IllegalArgumentException("absoluteStart must be before absoluteEnd");
         }
@@ -88,7 +115,31 @@ public final class GeneratorImpl {
             throw new IllegalArgumentException("absoluteEnd must be a multiple of 16");
         }
         final Point size = end.sub(start);
-        return new UnitImpl(biomeRegistry, modifier, size, start, end, divided, new CopyOnWriteArrayList<>());
+        return new UnitImpl(biomeRegistry, modifier, size, start, end, divided, forks);
+    }
+
+    /**
+     * Runs the generator on each subdivision of the unit in parallel, using the generation pool.
+     * <p>
+     * Returns once every subdivision has been generated, the first failure is rethrown.
+     */
+    static void generateParallel(Generator generator, GenerationUnit unit) {
+        final List<GenerationUnit> divided = unit.subdivide();
+        if (divided.size() <= 1) {
+            generator.generateAll(divided);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(divided.size());
+        for (GenerationUnit section : divided) {
+            tasks.add(ForkJoinTask.adapt(() -> generator.generate(section)));
+        }
+        if (ForkJoinTask.getPool() == GENERATION_POOL) {
+            // Already in a worker, help instead of blocking
+            ForkJoinTask.invokeAll(tasks);
+            return;
+        }
+        for (ForkJoinTask<?> task : tasks) GENERATION_POOL.execute(task);
+        for (ForkJoinTask<?> task : tasks) task.join();
     }
 
     static final class DynamicFork implements Block.Setter {
@@ -1,5 +1,6 @@
 package net.minestom.server.inventory;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
@@ -31,6 +32,12 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
 
     private static final VarHandle ITEM_UPDATER = MethodHandles.arrayElementVarHandle(ItemStack[].class);
 
+    // Estimated sizes in bytes used to choose between slot packets and a full window packet
+    private static final int SLOT_PACKET_OVERHEAD = 6;
+    private static final int WINDOW_PACKET_OVERHEAD = 6;
+    private static final int AIR_SIZE = 1;
+    private static final int ITEM_SIZE = 16;
+
     private final int size;
     protected final ItemStack[] itemStacks;
 
@@ -43,6 +50,11 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
     protected final Set<Player> viewers = new CopyOnWriteArraySet<>();
     protected final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
 
+    // Slots modified since the last flush when updates are batched, guarded by this
+    private volatile boolean batchUpdates;
+    private final BitSet dirtySlots = new BitSet();
+    private boolean flushScheduled;
+
     protected AbstractInventory(int size) {
         this.size = size;
         this.itemStacks = new ItemStack[getSize()];
@@ -124,7 +136,12 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
 
     protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack item, @NotNull ItemStack previous, boolean sendPacket) {
         itemStacks[slot] = item;
-        if (sendPacket) sendSlotRefresh(slot, item);
+        if (!sendPacket) return;
+        if (batchUpdates) {
+            markDirty(slot);
+        } else {
+            sendSlotRefresh(slot, item);
+        }
     }
 
     public void sendSlotRefresh(int slot, @NotNull ItemStack item) {
@@ -201,6 +218,65 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
         setItemStack(slot, operator.apply(currentItem));
     }
 
+    /**
+     * Gets if slot updates are batched, see {@link #setBatchUpdates(boolean)}.
+     *
+     * @return true if slot updates are sent at the end of the tick
+     */
+    public boolean isBatchUpdates() {
+        return batchUpdates;
+    }
+
+    /**
+     * Changes if slot updates are sent immediately or batched until the end of the tick.
+     * <p>
+     * When batched, modified slots are recorded and sent once at the end of the tick, a slot modified multiple times
+     * is only sent with its last item. Depending on which is smaller, either one packet per modified slot
+     * or a single {@link WindowItemsPacket} is sent. {@link InventoryItemChangeEvent} is still called for every modification.
+     * <p>
+     * Useful for menus updating many slots every tick.
+     *
+     * @param batchUpdates true to send slot updates at the end of the tick
+     */
+    public void setBatchUpdates(boolean batchUpdates) {
+        this.batchUpdates = batchUpdates;
+        if (!batchUpdates) flushUpdates();
+    }
+
+    private void markDirty(int slot) {
+        this.dirtySlots.set(slot);
+        if (!flushScheduled) {
+            this.flushScheduled = true;
+            MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flushUpdates);
+        }
+    }
+
+    /**
+     * Sends the slots modified since the last flush to the viewers, called automatically at the end of the tick
+     * when updates are batched.
+     */
+    public synchronized void flushUpdates() {
+        this.flushScheduled = false;
+        final BitSet dirtySlots = this.dirtySlots;
+        if (dirtySlots.isEmpty()) return;
+        // Compare the estimated size of the slot packets to the one of a full refresh
+        int slotsSize = 0;
+        int fullSize = WINDOW_PACKET_OVERHEAD + ITEM_SIZE; // Cursor item
+        for (int i = 0; i < itemStacks.length; i++) {
+            final int itemSize = itemStacks[i].isAir() ? AIR_SIZE : ITEM_SIZE;
+            fullSize += itemSize;
+            if (dirtySlots.get(i)) slotsSize += SLOT_PACKET_OVERHEAD + itemSize;
+        }
+        if (slotsSize <= fullSize) {
+            for (int slot = dirtySlots.nextSetBit(0); slot >= 0; slot = dirtySlots.nextSetBit(slot + 1)) {
+                sendSlotRefresh(slot, itemStacks[slot]);
+            }
+            dirtySlots.clear();
+        } else {
+            update();
+        }
+    }
+
     /**
      * Clears the inventory and send relevant update to the viewer(s).
      */
@@ -217,6 +293,10 @@ public sealed abstract class AbstractInventory implements InventoryClickHandler,
      * Refreshes the inventory for all viewers.
      */
     public void update() {
+        synchronized (this) {
+            // Pending slot updates are included in the refresh
+            this.dirtySlots.clear();
+        }
         this.viewers.forEach(this::update);
     }
 
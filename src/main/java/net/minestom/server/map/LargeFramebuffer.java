@@ -26,6 +26,25 @@ public interface LargeFramebuffer {
 
     byte getMapColor(int x, int y);
 
+    /**
+     * Copies the map colors of a region of this framebuffer, the region must be within bounds.
+     *
+     * @param left   the X coordinate of the region
+     * @param top    the Y coordinate of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @param colors the array receiving the colors
+     * @param offset the index of the region first color in {@code colors}
+     * @param stride the number of colors between two lines in {@code colors}
+     */
+    default void copyMapColors(int left, int top, int width, int height, byte[] colors, int offset, int stride) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                colors[offset + Framebuffer.index(x, y, stride)] = getMapColor(left + x, top + y);
+            }
+        }
+    }
+
     /**
      * Prepares the packet to render a 128x128 sub view of this framebuffer
      */
@@ -33,12 +52,7 @@ public interface LargeFramebuffer {
         byte[] colors = new byte[Framebuffer.WIDTH * Framebuffer.WIDTH];
         final int width = Math.min(width(), left + Framebuffer.WIDTH) - left;
         final int height = Math.min(height(), top + Framebuffer.HEIGHT) - top;
-        for (int y = top; y < top+height; y++) {
-            for (int x = left; x < left+width; x++) {
-                final byte color = getMapColor(x, y);
-                colors[Framebuffer.index(x - left, y - top)] = color;
-            }
-        }
+        copyMapColors(left, top, width, height, colors, 0, Framebuffer.WIDTH);
         return new MapDataPacket(mapId, (byte) 0, false,
                 false, List.of(),
                 new MapDataPacket.ColorContent((byte) width, (byte) height,
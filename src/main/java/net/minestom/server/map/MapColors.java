@@ -1,11 +1,20 @@
 package net.minestom.server.map;
 
 import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.validate.Check;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public enum MapColors {
     NONE(0, 0, 0),
@@ -73,12 +82,22 @@ public enum MapColors {
     private final int blue;
 
     private static final Logger logger = LoggerFactory.getLogger(MapColors.class);
-    private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
-    // only used if mappingStrategy == ColorMappingStrategy.PRECISE
-    private static volatile PreciseMapColor[] rgbArray = null;
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
+    // Number of reduced values per component, only used if mappingStrategy == ColorMappingStrategy.APPROXIMATE
+    private static final int reducedSize;
+
+    // Candidates of the closest color search, in iteration order
+    private static final int[] paletteRGB;
+    private static final byte[] paletteIndex;
+    // (map color index -> PreciseMapColor), null for NONE
+    private static final PreciseMapColor[] preciseColors = new PreciseMapColor[256];
+
+    private static final int RGB_COUNT = 0xFFFFFF + 1;
+    // (rgb -> map color index) for PRECISE and LAZY, (reduced rgb -> map color index) for APPROXIMATE
+    // 0 (NONE) is never the closest color and marks lazily computed entries as missing
+    private static volatile byte[] lookupTable = null;
 
     static {
         ColorMappingStrategy strategy;
@@ -94,12 +113,30 @@ public enum MapColors {
         if (ServerFlag.MAP_RGB_REDUCTION != -1) {
             reduction = ServerFlag.MAP_RGB_REDUCTION;
 
-            if (reduction < 0 || reduction > 255) {
-                logger.warn("Reduction was found to be invalid: {}. Must in 0-255, defaulting to 10.", reduction);
+            if (reduction < 1 || reduction > 255) {
+                logger.warn("Reduction was found to be invalid: {}. Must in 1-255, defaulting to 10.", reduction);
                 reduction = 10;
             }
         }
         colorReduction = reduction;
+        reducedSize = 255 / reduction + 1;
+
+        final MapColors[] bases = values();
+        final Multiplier[] multipliers = Multiplier.values();
+        paletteRGB = new int[(bases.length - 1) * multipliers.length];
+        paletteIndex = new byte[paletteRGB.length];
+        int i = 0;
+        for (MapColors base : bases) {
+            if (base == NONE)
+                continue;
+            for (Multiplier m : multipliers) {
+                final PreciseMapColor color = new PreciseMapColor(base, m);
+                paletteRGB[i] = color.toRGB();
+                paletteIndex[i] = color.getIndex();
+                preciseColors[color.getIndex() & 0xFF] = color;
+                i++;
+            }
+        }
     }
 
     MapColors(int red, int green, int blue) {
@@ -155,92 +192,198 @@ public enum MapColors {
         return blue;
     }
 
-    private static void fillRGBMap() {
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                PreciseMapColor preciseMapColor = new PreciseMapColor(base, m);
-                int rgb = preciseMapColor.toRGB();
+    public static PreciseMapColor closestColor(int argb) {
+        return preciseColors[closestIndex(argb) & 0xFF];
+    }
+
+    /**
+     * Finds the map color index closest to a color.
+     *
+     * @param argb the color, alpha is ignored
+     * @return the index of the closest map color
+     */
+    public static byte closestIndex(int argb) {
+        final int rgb = argb & 0xFFFFFF;
+        final byte[] lookupTable = lookupTable();
+        return switch (mappingStrategy) {
+            case PRECISE -> lookupTable[rgb];
+            case LAZY -> {
+                byte index = lookupTable[rgb];
+                if (index == 0) lookupTable[rgb] = index = computeIndex(rgb);
+                yield index;
+            }
+            case APPROXIMATE -> lookupTable[reducedIndex(rgb)];
+        };
+    }
 
-                if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
-                    rgb = reduceColor(rgb);
+    /**
+     * Converts colors to map color indices, see {@link #closestIndex(int)}.
+     *
+     * @param argb         the colors to convert, alpha is ignored
+     * @param argbOffset   the index of the first color to convert
+     * @param colors       the array receiving the map color indices
+     * @param colorsOffset the index of the first converted color in {@code colors}
+     * @param length       the number of colors to convert
+     */
+    public static void closestIndices(int[] argb, int argbOffset, byte[] colors, int colorsOffset, int length) {
+        Objects.checkFromIndexSize(argbOffset, length, argb.length);
+        Objects.checkFromIndexSize(colorsOffset, length, colors.length);
+        final byte[] lookupTable = lookupTable();
+        switch (mappingStrategy) {
+            case PRECISE -> {
+                for (int i = 0; i < length; i++) {
+                    colors[colorsOffset + i] = lookupTable[argb[argbOffset + i] & 0xFFFFFF];
+                }
+            }
+            case LAZY -> {
+                for (int i = 0; i < length; i++) {
+                    final int rgb = argb[argbOffset + i] & 0xFFFFFF;
+                    byte index = lookupTable[rgb];
+                    if (index == 0) lookupTable[rgb] = index = computeIndex(rgb);
+                    colors[colorsOffset + i] = index;
+                }
+            }
+            case APPROXIMATE -> {
+                for (int i = 0; i < length; i++) {
+                    colors[colorsOffset + i] = lookupTable[reducedIndex(argb[argbOffset + i] & 0xFFFFFF)];
                 }
-                rgbMap.put(rgb, preciseMapColor);
             }
         }
     }
 
-    private static void fillRGBArray() {
-        rgbArray = new PreciseMapColor[0xFFFFFF + 1];
-        for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
-            rgbArray[rgb] = mapColor(rgb);
-        }
+    public static void closestIndices(int[] argb, byte[] colors) {
+        Check.argCondition(argb.length != colors.length, "Arrays must have the same length ({0} != {1})", argb.length, colors.length);
+        closestIndices(argb, 0, colors, 0, argb.length);
     }
 
-    public static PreciseMapColor closestColor(int argb) {
-        int noAlpha = argb & 0xFFFFFF;
-        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
-            if (rgbArray == null) {
-                synchronized (MapColors.class) {
-                    if (rgbArray == null) {
-                        fillRGBArray();
-                    }
+    private static byte[] lookupTable() {
+        byte[] lookupTable = MapColors.lookupTable;
+        if (lookupTable == null) {
+            synchronized (MapColors.class) {
+                lookupTable = MapColors.lookupTable;
+                if (lookupTable == null) {
+                    lookupTable = createLookupTable();
+                    MapColors.lookupTable = lookupTable;
                 }
             }
-            return rgbArray[noAlpha];
         }
-        if (rgbMap.isEmpty()) {
-            synchronized (rgbMap) {
-                if (rgbMap.isEmpty()) {
-                    fillRGBMap();
-                }
+        return lookupTable;
+    }
+
+    private static byte[] createLookupTable() {
+        return switch (mappingStrategy) {
+            case LAZY -> new byte[RGB_COUNT];
+            case PRECISE -> {
+                final String cache = ServerFlag.MAP_RGB_CACHE;
+                final Path path = cache != null ? Path.of(cache) : null;
+                final byte[] table = new byte[RGB_COUNT];
+                if (path != null && readLookupTable(path, table)) yield table;
+                // Each task computes a (red) plane of 65536 colors
+                IntStream.range(0, 256).parallel().forEach(red -> {
+                    final int offset = red << 16;
+                    for (int gb = 0; gb <= 0xFFFF; gb++) {
+                        table[offset | gb] = computeIndex(offset | gb);
+                    }
+                });
+                if (path != null) writeLookupTable(path, table);
+                yield table;
+            }
+            case APPROXIMATE -> {
+                final int reduction = colorReduction;
+                final int size = reducedSize;
+                final byte[] table = new byte[size * size * size];
+                IntStream.range(0, size).parallel().forEach(red -> {
+                    for (int green = 0; green < size; green++) {
+                        for (int blue = 0; blue < size; blue++) {
+                            // Closest color to the center of the reduced cell
+                            final int rgb = (reducedCenter(red, reduction) << 16) |
+                                    (reducedCenter(green, reduction) << 8) |
+                                    reducedCenter(blue, reduction);
+                            table[(red * size + green) * size + blue] = computeIndex(rgb);
+                        }
+                    }
+                });
+                yield table;
+            }
+        };
+    }
+
+    private static boolean readLookupTable(Path path, byte[] table) {
+        if (!Files.isRegularFile(path)) return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != Integer.BYTES + table.length) return false;
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            final ByteBuffer content = ByteBuffer.wrap(table);
+            readFully(channel, header);
+            if (header.getInt(0) != Arrays.hashCode(paletteRGB)) {
+                // Outdated palette
+                Arrays.fill(table, (byte) 0);
+                return false;
             }
+            readFully(channel, content);
+            if (content.hasRemaining()) {
+                Arrays.fill(table, (byte) 0);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to read the map color cache {}", path, e);
+            Arrays.fill(table, (byte) 0);
+            return false;
         }
-        if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
-            noAlpha = reduceColor(noAlpha);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) return;
+        }
+    }
+
+    private static void writeLookupTable(Path path, byte[] table) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer[] buffers = {
+                    ByteBuffer.allocate(Integer.BYTES).putInt(0, Arrays.hashCode(paletteRGB)),
+                    ByteBuffer.wrap(table)
+            };
+            while (buffers[1].hasRemaining()) channel.write(buffers);
+        } catch (IOException e) {
+            logger.warn("Failed to write the map color cache {}", path, e);
         }
-        return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
     }
 
-    private static int reduceColor(int rgb) {
-        int red = (rgb >> 16) & 0xFF;
-        int green = (rgb >> 8) & 0xFF;
-        int blue = rgb & 0xFF;
+    private static int reducedIndex(int rgb) {
+        final int reduction = colorReduction;
+        final int size = reducedSize;
+        final int red = ((rgb >> 16) & 0xFF) / reduction;
+        final int green = ((rgb >> 8) & 0xFF) / reduction;
+        final int blue = (rgb & 0xFF) / reduction;
+        return (red * size + green) * size + blue;
+    }
 
-        red = red / colorReduction;
-        green = green / colorReduction;
-        blue = blue / colorReduction;
-        return (red << 16) | (green << 8) | blue;
+    private static int reducedCenter(int value, int reduction) {
+        return Math.min(255, value * reduction + reduction / 2);
     }
 
-    private static PreciseMapColor mapColor(int rgb) {
-        PreciseMapColor closest = null;
+    private static byte computeIndex(int rgb) {
+        final int red = (rgb >> 16) & 0xFF;
+        final int green = (rgb >> 8) & 0xFF;
+        final int blue = rgb & 0xFF;
+        final int[] paletteRGB = MapColors.paletteRGB;
+        int closest = 0;
         int closestDistance = Integer.MAX_VALUE;
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                final int rgbKey = PreciseMapColor.toRGB(base, m);
-                final int redKey = (rgbKey >> 16) & 0xFF;
-                final int greenKey = (rgbKey >> 8) & 0xFF;
-                final int blueKey = rgbKey & 0xFF;
-
-                final int red = (rgb >> 16) & 0xFF;
-                final int green = (rgb >> 8) & 0xFF;
-                final int blue = rgb & 0xFF;
-
-                final int dr = redKey - red;
-                final int dg = greenKey - green;
-                final int db = blueKey - blue;
-                final int dist = (dr * dr + dg * dg + db * db);
-                if (dist < closestDistance) {
-                    closest = new PreciseMapColor(base, m);
-                    closestDistance = dist;
-                }
+        for (int i = 0; i < paletteRGB.length; i++) {
+            final int rgbKey = paletteRGB[i];
+            final int dr = ((rgbKey >> 16) & 0xFF) - red;
+            final int dg = ((rgbKey >> 8) & 0xFF) - green;
+            final int db = (rgbKey & 0xFF) - blue;
+            final int dist = (dr * dr + dg * dg + db * db);
+            if (dist < closestDistance) {
+                closest = i;
+                closestDistance = dist;
             }
         }
-        return closest;
+        return paletteIndex[closest];
     }
 
     public static class PreciseMapColor {
@@ -312,18 +455,20 @@ public enum MapColors {
      */
     public enum ColorMappingStrategy {
         /**
-         * If already computed, send the result. Otherwise, compute the closest color in a RGB Map, and add it to the map
+         * If already computed, send the result. Otherwise, compute the closest color and store it in a RGB lookup table.
+         * The table (2^24 bytes, ~16MB) is allocated on the first call
          */
         LAZY,
 
         /**
-         * All colors are already in the map after the first call. Heavy hit on the memory:
-         * (2^24) * 4 bytes at the min (~64MB)
+         * All colors are computed in parallel on the first call, in a table of (2^24) bytes (~16MB).
+         * The table can be persisted with the {@code minestom.map.rgbcache} property to skip the computation on startup
          */
         PRECISE,
 
         /**
-         * RGB components are divided by 10 before issuing a lookup (as with the PRECISE strategy), but saves on memory usage
+         * RGB components are divided by 10 (or {@code minestom.map.rgbreduction}) before issuing a lookup
+         * (as with the PRECISE strategy), but saves on memory usage: ~17KB with the default reduction, 2MB with a reduction of 2
          */
         APPROXIMATE
     }
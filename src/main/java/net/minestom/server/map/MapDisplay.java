@@ -0,0 +1,149 @@
+package net.minestom.server.map;
+
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Displays a {@link Framebuffer} on a map, sending only the areas which changed since the previous frame.
+ * <p>
+ * Every call to {@link #update()} compares the framebuffer to the last sent frame and sends the dirty rectangles
+ * to the viewers, new viewers receive the whole map when added.
+ * A {@link LargeFramebuffer} can be displayed using one display per {@link LargeFramebuffer#createSubView(int, int) sub-view}.
+ */
+public final class MapDisplay implements Viewable {
+    /**
+     * Number of lines grouped in a single dirty rectangle before merging.
+     */
+    static final int BAND_HEIGHT = 8;
+    /**
+     * Number of unchanged pixels that can be re-sent to save a packet when merging two rectangles.
+     */
+    static final int MERGE_THRESHOLD = 64;
+
+    private final int mapId;
+    private final Framebuffer framebuffer;
+    private final Set<Player> viewers = new CopyOnWriteArraySet<>();
+
+    // Colors last sent to the viewers, null before the first update
+    private byte[] frame;
+
+    public MapDisplay(int mapId, @NotNull Framebuffer framebuffer) {
+        this.mapId = mapId;
+        this.framebuffer = framebuffer;
+    }
+
+    public int getMapId() {
+        return mapId;
+    }
+
+    public @NotNull Framebuffer getFramebuffer() {
+        return framebuffer;
+    }
+
+    /**
+     * Sends the changes of the framebuffer since the previous update to the viewers.
+     */
+    public synchronized void update() {
+        final byte[] colors = framebuffer.toMapColors();
+        final byte[] frame = this.frame;
+        if (frame == null) {
+            this.frame = colors.clone();
+            sendPacketToViewers(packet(mapId, colors, 0, 0, Framebuffer.WIDTH, Framebuffer.HEIGHT));
+            return;
+        }
+        final List<MapDataPacket> packets = deltaPackets(mapId, frame, colors);
+        if (packets.isEmpty()) return;
+        System.arraycopy(colors, 0, frame, 0, frame.length);
+        for (MapDataPacket packet : packets) sendPacketToViewers(packet);
+    }
+
+    @Override
+    public synchronized boolean addViewer(@NotNull Player player) {
+        if (!viewers.add(player)) return false;
+        final byte[] frame = this.frame;
+        if (frame != null) player.sendPacket(packet(mapId, frame, 0, 0, Framebuffer.WIDTH, Framebuffer.HEIGHT));
+        return true;
+    }
+
+    @Override
+    public boolean removeViewer(@NotNull Player player) {
+        return viewers.remove(player);
+    }
+
+    @Override
+    public @NotNull Set<@NotNull Player> getViewers() {
+        return Collections.unmodifiableSet(viewers);
+    }
+
+    /**
+     * Computes the packets updating a map from a frame to another.
+     * <p>
+     * Changed pixels are grouped by bands of {@link #BAND_HEIGHT} lines, consecutive bands are then merged
+     * if it does not increase the amount of data by more than {@link #MERGE_THRESHOLD} pixels.
+     *
+     * @param mapId    the map id
+     * @param previous the colors known by the client
+     * @param colors   the new colors
+     * @return the packets to send, empty if both frames are equal
+     */
+    static @NotNull List<MapDataPacket> deltaPackets(int mapId, byte @NotNull [] previous, byte @NotNull [] colors) {
+        List<int[]> rectangles = new ArrayList<>();
+        for (int band = 0; band < Framebuffer.HEIGHT; band += BAND_HEIGHT) {
+            int minX = Framebuffer.WIDTH, maxX = -1, minY = -1, maxY = -1;
+            for (int y = band; y < band + BAND_HEIGHT; y++) {
+                final int offset = Framebuffer.index(0, y);
+                final int first = Arrays.mismatch(previous, offset, offset + Framebuffer.WIDTH,
+                        colors, offset, offset + Framebuffer.WIDTH);
+                if (first == -1) continue;
+                int last = Framebuffer.WIDTH - 1;
+                while (previous[offset + last] == colors[offset + last]) last--;
+                minX = Math.min(minX, first);
+                maxX = Math.max(maxX, last);
+                if (minY == -1) minY = y;
+                maxY = y;
+            }
+            if (maxX == -1) continue;
+            final int[] rectangle = {minX, minY, maxX, maxY};
+            if (!rectangles.isEmpty()) {
+                final int[] last = rectangles.getLast();
+                final int[] merged = {Math.min(last[0], minX), last[1], Math.max(last[2], maxX), maxY};
+                if (area(merged) <= area(last) + area(rectangle) + MERGE_THRESHOLD) {
+                    rectangles.set(rectangles.size() - 1, merged);
+                    continue;
+                }
+            }
+            rectangles.add(rectangle);
+        }
+        List<MapDataPacket> packets = new ArrayList<>(rectangles.size());
+        for (int[] rectangle : rectangles) {
+            packets.add(packet(mapId, colors, rectangle[0], rectangle[1],
+                    rectangle[2] - rectangle[0] + 1, rectangle[3] - rectangle[1] + 1));
+        }
+        return packets;
+    }
+
+    private static int area(int[] rectangle) {
+        return (rectangle[2] - rectangle[0] + 1) * (rectangle[3] - rectangle[1] + 1);
+    }
+
+    private static MapDataPacket packet(int mapId, byte[] colors, int minX, int minY, int width, int height) {
+        final byte[] data = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(colors, Framebuffer.index(minX, minY + y), data, y * width, width);
+        }
+        return new MapDataPacket(mapId, (byte) 0, false,
+                false, List.of(),
+                new MapDataPacket.ColorContent((byte) width, (byte) height,
+                        (byte) minX, (byte) minY,
+                        data));
+    }
+}
@@ -41,12 +41,8 @@ public class Graphics2DFramebuffer implements Framebuffer {
 
     @Override
     public byte[] toMapColors() {
-        // TODO: update subparts only
-        for (int x = 0; x < 128; x++) {
-            for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
-            }
-        }
+        // Pixels and colors share the same layout
+        MapColors.closestIndices(pixels, colors);
         return colors;
     }
 }
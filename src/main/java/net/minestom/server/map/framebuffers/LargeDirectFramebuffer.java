@@ -56,6 +56,13 @@ public class LargeDirectFramebuffer implements LargeFramebuffer {
         return colors[y * width + x];
     }
 
+    @Override
+    public void copyMapColors(int left, int top, int width, int height, byte[] colors, int offset, int stride) {
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(this.colors, left + (top + y) * this.width, colors, offset + y * stride, width);
+        }
+    }
+
     private boolean bounds(int x, int y) {
         return x >= 0 && x < width && y >= 0 && y < height;
     }
@@ -4,6 +4,8 @@ import net.minestom.server.map.Framebuffer;
 import net.minestom.server.map.LargeFramebuffer;
 import net.minestom.server.map.MapColors;
 
+import java.util.Arrays;
+
 public class LargeFramebufferDefaultView implements Framebuffer {
     private final LargeFramebuffer parent;
     private final int x;
@@ -16,21 +18,15 @@ public class LargeFramebufferDefaultView implements Framebuffer {
         this.y = y;
     }
 
-    private boolean bounds(int x, int y) {
-        return x >= 0 && x < parent.width() && y >= 0 && y < parent.height();
-    }
-
-    private byte colorOrNone(int x, int y) {
-        if(!bounds(x, y)) return MapColors.NONE.baseColor();
-        return parent.getMapColor(x, y);
-    }
-
     @Override
     public byte[] toMapColors() {
-        for (int y = 0; y < HEIGHT; y++) {
-            for (int x = 0; x < WIDTH; x++) {
-                colors[Framebuffer.index(x, y)] = colorOrNone(x+this.x, y+this.y);
-            }
+        // Copy the part of the view within the parent bounds, the rest is NONE
+        final int minX = Math.max(0, this.x), minY = Math.max(0, this.y);
+        final int maxX = Math.min(parent.width(), this.x + WIDTH), maxY = Math.min(parent.height(), this.y + HEIGHT);
+        final int width = maxX - minX, height = maxY - minY;
+        if (width != WIDTH || height != HEIGHT) Arrays.fill(colors, MapColors.NONE.baseColor());
+        if (width > 0 && height > 0) {
+            parent.copyMapColors(minX, minY, width, height, colors, Framebuffer.index(minX - this.x, minY - this.y), WIDTH);
         }
         return colors;
     }
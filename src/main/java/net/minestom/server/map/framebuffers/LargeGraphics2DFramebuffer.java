@@ -62,6 +62,13 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        return MapColors.closestIndex(get(x, y));
+    }
+
+    @Override
+    public void copyMapColors(int left, int top, int width, int height, byte[] colors, int offset, int stride) {
+        for (int y = 0; y < height; y++) {
+            MapColors.closestIndices(pixels, left + (top + y) * this.width, colors, offset + y * stride, width);
+        }
     }
 }
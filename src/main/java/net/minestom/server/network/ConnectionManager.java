@@ -5,12 +5,17 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
+import net.minestom.server.entity.PlayerInfoAggregator;
+import net.minestom.server.entity.TabListScope;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.event.player.AsyncPlayerPreLoginEvent;
+import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.listener.preplay.LoginListener;
+import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.common.KeepAlivePacket;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
 import net.minestom.server.network.packet.server.common.TagsPacket;
@@ -38,6 +43,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -60,24 +66,105 @@ public final class ConnectionManager {
         return defaultTags;
     }
 
+    // Registry data and tags framed together, indexed by #payloadIndex
+    private final AtomicReferenceArray<ConfigurationPayload> configurationPayloads = new AtomicReferenceArray<>(4);
+
+    private record ConfigurationPayload(NetworkBuffer[] bodies, BufferedPacket packet) {
+    }
+
+    private List<SendablePacket> registryPackets(Registries registries, boolean excludeVanilla) {
+        return List.of(
+                registries.chatType().registryDataPacket(registries, excludeVanilla),
+                registries.dimensionType().registryDataPacket(registries, excludeVanilla),
+                registries.biome().registryDataPacket(registries, excludeVanilla),
+                registries.damageType().registryDataPacket(registries, excludeVanilla),
+                registries.trimMaterial().registryDataPacket(registries, excludeVanilla),
+                registries.trimPattern().registryDataPacket(registries, excludeVanilla),
+                registries.bannerPattern().registryDataPacket(registries, excludeVanilla),
+                registries.enchantment().registryDataPacket(registries, excludeVanilla),
+                registries.paintingVariant().registryDataPacket(registries, excludeVanilla),
+                registries.jukeboxSong().registryDataPacket(registries, excludeVanilla),
+                registries.instrument().registryDataPacket(registries, excludeVanilla),
+                registries.wolfVariant().registryDataPacket(registries, excludeVanilla),
+                registries.wolfSoundVariant().registryDataPacket(registries, excludeVanilla),
+                registries.catVariant().registryDataPacket(registries, excludeVanilla),
+                registries.chickenVariant().registryDataPacket(registries, excludeVanilla),
+                registries.cowVariant().registryDataPacket(registries, excludeVanilla),
+                registries.frogVariant().registryDataPacket(registries, excludeVanilla),
+                registries.pigVariant().registryDataPacket(registries, excludeVanilla),
+                getDefaultTags(registries)
+        );
+    }
+
+    /**
+     * Gets the registry data and tags packets framed into a single immutable buffer,
+     * shared by every connection using the same known packs and compression.
+     * <p>
+     * The buffer is rebuilt once any of the cached packets is invalidated (e.g. a registry got modified).
+     *
+     * @return the shared payload, null if the packets are not cached
+     */
+    private @Nullable BufferedPacket configurationPayload(List<SendablePacket> packets, boolean excludeVanilla, boolean compressed) {
+        final NetworkBuffer[] bodies = new NetworkBuffer[packets.size()];
+        for (int i = 0; i < bodies.length; i++) {
+            if (!(packets.get(i) instanceof CachedPacket cachedPacket)) return null;
+            final NetworkBuffer body = cachedPacket.body(ConnectionState.CONFIGURATION, compressed);
+            if (body == null) return null;
+            bodies[i] = body;
+        }
+        final int index = (excludeVanilla ? 2 : 0) + (compressed ? 1 : 0);
+        final ConfigurationPayload payload = configurationPayloads.get(index);
+        if (payload != null && sameBodies(payload.bodies(), bodies)) return payload.packet();
+        // Concatenate the framed bodies, nothing has to be encoded again
+        long length = 0;
+        for (NetworkBuffer body : bodies) length += body.capacity();
+        final NetworkBuffer buffer = NetworkBuffer.staticBuffer(length);
+        for (NetworkBuffer body : bodies) {
+            NetworkBuffer.copy(body, 0, buffer, buffer.writeIndex(), body.capacity());
+            buffer.advanceWrite(body.capacity());
+        }
+        final BufferedPacket packet = new BufferedPacket(buffer, 0, length);
+        this.configurationPayloads.set(index, new ConfigurationPayload(bodies, packet));
+        return packet;
+    }
+
+    @Nullable BufferedPacket configurationPayload(boolean excludeVanilla, boolean compressed) {
+        return configurationPayload(registryPackets(MinecraftServer.process(), excludeVanilla), excludeVanilla, compressed);
+    }
+
+    private static boolean sameBodies(NetworkBuffer[] previous, NetworkBuffer[] current) {
+        if (previous.length != current.length) return false;
+        for (int i = 0; i < previous.length; i++) {
+            if (previous[i] != current[i]) return false;
+        }
+        return true;
+    }
+
     // All players once their Player object has been instantiated.
     private final Map<PlayerConnection, Player> connectionPlayerMap = new ConcurrentHashMap<>();
     // Players waiting to be spawned (post configuration state)
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
     // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
+    private final Set<Player> configurationPlayers = ConcurrentHashMap.newKeySet();
     // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    private final Set<Player> playPlayers = ConcurrentHashMap.newKeySet();
+    // Indexes of the play players, updated alongside `playPlayers`
+    private final Map<UUID, Player> playPlayersByUuid = new ConcurrentHashMap<>();
+    // Sorted by lowercase username, also used for prefix lookups
+    private final ConcurrentNavigableMap<String, Player> playPlayersByUsername = new ConcurrentSkipListMap<>();
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
+    private final Set<Player> keepAlivePlayers = ConcurrentHashMap.newKeySet();
 
     private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
     private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
 
+    // Tab-list changes broadcast at the start of the next tick
+    private final PlayerInfoAggregator playerInfoAggregator = new PlayerInfoAggregator();
+
     // The player provider to have your own Player implementation
     private volatile PlayerProvider playerProvider = Player::new;
 
@@ -92,6 +179,8 @@ public final class ConnectionManager {
 
     /**
      * Returns an unmodifiable set containing the players currently in the play state.
+     * <p>
+     * The iteration order is unspecified, it does not follow the join order.
      */
     public @NotNull Collection<@NotNull Player> getOnlinePlayers() {
         return unmodifiablePlayPlayers;
@@ -104,6 +193,14 @@ public final class ConnectionManager {
         return unmodifiableConfigurationPlayers;
     }
 
+    /**
+     * Gets the aggregator of the tab-list changes, flushed once per tick.
+     */
+    @ApiStatus.Internal
+    public @NotNull PlayerInfoAggregator getPlayerInfoAggregator() {
+        return playerInfoAggregator;
+    }
+
     /**
      * Gets the {@link Player} linked to a {@link PlayerConnection}.
      *
@@ -118,39 +215,52 @@ public final class ConnectionManager {
     }
 
     /**
-     * Gets the first player in the play state which validates {@link String#equalsIgnoreCase(String)}.
+     * Gets the player in the play state which validates {@link String#equalsIgnoreCase(String)}.
      * <p>
-     * This can cause issue if two or more players have the same username.
+     * If two or more players have the same username, the last one to enter the play state is returned.
      *
      * @param username the player username (case-insensitive)
-     * @return the first player who validate the username condition, null if none was found
+     * @return the player who validate the username condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUsername(@NotNull String username) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUsername().equalsIgnoreCase(username))
-                return player;
-        }
-        return null;
+        return playPlayersByUsername.get(username.toLowerCase(Locale.ROOT));
     }
 
     /**
-     * Gets the first player in the play state which validates {@link UUID#equals(Object)}.
+     * Gets the player in the play state which validates {@link UUID#equals(Object)}.
      * <p>
-     * This can cause issue if two or more players have the same UUID.
+     * If two or more players have the same UUID, the last one to enter the play state is returned.
      *
      * @param uuid the player UUID
-     * @return the first player who validate the UUID condition, null if none was found
+     * @return the player who validate the UUID condition, null if none was found
      */
     public @Nullable Player getOnlinePlayerByUuid(@NotNull UUID uuid) {
-        for (Player player : getOnlinePlayers()) {
-            if (player.getUuid().equals(uuid))
-                return player;
+        return playPlayersByUuid.get(uuid);
+    }
+
+    /**
+     * Gets the players in the play state whose username starts with {@code prefix} (case-insensitive).
+     * <p>
+     * Useful for tab-completion, the lookup does not iterate over every online player.
+     *
+     * @param prefix the username prefix
+     * @return the matching players, sorted by username
+     */
+    public @NotNull Collection<@NotNull Player> getOnlinePlayersByPrefix(@NotNull String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        List<Player> players = new ArrayList<>();
+        // Keys starting with the prefix are contiguous and come first in the tail
+        for (Map.Entry<String, Player> entry : playPlayersByUsername.tailMap(lowerPrefix).entrySet()) {
+            if (!entry.getKey().startsWith(lowerPrefix)) break;
+            players.add(entry.getValue());
         }
-        return null;
+        return Collections.unmodifiableList(players);
     }
 
     /**
      * Finds the closest player in the play state matching a given username.
+     * <p>
+     * Players whose username starts with {@code username} are preferred, every player is considered otherwise.
      *
      * @param username the player username (can be partial)
      * @return the closest match, null if no players are online
@@ -164,7 +274,9 @@ public final class ConnectionManager {
             final String username2 = player.getUsername().toLowerCase(Locale.ROOT);
             return StringUtils.jaroWinklerScore(username1, username2);
         };
-        return getOnlinePlayers().stream()
+        Collection<Player> candidates = getOnlinePlayersByPrefix(username1);
+        if (candidates.isEmpty()) candidates = getOnlinePlayers();
+        return candidates.stream()
                 .min(Comparator.comparingDouble(distanceFunction::apply))
                 .filter(player -> distanceFunction.apply(player) > 0)
                 .orElse(null);
@@ -179,6 +291,28 @@ public final class ConnectionManager {
         this.playerProvider = playerProvider != null ? playerProvider : Player::new;
     }
 
+    /**
+     * Gets which players are listed in the tab-list of each player.
+     *
+     * @return the tab-list scope, {@link TabListScope#global()} by default
+     */
+    public @NotNull TabListScope getTabListScope() {
+        return playerInfoAggregator.getScope();
+    }
+
+    /**
+     * Changes which players are listed in the tab-list of each player.
+     * <p>
+     * A scope other than {@link TabListScope#global()} limits the tab-list packets to the players listing each other,
+     * at the cost of tracking them.
+     *
+     * @param scope the new tab-list scope
+     * @throws IllegalStateException if players are online
+     */
+    public void setTabListScope(@NotNull TabListScope scope) {
+        playerInfoAggregator.setScope(scope);
+    }
+
     @ApiStatus.Internal
     public @NotNull Player createPlayer(@NotNull PlayerConnection connection, @NotNull GameProfile gameProfile) {
         assert ServerFlag.INSIDE_TEST || Thread.currentThread().isVirtual();
@@ -259,27 +393,16 @@ public final class ConnectionManager {
             }
             boolean excludeVanilla = knownPacks.contains(SelectKnownPacksPacket.MINECRAFT_CORE);
 
-            Registries registries = MinecraftServer.process();
-            player.sendPacket(registries.chatType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.dimensionType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.biome().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.damageType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.trimMaterial().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.trimPattern().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.bannerPattern().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.enchantment().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.paintingVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.jukeboxSong().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.instrument().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.wolfVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.wolfSoundVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.catVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.chickenVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.cowVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.frogVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.pigVariant().registryDataPacket(registries, excludeVanilla));
-
-            player.sendPacket(getDefaultTags(registries));
+            final List<SendablePacket> packets = registryPackets(MinecraftServer.process(), excludeVanilla);
+            final BufferedPacket payload = player.getPlayerConnection() instanceof PlayerSocketConnection &&
+                    !EventDispatcher.getHandle(PlayerPacketOutEvent.class).hasListener() ?
+                    configurationPayload(packets, excludeVanilla, MinecraftServer.getCompressionThreshold() > 0) : null;
+            if (payload != null) {
+                player.sendPacket(payload);
+            } else {
+                // Outgoing packet listeners must see every packet
+                player.getPlayerConnection().sendPackets(packets);
+            }
         }
 
         // Wait for pending resource packs if any
@@ -309,7 +432,7 @@ public final class ConnectionManager {
         final Player player = this.connectionPlayerMap.remove(connection);
         if (player == null) return;
         this.configurationPlayers.remove(player);
-        this.playPlayers.remove(player);
+        removePlayPlayer(player);
         this.keepAlivePlayers.remove(player);
     }
 
@@ -323,12 +446,17 @@ public final class ConnectionManager {
         for (final Player playPlayer : playPlayers)
             playPlayer.kick(SHUTDOWN_TEXT);
         this.playPlayers.clear();
+        this.playPlayersByUuid.clear();
+        this.playPlayersByUsername.clear();
 
         this.keepAlivePlayers.clear();
         this.connectionPlayerMap.clear();
     }
 
     public void tick(long tickStart) {
+        // Send the tab-list changes of the previous tick
+        playerInfoAggregator.flush();
+
         // Let waiting players into their instances
         updateWaitingPlayers();
 
@@ -347,7 +475,7 @@ public final class ConnectionManager {
         this.waitingPlayers.drain(player -> {
             if (!player.isOnline()) return; // Player disconnected while in queued to join
             configurationPlayers.remove(player);
-            playPlayers.add(player);
+            addPlayPlayer(player);
             keepAlivePlayers.add(player);
 
             // This fixes a bug with Geyser. They do not reply to keep alive during config, meaning that
@@ -363,6 +491,19 @@ public final class ConnectionManager {
         });
     }
 
+    private synchronized void addPlayPlayer(@NotNull Player player) {
+        this.playPlayers.add(player);
+        this.playPlayersByUuid.put(player.getUuid(), player);
+        this.playPlayersByUsername.put(player.getUsername().toLowerCase(Locale.ROOT), player);
+    }
+
+    private synchronized void removePlayPlayer(@NotNull Player player) {
+        if (!this.playPlayers.remove(player)) return;
+        // Another player may have taken the same index
+        this.playPlayersByUuid.remove(player.getUuid(), player);
+        this.playPlayersByUsername.remove(player.getUsername().toLowerCase(Locale.ROOT), player);
+    }
+
     /**
      * Updates keep alive by checking the last keep alive packet and send a new one if needed.
      *
@@ -19,6 +19,7 @@ import org.jetbrains.annotations.UnknownNullability;
 
 import javax.crypto.Cipher;
 import java.io.IOException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.security.PublicKey;
@@ -299,6 +300,18 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
         NetworkBufferImpl.copy(srcBuffer, srcOffset, dstBuffer, dstOffset, length);
     }
 
+    /**
+     * Writes regions of multiple buffers using a single gathering write.
+     * <p>
+     * Buffer indexes are not modified, regions can therefore be read-only buffers shared across connections.
+     *
+     * @return the number of bytes written, may be lower than the sum of the regions lengths
+     */
+    static long writeChannel(GatheringByteChannel channel, NetworkBuffer[] buffers,
+                             long[] indexes, long[] lengths, int offset, int length) throws IOException {
+        return NetworkBufferImpl.writeChannel(channel, buffers, indexes, lengths, offset, length);
+    }
+
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
@@ -19,6 +19,7 @@ import java.io.InputStream;
 import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Objects;
@@ -48,6 +49,8 @@ final class NetworkBufferImpl implements NetworkBuffer {
     final @Nullable Registries registries;
 
     ByteBuffer nioBuffer = null;
+    // Template of the independent views, reset on resize
+    private volatile ByteBuffer viewTemplate = null;
 
     NetworkBufferImpl(long address, long capacity,
                       long readIndex, long writeIndex,
@@ -206,6 +209,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (newSize == capacity) throw new IllegalArgumentException("New size is the same as the current size");
         final long newAddress = UNSAFE.reallocateMemory(address, newSize);
         this.address = newAddress;
+        this.viewTemplate = null;
         this.capacity = newSize;
         this.state.address.set(newAddress);
     }
@@ -355,6 +359,23 @@ final class NetworkBufferImpl implements NetworkBuffer {
         return nioBuffer;
     }
 
+    /**
+     * Creates a view of a region which is not shared with any other caller,
+     * unlike {@link #bufferSlice(int, int)} which reuses a single view per buffer.
+     * <p>
+     * Safe to call concurrently on read-only buffers.
+     */
+    private ByteBuffer independentSlice(long position, long length) {
+        ByteBuffer template = this.viewTemplate;
+        if (template == null) {
+            template = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+            updateAddress(template, address);
+            updateCapacity(template, (int) capacity);
+            this.viewTemplate = template;
+        }
+        return template.duplicate().limit((int) (position + length)).position((int) position);
+    }
+
     @Override
     public String toString() {
         return String.format("NetworkBuffer{r%d|w%d->%d, registries=%s, autoResize=%s, readOnly=%s}",
@@ -492,6 +513,23 @@ final class NetworkBufferImpl implements NetworkBuffer {
         UNSAFE.copyMemory(srcAddress, dstAddress, length);
     }
 
+    static long writeChannel(GatheringByteChannel channel, NetworkBuffer[] buffers,
+                             long[] indexes, long[] lengths, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffers.length);
+        ByteBuffer[] nioBuffers = new ByteBuffer[length];
+        for (int i = 0; i < length; i++) {
+            var buffer = impl(buffers[offset + i]);
+            buffer.assertDummy();
+            final long index = indexes[offset + i];
+            final long regionLength = lengths[offset + i];
+            Objects.checkFromIndexSize(index, regionLength, buffer.capacity);
+            nioBuffers[i] = buffer.independentSlice(index, regionLength);
+        }
+        final long count = channel.write(nioBuffers);
+        if (count == -1) throw new EOFException("Disconnected");
+        return count;
+    }
+
     public static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1);
         var impl2 = impl(buffer2);
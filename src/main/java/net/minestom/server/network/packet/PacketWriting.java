@@ -191,7 +191,7 @@ public final class PacketWriting {
             } catch (IndexOutOfBoundsException e) {
                 success = false;
             }
-            assert !success || buffer.writeIndex() > 0;
+            // A successful write may leave the buffer untouched when the packet is gathered from its own memory
             // Poll the packet only if fully written
             if (success) {
                 // Packet fully written
@@ -10,19 +10,25 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 
 /**
  * Represents a packet that is only computed when required (either due to memory demand or invalidated data)
  * <p>
- * The cache is stored in a {@link SoftReference} and is invalidated when {@link #invalidate()} is called.
+ * The cache is stored in {@link SoftReference soft references} and is invalidated when {@link #invalidate()} is called.
+ * A framed body is kept for each connection state and compression mode, the body is immutable and can be
+ * written to multiple connections concurrently.
  * <p>
  * Packet supplier must be thread-safe.
  */
 @ApiStatus.Internal
 public final class CachedPacket implements SendablePacket {
+    private static final ConnectionState[] STATES = ConnectionState.values();
+
     private final Supplier<ServerPacket> packetSupplier;
-    private volatile SoftReference<FramedPacket> packet;
+    // Indexed by #cacheIndex
+    private final AtomicReferenceArray<SoftReference<FramedPacket>> packets = new AtomicReferenceArray<>(STATES.length * 2);
 
     public CachedPacket(@NotNull Supplier<@NotNull ServerPacket> packetSupplier) {
         this.packetSupplier = packetSupplier;
@@ -33,43 +39,81 @@ public final class CachedPacket implements SendablePacket {
     }
 
     public void invalidate() {
-        this.packet = null;
+        final var packets = this.packets;
+        for (int i = 0; i < packets.length(); i++) packets.set(i, null);
     }
 
     public @NotNull ServerPacket packet(@NotNull ConnectionState state) {
-        FramedPacket cache = updatedCache(state);
+        // Any body already computed holds the same packet
+        final var packets = this.packets;
+        for (int i = 0; i < packets.length(); i++) {
+            final SoftReference<FramedPacket> ref = packets.get(i);
+            final FramedPacket cache = ref != null ? ref.get() : null;
+            if (cache != null) return cache.packet();
+        }
+        FramedPacket cache = updatedCache(state, true);
         return cache != null ? cache.packet() : packetSupplier.get();
     }
 
+    /**
+     * Gets the framed body of the packet, compressed using the server compression threshold.
+     *
+     * @param state the connection state to frame the packet for
+     * @return the framed body, null if packet caching is disabled
+     */
     public @Nullable NetworkBuffer body(@NotNull ConnectionState state) {
-        FramedPacket cache = updatedCache(state);
+        return body(state, true);
+    }
+
+    /**
+     * Gets the framed body of the packet.
+     *
+     * @param state      the connection state to frame the packet for
+     * @param compressed true to use the compressed packet format
+     * @return the framed body, null if packet caching is disabled
+     */
+    public @Nullable NetworkBuffer body(@NotNull ConnectionState state, boolean compressed) {
+        FramedPacket cache = updatedCache(state, compressed);
         return cache != null ? cache.body() : null;
     }
 
-    private @Nullable FramedPacket updatedCache(@NotNull ConnectionState state) {
+    private @Nullable FramedPacket updatedCache(@NotNull ConnectionState state, boolean compressed) {
         if (!ServerFlag.CACHED_PACKET)
             return null;
-        SoftReference<FramedPacket> ref = packet;
+        final int index = cacheIndex(state, compressed);
+        SoftReference<FramedPacket> ref = packets.get(index);
         FramedPacket cache;
         if (ref == null || (cache = ref.get()) == null) {
             final ServerPacket packet = packetSupplier.get();
-            final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet,
-                    MinecraftServer.getCompressionThreshold());
+            final int compressionThreshold = compressed ? MinecraftServer.getCompressionThreshold() : 0;
+            final NetworkBuffer buffer = PacketWriting.allocateTrimmedPacket(state, packet, compressionThreshold);
             cache = new FramedPacket(packet, buffer);
-            this.packet = new SoftReference<>(cache);
+            this.packets.set(index, new SoftReference<>(cache));
         }
         return cache;
     }
 
+    private static int cacheIndex(ConnectionState state, boolean compressed) {
+        return state.ordinal() * 2 + (compressed ? 1 : 0);
+    }
+
     public boolean isValid() {
-        final SoftReference<FramedPacket> ref = packet;
-        return ref != null && ref.get() != null;
+        final var packets = this.packets;
+        for (int i = 0; i < packets.length(); i++) {
+            final SoftReference<FramedPacket> ref = packets.get(i);
+            if (ref != null && ref.get() != null) return true;
+        }
+        return false;
     }
 
     @Override
     public String toString() {
-        final SoftReference<FramedPacket> ref = packet;
-        final FramedPacket cache = ref != null ? ref.get() : null;
+        final var packets = this.packets;
+        FramedPacket cache = null;
+        for (int i = 0; i < packets.length() && cache == null; i++) {
+            final SoftReference<FramedPacket> ref = packets.get(i);
+            cache = ref != null ? ref.get() : null;
+        }
         return String.format("CachedPacket{cache=%s}", cache);
     }
 }
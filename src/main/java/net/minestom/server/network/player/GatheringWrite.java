@@ -0,0 +1,75 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/**
+ * Ordered buffer regions sent to a channel with a single gathering write.
+ * <p>
+ * Allows cached packet bodies to be written straight from their immutable buffer
+ * instead of being copied into the pooled buffer of the connection.
+ * Buffers are kept reachable until their region has been fully written.
+ * <p>
+ * Not thread-safe, owned by the connection writer.
+ */
+final class GatheringWrite {
+    static final int MAX_REGIONS = 128;
+
+    private final NetworkBuffer[] buffers = new NetworkBuffer[MAX_REGIONS];
+    private final long[] indexes = new long[MAX_REGIONS];
+    private final long[] lengths = new long[MAX_REGIONS];
+    private int offset, count;
+
+    int remaining() {
+        return MAX_REGIONS - count;
+    }
+
+    boolean isEmpty() {
+        return offset == count;
+    }
+
+    void add(@NotNull NetworkBuffer buffer, long index, long length) {
+        if (length == 0) return;
+        final int count = this.count;
+        this.buffers[count] = buffer;
+        this.indexes[count] = index;
+        this.lengths[count] = length;
+        this.count = count + 1;
+    }
+
+    /**
+     * Writes the pending regions to the channel.
+     *
+     * @param channel the channel to write to
+     * @return true if every region has been fully written, false if some remain for the next attempt
+     */
+    boolean write(@NotNull GatheringByteChannel channel) throws IOException {
+        if (isEmpty()) return true;
+        long written = NetworkBuffer.writeChannel(channel, buffers, indexes, lengths, offset, count - offset);
+        // Skip written regions
+        while (written > 0) {
+            final long length = lengths[offset];
+            if (written >= length) {
+                written -= length;
+                buffers[offset++] = null;
+            } else {
+                indexes[offset] += written;
+                lengths[offset] -= written;
+                written = 0;
+            }
+        }
+        if (!isEmpty()) return false;
+        clear();
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(buffers, 0, count, null);
+        this.offset = 0;
+        this.count = 0;
+    }
+}
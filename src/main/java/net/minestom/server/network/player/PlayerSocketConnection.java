@@ -69,6 +69,9 @@ public class PlayerSocketConnection extends PlayerConnection {
             ClientFinishConfigurationPacket.class // Enter play state
     );
 
+    // Cached bodies smaller than this are copied, an additional write region costs more than the copy
+    private static final int GATHER_MIN_SIZE = 512;
+
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
 
@@ -314,20 +317,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.nonce = nonce;
     }
 
-    private boolean writeSendable(NetworkBuffer buffer, SendablePacket sendable, boolean compressed) {
-        final long start = buffer.writeIndex();
-        final boolean result = writePacketSync(buffer, sendable, compressed);
-        if (!result) return false;
-        // Encrypt data
-        final long length = buffer.writeIndex() - start;
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null && length > 0) { // Encryption support
-            buffer.cipher(encryptionContext.encrypt(), start, length);
-        }
-        return true;
-    }
-
-    private boolean writePacketSync(NetworkBuffer buffer, SendablePacket packet, boolean compressed) {
+    private boolean writeSendable(NetworkBuffer buffer, SendablePacket packet, boolean compressed) {
         final Player player = getPlayer();
         final ConnectionState state = getConnectionState();
         if (player != null) {
@@ -355,14 +345,11 @@ public class PlayerSocketConnection extends PlayerConnection {
                     PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
                     yield true;
                 }
-                case FramedPacket framedPacket -> {
-                    final NetworkBuffer body = framedPacket.body();
-                    yield writeBuffer(buffer, body, 0, body.capacity());
-                }
+                case FramedPacket framedPacket -> writeBody(buffer, framedPacket.body());
                 case CachedPacket cachedPacket -> {
-                    final NetworkBuffer body = cachedPacket.body(state);
+                    final NetworkBuffer body = cachedPacket.body(state, compressed);
                     if (body != null) {
-                        yield writeBuffer(buffer, body, 0, body.capacity());
+                        yield writeBody(buffer, body);
                     } else {
                         PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
                         yield true;
@@ -376,7 +363,7 @@ public class PlayerSocketConnection extends PlayerConnection {
                     final NetworkBuffer rawBuffer = bufferedPacket.buffer();
                     final long index = bufferedPacket.index();
                     final long length = bufferedPacket.length();
-                    yield writeBuffer(buffer, rawBuffer, index, length);
+                    yield writeBody(buffer, rawBuffer, index, length);
                 }
             };
         } catch (IndexOutOfBoundsException exception) {
@@ -385,6 +372,23 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private boolean writeBody(NetworkBuffer buffer, NetworkBuffer body) {
+        return writeBody(buffer, body, 0, body.capacity());
+    }
+
+    private boolean writeBody(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
+        if (length >= GATHER_MIN_SIZE && encryptionContext == null &&
+                body.isReadOnly() && gatheringWrite.remaining() >= 3) {
+            // Immutable body, written to the channel from its own memory
+            // One region for the pooled data before it, one for the body, one for the pooled data after it
+            gatheringWrite.add(buffer, gatherIndex, buffer.writeIndex() - gatherIndex);
+            gatheringWrite.add(body, index, length);
+            this.gatherIndex = buffer.writeIndex();
+            return true;
+        }
+        return writeBuffer(buffer, body, index, length);
+    }
+
     private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
@@ -396,9 +400,26 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private NetworkBuffer writeLeftover = null;
+    // Gathering write of the last flush, and the pooled buffer it references
+    private final GatheringWrite gatheringWrite = new GatheringWrite();
+    private NetworkBuffer gatherBuffer = null;
+    // Start of the pooled buffer region not yet added to the gathering write
+    private long gatherIndex;
+    // Start of the pooled buffer region to encrypt, -1 if encryption was disabled during the whole flush
+    private long encryptIndex;
 
     public void flushSync() throws IOException {
         // Write leftover if any
+        NetworkBuffer gatherBuffer = this.gatherBuffer;
+        if (gatherBuffer != null) {
+            if (gatheringWrite.write(channel)) {
+                this.gatherBuffer = null;
+                PacketVanilla.PACKET_POOL.add(gatherBuffer);
+            } else {
+                // Failed to write every region, try again next flush
+                return;
+            }
+        }
         NetworkBuffer leftover = this.writeLeftover;
         if (leftover != null) {
             final boolean success = leftover.writeChannel(channel);
@@ -423,14 +444,32 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
         NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
+        this.gatherIndex = 0;
+        this.encryptIndex = encryptionContext != null ? 0 : -1;
         // Write to buffer
         PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
+            // Encryption may be enabled in the middle of the flush, previous packets must stay in clear
+            if (encryptIndex == -1 && encryptionContext != null) this.encryptIndex = b.writeIndex();
             final boolean compressed = sentPacketCounter.get() > compressionStart;
             final boolean success = writeSendable(b, packet, compressed);
             if (success) sentPacketCounter.getAndIncrement();
             return success;
         });
+        // Encrypt the whole flush at once, much cheaper than a cipher update per packet
+        final EncryptionContext encryptionContext = this.encryptionContext;
+        final long encryptIndex = this.encryptIndex;
+        if (encryptionContext != null && encryptIndex != -1 && buffer.writeIndex() > encryptIndex) {
+            buffer.cipher(encryptionContext.encrypt(), encryptIndex, buffer.writeIndex() - encryptIndex);
+        }
         // Write to channel
+        final GatheringWrite gatheringWrite = this.gatheringWrite;
+        if (!gatheringWrite.isEmpty()) {
+            // Some cached bodies have not been copied
+            gatheringWrite.add(buffer, gatherIndex, buffer.writeIndex() - gatherIndex);
+            if (gatheringWrite.write(channel)) PacketVanilla.PACKET_POOL.add(buffer);
+            else this.gatherBuffer = buffer;
+            return;
+        }
         final boolean success = buffer.writeChannel(channel);
         // Keep the buffer if not fully written
         if (success) PacketVanilla.PACKET_POOL.add(buffer);
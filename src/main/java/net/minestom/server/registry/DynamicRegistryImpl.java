@@ -55,6 +55,7 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
 
     private Registries registries = null;
     private CachedPacket vanillaRegistryDataPacket = new CachedPacket(() -> createRegistryDataPacket(registries, true));
+    private CachedPacket fullRegistryDataPacket = new CachedPacket(() -> createRegistryDataPacket(registries, false));
 
     private final ReentrantLock lock = new ReentrantLock(); // Protects writes
     private final List<T> entryById = new CopyOnWriteArrayList<>();
@@ -152,9 +153,7 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
                 entryById.set(id, object);
                 packById.set(id, pack);
             }
-            if (vanillaRegistryDataPacket != null) {
-                vanillaRegistryDataPacket.invalidate();
-            }
+            invalidateRegistryDataPackets();
             return Key.of(namespaceId);
         } finally {
             lock.unlock();
@@ -174,9 +173,7 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
             entryByName.remove(namespaceId);
             idByName.remove(id);
             packById.remove(id);
-            if (vanillaRegistryDataPacket != null) {
-                vanillaRegistryDataPacket.invalidate();
-            }
+            invalidateRegistryDataPackets();
             return true;
         } finally {
             lock.unlock();
@@ -185,17 +182,18 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
 
     @Override
     public @NotNull SendablePacket registryDataPacket(@NotNull Registries registries, boolean excludeVanilla) {
-        // We cache the vanilla packet because that is by far the most common case. If some client claims not to have
-        // the vanilla datapack we can compute the entire thing.
-        if (excludeVanilla) {
-            if (this.registries != registries) {
-                vanillaRegistryDataPacket.invalidate();
-                this.registries = registries;
-            }
-            return vanillaRegistryDataPacket;
+        // Both variants are cached, the vanilla one is by far the most common case. The packets are only
+        // recomputed once the registry is modified, which lets callers rely on their framed body identity.
+        if (this.registries != registries) {
+            invalidateRegistryDataPackets();
+            this.registries = registries;
         }
+        return excludeVanilla ? vanillaRegistryDataPacket : fullRegistryDataPacket;
+    }
 
-        return createRegistryDataPacket(registries, false);
+    private void invalidateRegistryDataPackets() {
+        if (vanillaRegistryDataPacket != null) vanillaRegistryDataPacket.invalidate();
+        if (fullRegistryDataPacket != null) fullRegistryDataPacket.invalidate();
     }
 
     private @NotNull RegistryDataPacket createRegistryDataPacket(@NotNull Registries registries, boolean excludeVanilla) {
@@ -5,14 +5,14 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.PacketSendingUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -24,7 +24,9 @@ import java.util.concurrent.atomic.AtomicInteger;
  * and remove him later with {@link #removeViewer(Player)}.
  * <p>
  * Lines can be modified using their respective identifier using
- * {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)}.
+ * {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)},
+ * or all at once using {@link #setLines(Collection)}. Only the changes are sent to the viewers, as grouped packets
+ * encoded once for all of them.
  */
 public class Sidebar implements Scoreboard {
 
@@ -94,6 +96,7 @@ public class Sidebar implements Scoreboard {
      * @param title The new sidebar title
      */
     public void setTitle(@NotNull Component title) {
+        if (title.equals(this.title)) return;
         this.title = title;
         sendPacketToViewers(new ScoreboardObjectivePacket(objectiveName, (byte) 2, title,
                 ScoreboardObjectivePacket.Type.INTEGER, null));
@@ -138,7 +141,7 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineContent(@NotNull String id, @NotNull Component content) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine != null && !content.equals(scoreboardLine.getContent())) {
             scoreboardLine.refreshContent(content);
             sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
         }
@@ -152,12 +155,73 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineScore(@NotNull String id, int score) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine != null && scoreboardLine.line != score) {
             scoreboardLine.line = score;
             sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
         }
     }
 
+    /**
+     * Replaces the lines of the sidebar, sending only the differences to the viewers.
+     * <p>
+     * Lines are matched using their identifier: missing lines are removed, new lines are created,
+     * and the content, score and number format of the others are updated if they changed.
+     * The changes are sent in a single bundle so that the client applies them in the same frame.
+     *
+     * @param lines the new lines of the sidebar
+     * @throws IllegalArgumentException if there are too many lines or two lines with the same id
+     */
+    public void setLines(@NotNull Collection<@NotNull ScoreboardLine> lines) {
+        Check.argCondition(lines.size() > MAX_LINES_COUNT, "You cannot have more than " + MAX_LINES_COUNT + "  lines");
+        Map<String, ScoreboardLine> newLines = new HashMap<>(lines.size());
+        for (ScoreboardLine line : lines) {
+            Check.argCondition(newLines.put(line.id, line) != null, "You cannot add two ScoreboardLine with the same id");
+        }
+        List<ServerPacket> packets = new ArrayList<>();
+        synchronized (this.lines) {
+            // Remove first to make their names available
+            this.lines.removeIf(line -> {
+                if (newLines.containsKey(line.id)) return false;
+                packets.add(line.getScoreDestructionPacket(objectiveName));
+                packets.add(line.sidebarTeam.getDestructionPacket());
+                line.returnName(availableColors);
+                return true;
+            });
+            for (ScoreboardLine line : lines) {
+                final ScoreboardLine current = getLine(line.id);
+                if (current == null) {
+                    line.retrieveName(availableColors);
+                    line.createTeam();
+                    this.lines.add(line);
+                    packets.add(line.sidebarTeam.getCreationPacket());
+                    packets.add(line.getScoreCreationPacket(objectiveName));
+                    continue;
+                }
+                final Component content = line.getContent();
+                if (!content.equals(current.getContent())) {
+                    current.refreshContent(content);
+                    packets.add(current.sidebarTeam.updatePrefix(content));
+                }
+                if (current.line != line.line || !Objects.equals(current.numberFormat, line.numberFormat)) {
+                    current.line = line.line;
+                    current.numberFormat = line.numberFormat;
+                    packets.add(current.getLineScoreUpdatePacket(objectiveName, current.line));
+                }
+            }
+        }
+        if (packets.isEmpty()) return;
+        if (packets.size() > 1) {
+            final BundlePacket bundle = new BundlePacket();
+            packets.addFirst(bundle);
+            packets.addLast(bundle);
+        }
+        // Same viewers for the whole bundle
+        final Set<Player> viewers = Set.copyOf(this.viewers);
+        for (ServerPacket packet : packets) {
+            PacketSendingUtils.sendGroupedPacket(viewers, packet);
+        }
+    }
+
     /**
      * Gets a {@link ScoreboardLine} through the given identifier
      *
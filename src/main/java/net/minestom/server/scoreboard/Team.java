@@ -69,6 +69,11 @@ public class Team implements PacketGroupingAudience {
      */
     private Component suffix;
 
+    /**
+     * The properties last sent to the players, used to skip updates without changes.
+     */
+    private volatile TeamsPacket.UpdateTeamAction sentProperties;
+
     private final Set<Player> playerMembers = ConcurrentHashMap.newKeySet();
     private boolean isPlayerMembersUpToDate;
 
@@ -376,6 +381,17 @@ public class Team implements PacketGroupingAudience {
         return new TeamsPacket(teamName, info);
     }
 
+    /**
+     * Sends the creation packet to all the players, its properties are then considered sent.
+     */
+    void broadcastCreationPacket() {
+        final TeamsPacket packet = createTeamsCreationPacket();
+        final var info = (TeamsPacket.CreateTeamAction) packet.action();
+        this.sentProperties = new TeamsPacket.UpdateTeamAction(info.displayName(), info.friendlyFlags(),
+                info.nameTagVisibility(), info.collisionRule(), info.teamColor(), info.teamPrefix(), info.teamSuffix());
+        PacketSendingUtils.broadcastPlayPacket(packet);
+    }
+
     /**
      * Creates an destruction packet to remove the team.
      *
@@ -459,10 +475,14 @@ public class Team implements PacketGroupingAudience {
 
     /**
      * Sends an {@link TeamsPacket.UpdateTeamAction} action packet.
+     * <p>
+     * Nothing is sent if the properties did not change since the last update or creation packet.
      */
     public void sendUpdatePacket() {
         final var info = new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
                 nameTagVisibility, collisionRule, teamColor, prefix, suffix);
+        if (info.equals(sentProperties)) return;
+        this.sentProperties = info;
         PacketSendingUtils.broadcastPlayPacket(new TeamsPacket(teamName, info));
     }
 
@@ -37,7 +37,7 @@ public final class TeamManager {
      */
     protected void registerNewTeam(@NotNull Team team) {
         this.teams.add(team);
-        PacketSendingUtils.broadcastPlayPacket(team.createTeamsCreationPacket());
+        team.broadcastCreationPacket();
     }
 
     /**
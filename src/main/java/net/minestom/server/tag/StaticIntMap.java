@@ -3,6 +3,8 @@ package net.minestom.server.tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 import java.util.function.Consumer;
 
@@ -22,10 +24,29 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
 
     void updateContent(@NotNull StaticIntMap<T> content);
 
+    /**
+     * Atomically replaces a present value, without locking.
+     *
+     * @return true if the value has been replaced, false if the value changed or if the map was concurrently re-hashed
+     */
+    boolean replace(@Range(from = 0, to = Integer.MAX_VALUE) int key, @NotNull T expected, @NotNull T value);
+
+    /**
+     * Map backed by an array indexed by key.
+     * <p>
+     * Reads are lock-free and only use acquire loads. Structural writes ({@link #put(int, Object)}, {@link #remove(int)}
+     * and {@link #updateContent(StaticIntMap)}) must be externally synchronized, {@link #replace(int, Object, Object)}
+     * can run concurrently with them.
+     * <p>
+     * An array is retired before being replaced: each slot is atomically exchanged with a sentinel while being copied,
+     * so that a concurrent replace either lands in the copy or fails.
+     */
     final class Array<T> implements StaticIntMap<T> {
         private static final Object[] EMPTY_ARRAY = new Object[0];
+        private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+        private static final Object RETIRED = new Object();
 
-        private T[] array;
+        private volatile T[] array;
 
         public Array(T[] array) {
             this.array = array;
@@ -37,16 +58,26 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T get(int key) {
-            final T[] array = this.array;
-            return key < array.length ? array[key] : null;
+            while (true) {
+                final T[] array = this.array;
+                if (key >= array.length) return null;
+                final Object value = ELEMENT.getAcquire(array, key);
+                // Wait for the replacing array to be published
+                if (value != RETIRED) return (T) value;
+                Thread.onSpinWait();
+            }
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public void forValues(@NotNull Consumer<T> consumer) {
             final T[] array = this.array;
-            for (T value : array) {
-                if (value != null) consumer.accept(value);
+            for (int i = 0; i < array.length; i++) {
+                Object value = ELEMENT.getAcquire(array, i);
+                if (value == RETIRED) value = get(i);
+                if (value != null) consumer.accept((T) value);
             }
         }
 
@@ -57,17 +88,31 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
 
         @Override
         public void put(int key, T value) {
-            T[] array = this.array;
+            final T[] array = this.array;
             if (key >= array.length) {
-                array = updateArray(Arrays.copyOf(array, key * 2 + 1));
+                // Fill the new array before publishing it
+                final T[] result = retire(array, key * 2 + 1);
+                result[key] = value;
+                updateArray(result);
+                return;
             }
-            array[key] = value;
+            ELEMENT.setRelease(array, key, value);
+        }
+
+        @Override
+        public boolean replace(int key, @NotNull T expected, @NotNull T value) {
+            final T[] array = this.array;
+            // Fails on a retired slot, the value is then replaced in the new array
+            return key < array.length && ELEMENT.compareAndSet(array, key, expected, value);
         }
 
         @Override
         public void updateContent(@NotNull StaticIntMap<T> content) {
             if (content instanceof StaticIntMap.Array<T> arrayMap) {
-                updateArray(arrayMap.array.clone());
+                final T[] result = arrayMap.array.clone();
+                final T[] array = this.array;
+                retire(array, array.length);
+                updateArray(result);
             } else {
                 throw new IllegalArgumentException("Invalid content type: " + content.getClass());
             }
@@ -75,8 +120,20 @@ sealed interface StaticIntMap<T> permits StaticIntMap.Array {
 
         @Override
         public void remove(int key) {
-            T[] array = this.array;
-            if (key < array.length) array[key] = null;
+            final T[] array = this.array;
+            if (key < array.length) ELEMENT.setRelease(array, key, null);
+        }
+
+        /**
+         * Copies the array while retiring its slots, concurrent replaces are either copied or fail.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> T[] retire(T[] array, int length) {
+            final T[] result = Arrays.copyOf(array, length);
+            for (int i = 0; i < array.length; i++) {
+                result[i] = (T) ELEMENT.getAndSet(array, i, RETIRED);
+            }
+            return result;
         }
 
         T[] updateArray(T[] result) {
@@ -10,7 +10,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
-import java.lang.invoke.VarHandle;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
@@ -37,7 +36,6 @@ final class TagHandlerImpl implements TagHandler {
 
     @Override
     public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
-        VarHandle.fullFence();
         return root.getTag(tag);
     }
 
@@ -56,16 +54,15 @@ final class TagHandlerImpl implements TagHandler {
         }
         // Normal tag
         final int tagIndex = tag.index;
-        VarHandle.fullFence();
         Node node = traversePathWrite(root, tag, value != null);
         if (node == null)
             return; // Tried to remove an absent tag. Do nothing
         StaticIntMap<Entry<?>> entries = node.entries;
         if (value != null) {
             Entry previous = entries.get(tagIndex);
-            if (previous != null && previous.tag.shareValue(tag)) {
-                previous.updateValue(tag.copyValue(value));
-            } else {
+            // Fast path, swap the entry of a compatible tag without locking
+            if (previous == null || !previous.tag.shareValue(tag) ||
+                    !entries.replace(tagIndex, previous, new Entry<>(previous.tag, tag.copyValue(value)))) {
                 synchronized (this) {
                     node = traversePathWrite(root, tag, true);
                     node.entries.put(tagIndex, valueToEntry(node, tag, value));
@@ -158,7 +155,6 @@ final class TagHandlerImpl implements TagHandler {
 
     @Override
     public @NotNull CompoundBinaryTag asCompound() {
-        VarHandle.fullFence();
         return root.compound();
     }
 
@@ -230,7 +226,8 @@ final class TagHandlerImpl implements TagHandler {
     final class Node implements TagReadable {
         final Node parent;
         final StaticIntMap<Entry<?>> entries;
-        CompoundBinaryTag compound;
+        // Lazily serialized, invalidated on write
+        volatile CompoundBinaryTag compound;
 
         public Node(Node parent, StaticIntMap<Entry<?>> entries) {
             this.parent = parent;
@@ -330,9 +327,13 @@ final class TagHandlerImpl implements TagHandler {
         }
     }
 
+    /**
+     * Immutable tag value, updates replace the entry in the node map.
+     */
     private static final class Entry<T> {
         private final Tag<T> tag;
-        T value;
+        final T value;
+        // Cache computed on demand, racing threads compute the same value
         BinaryTag nbt;
 
         Entry(Tag<T> tag, T value) {
@@ -355,12 +356,6 @@ final class TagHandlerImpl implements TagHandler {
             return nbt;
         }
 
-        void updateValue(T value) {
-            assert !tag.entry.isPath();
-            this.value = value;
-            this.nbt = null;
-        }
-
         Node toNode() {
             if (tag.entry.isPath()) return (Node) value;
             if (updatedNbt() instanceof CompoundBinaryTag compound) {
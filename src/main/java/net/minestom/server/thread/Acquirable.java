@@ -59,6 +59,10 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
      * <p>
      * Useful when your code cannot be done inside a callback and need to be sync.
      * Do not forget to call {@link Acquired#unlock()} once you are done with it.
+     * <p>
+     * Nested acquisitions are not atomic: if the element's thread is busy, the locks already held by the current
+     * thread that are ordered after it are released while waiting, then taken again. Elements acquired beforehand
+     * may therefore change during this call.
      *
      * @return an acquired object
      * @see #sync(Consumer) for auto-closeable capability
@@ -95,6 +99,7 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
      * Locks the acquirable element, execute {@code consumer} synchronously and unlock the thread.
      * <p>
      * Free if the element is already present in the current thread, blocking otherwise.
+     * When nested in another acquisition, the outer elements may change while waiting, see {@link #lock()}.
      *
      * @param consumer the callback to execute once the element has been safely acquired
      */
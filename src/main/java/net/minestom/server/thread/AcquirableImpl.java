@@ -4,6 +4,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -11,9 +14,9 @@ final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
 
     /**
-     * Global lock used for synchronization.
+     * Threads whose lock has been acquired by the current thread, its own tick thread excluded.
      */
-    private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
+    private static final ThreadLocal<List<TickThread>> ACQUIRED_THREADS = ThreadLocal.withInitial(ArrayList::new);
 
     private final T value;
     private TickThread assignedThread;
@@ -41,7 +44,6 @@ final class AcquirableImpl<T> implements Acquirable<T> {
     static @Nullable ReentrantLock enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
         if (elementThread == null) return null;
         if (currentThread == elementThread) return null;
-        final ReentrantLock currentLock = currentThread instanceof TickThread ? ((TickThread) currentThread).lock() : null;
         final ReentrantLock targetLock = elementThread.lock();
         if (targetLock.isHeldByCurrentThread()) return null;
 
@@ -49,16 +51,9 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         final long time = System.nanoTime();
 
         // Enter the target thread
-        // TODO reduce global lock scope
-        if (currentLock != null) {
-            while (!GLOBAL_LOCK.tryLock()) {
-                currentLock.unlock();
-                currentLock.lock();
-            }
-        } else {
-            GLOBAL_LOCK.lock();
-        }
-        targetLock.lock();
+        final List<TickThread> acquired = ACQUIRED_THREADS.get();
+        if (!targetLock.tryLock()) lockOrdered(currentThread, elementThread, acquired);
+        acquired.add(elementThread);
 
         // Monitoring
         WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
@@ -66,9 +61,47 @@ final class AcquirableImpl<T> implements Acquirable<T> {
     }
 
     static void leave(@Nullable ReentrantLock lock) {
-        if (lock != null) {
-            lock.unlock();
-            GLOBAL_LOCK.unlock();
+        if (lock == null) return;
+        final List<TickThread> acquired = ACQUIRED_THREADS.get();
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            if (acquired.get(i).lock() == lock) {
+                acquired.remove(i);
+                break;
+            }
+        }
+        lock.unlock();
+    }
+
+    /**
+     * Blocks until the lock of {@code elementThread} is acquired.
+     * <p>
+     * Tick thread locks are always waited for in the order of {@link TickThread#index()}, every lock held by the current
+     * thread and ordered after the target is released before blocking then acquired again, preventing cycles.
+     * Elements of the released threads may therefore be modified while waiting.
+     */
+    private static void lockOrdered(Thread currentThread, TickThread elementThread, List<TickThread> acquired) {
+        final int targetIndex = elementThread.index();
+        List<TickThread> released = new ArrayList<>();
+        if (currentThread instanceof TickThread tickThread && tickThread.index() > targetIndex &&
+                tickThread.lock().isHeldByCurrentThread()) {
+            released.add(tickThread);
+        }
+        for (TickThread thread : acquired) {
+            if (thread.index() > targetIndex) released.add(thread);
+        }
+        released.sort(Comparator.comparingInt(TickThread::index));
+        final int[] holdCounts = new int[released.size()];
+        for (int i = 0; i < holdCounts.length; i++) {
+            final ReentrantLock lock = released.get(i).lock();
+            final int holdCount = lock.getHoldCount();
+            holdCounts[i] = holdCount;
+            for (int j = 0; j < holdCount; j++) lock.unlock();
+        }
+        // Every lock still held is ordered before the target
+        elementThread.lock().lock();
+        for (int i = 0; i < holdCounts.length; i++) {
+            final ReentrantLock lock = released.get(i).lock();
+            for (int j = 0; j < holdCounts[i]; j++) lock.lock();
         }
     }
 }
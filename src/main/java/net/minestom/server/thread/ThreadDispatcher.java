@@ -154,6 +154,11 @@ public final class ThreadDispatcher<P> {
                         partitionEntry.thread = next;
                         previous.entries().remove(partitionEntry);
                         next.entries().add(partitionEntry);
+                        for (Tickable element : partitionEntry.elements) {
+                            if (element instanceof AcquirableSource<?> acquirableSource) {
+                                ((AcquirableImpl<?>) acquirableSource.acquirable()).updateThread(next);
+                            }
+                        }
                     }
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
@@ -3,41 +3,72 @@ package net.minestom.server.thread;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.ServerProcess;
+import net.minestom.server.exception.ExceptionManager;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
 
 @ApiStatus.Internal
 public final class TickSchedulerThread extends MinestomThread {
-    private static final long TICK_TIME_NANOS = 1_000_000_000L / ServerFlag.SERVER_TICKS_PER_SECOND;
     // Windows has an issue with periodically being unable to sleep for < ~16ms at a time
     private static final long SLEEP_THRESHOLD = System.getProperty("os.name", "")
             .toLowerCase().startsWith("windows") ? 17 : 2;
 
-    private final ServerProcess serverProcess;
+    private final long tickTimeNanos;
+    private final int maxTickCatchUp;
+    private final BooleanSupplier running;
+    private final LongConsumer ticker;
+    private final ExceptionManager exceptionManager;
 
     public TickSchedulerThread(ServerProcess serverProcess) {
-        super(MinecraftServer.THREAD_NAME_TICK_SCHEDULER);
-        this.serverProcess = serverProcess;
+        this(MinecraftServer.THREAD_NAME_TICK_SCHEDULER,
+                ServerFlag.SERVER_TICKS_PER_SECOND, ServerFlag.SERVER_MAX_TICK_CATCH_UP,
+                serverProcess::isAlive, serverProcess.ticker()::tick, serverProcess.exception());
+    }
+
+    /**
+     * Creates a tick loop.
+     *
+     * @param name             the thread name
+     * @param ticksPerSecond   the number of ticks to run each second
+     * @param maxTickCatchUp   the number of late ticks after which the loop stops catching up
+     * @param running          the loop condition, checked before each tick
+     * @param ticker           the tick to run, given the tick start in nanoseconds
+     * @param exceptionManager the manager of exceptions thrown by {@code ticker}
+     */
+    public TickSchedulerThread(@NotNull String name, int ticksPerSecond, int maxTickCatchUp,
+                               @NotNull BooleanSupplier running, @NotNull LongConsumer ticker,
+                               @NotNull ExceptionManager exceptionManager) {
+        super(name);
+        this.tickTimeNanos = 1_000_000_000L / ticksPerSecond;
+        this.maxTickCatchUp = maxTickCatchUp;
+        this.running = running;
+        this.ticker = ticker;
+        this.exceptionManager = exceptionManager;
     }
 
     @Override
     public void run() {
+        final long tickTimeNanos = this.tickTimeNanos;
         long ticks = 0;
         long baseTime = System.nanoTime();
-        while (serverProcess.isAlive()) {
+        while (running.getAsBoolean()) {
             final long tickStart = System.nanoTime();
             try {
-                serverProcess.ticker().tick(tickStart);
+                ticker.accept(tickStart);
             } catch (Throwable e) {
-                serverProcess.exception().handleException(e);
+                exceptionManager.handleException(e);
             }
 
             ticks++;
-            long nextTickTime = baseTime + ticks * TICK_TIME_NANOS;
+            long nextTickTime = baseTime + ticks * tickTimeNanos;
             waitUntilNextTick(nextTickTime);
             // Check if the server can not keep up with the tickrate
             // if it gets too far behind, reset the ticks & baseTime
             // to avoid running too many ticks at once
-            if (System.nanoTime() > nextTickTime + TICK_TIME_NANOS * ServerFlag.SERVER_MAX_TICK_CATCH_UP) {
+            if (System.nanoTime() > nextTickTime + tickTimeNanos * maxTickCatchUp) {
                 baseTime = System.nanoTime();
                 ticks = 0;
             }
@@ -60,7 +91,7 @@ public final class TickSchedulerThread extends MinestomThread {
         try {
             Thread.sleep(time);
         } catch (InterruptedException e) {
-            serverProcess.exception().handleException(e);
+            exceptionManager.handleException(e);
         }
     }
 }
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -22,6 +23,9 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @ApiStatus.Internal
 public final class TickThread extends MinestomThread {
+    private static final AtomicInteger INDEX_COUNTER = new AtomicInteger();
+
+    private final int index = INDEX_COUNTER.getAndIncrement();
     private final ReentrantLock lock = new ReentrantLock();
     private volatile boolean stop;
 
@@ -74,6 +78,10 @@ public final class TickThread extends MinestomThread {
                     // #acquire() callbacks should be called here
                     lock.lock();
                 }
+                if (element instanceof AcquirableSource<?> source && source.acquirable().assignedThread() != this) {
+                    // Moved to another dispatcher, waiting for the removal to be processed
+                    continue;
+                }
                 try {
                     element.tick(tickTime);
                 } catch (Throwable e) {
@@ -109,6 +117,15 @@ public final class TickThread extends MinestomThread {
         return lock;
     }
 
+    /**
+     * Gets the unique index of this thread, defining the order in which tick thread locks are acquired.
+     *
+     * @return the thread index
+     */
+    int index() {
+        return index;
+    }
+
     public long getTick() {
         return tickNum;
     }
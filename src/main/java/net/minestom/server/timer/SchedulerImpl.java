@@ -1,13 +1,10 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -25,10 +22,11 @@ final class SchedulerImpl implements Scheduler {
     private final MpscUnboundedArrayQueue<TaskImpl> tasksToExecute = new MpscUnboundedArrayQueue<>(64);
     private final MpscUnboundedArrayQueue<TaskImpl> tickEndTasksToExecute = new MpscUnboundedArrayQueue<>(64);
     // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
+    private final TimerWheel tickStartTaskQueue = new TimerWheel();
+    private final TimerWheel tickEndTaskQueue = new TimerWheel();
 
-    private int tickState;
+    // Only written by the processing thread
+    private volatile int tickState;
 
     @Override
     public void process() {
@@ -41,21 +39,20 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        if (tickDelta != 0) this.tickState = tickState + tickDelta;
+        processTickTasks(tickStartTaskQueue, tasksToExecute);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute);
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
+    private void processTickTasks(TimerWheel targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute) {
+        // Skip locking entirely when nothing is scheduled, the wheel resynchronizes on the next submission
+        if (targetTaskQueue.size() != 0) {
+            synchronized (this) {
+                targetTaskQueue.advance(tickState, targetTasksToExecute::relaxedOffer);
             }
         }
         runTasks(targetTasksToExecute);
@@ -108,12 +105,12 @@ final class SchedulerImpl implements Scheduler {
             SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
             synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
+                final int now = tickState;
                 var targetTaskQueue = switch (task.executionType()) {
                     case TICK_START -> tickStartTaskQueue;
                     case TICK_END -> tickEndTaskQueue;
                 };
-                targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
+                targetTaskQueue.schedule(task, (long) now + tickSchedule.tick(), now);
             }
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
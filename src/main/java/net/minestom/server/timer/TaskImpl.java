@@ -26,6 +26,10 @@ final class TaskImpl implements Task {
     volatile boolean alive;
     volatile boolean parked;
 
+    // Intrusive links used by TimerWheel, guarded by the owner
+    TaskImpl wheelNext;
+    long wheelTarget;
+
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
              @NotNull ExecutionType executionType,
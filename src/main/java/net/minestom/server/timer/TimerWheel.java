@@ -0,0 +1,129 @@
+package net.minestom.server.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel used to hold tick-based tasks.
+ * <p>
+ * Insertion and expiration are O(1), tasks are linked intrusively through {@link TaskImpl#wheelNext}
+ * so scheduling does not allocate. Slot arrays are only allocated once a level is used,
+ * meaning that a wheel which never receives a task costs a single object.
+ * <p>
+ * Not thread-safe, must be guarded by the owning scheduler.
+ */
+final class TimerWheel {
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOT_COUNT = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 4;
+
+    private final TaskImpl[][] levels = new TaskImpl[LEVEL_COUNT][];
+    private long currentTick;
+    private volatile int size;
+
+    /**
+     * Gets the number of tasks waiting in the wheel.
+     * <p>
+     * Can be safely read without holding the owner lock.
+     *
+     * @return the number of scheduled tasks
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a task to expire once the wheel reaches {@code targetTick}.
+     *
+     * @param task       the task to schedule
+     * @param targetTick the absolute tick at which the task should expire
+     * @param now        the current tick of the owner, used to resynchronize an empty wheel
+     */
+    void schedule(@NotNull TaskImpl task, long targetTick, long now) {
+        if (size == 0 && now > currentTick) {
+            // The wheel is not advanced while empty
+            this.currentTick = now;
+        }
+        // Late tasks expire during the next advance
+        task.wheelTarget = Math.max(targetTick, currentTick + 1);
+        insert(task);
+        this.size = size + 1;
+    }
+
+    /**
+     * Advances the wheel up to {@code tick} (inclusive) and consumes every expired task.
+     *
+     * @param tick     the tick to advance to
+     * @param consumer the consumer of expired tasks
+     */
+    void advance(long tick, @NotNull Consumer<TaskImpl> consumer) {
+        if (size == 0) {
+            if (tick > currentTick) this.currentTick = tick;
+            return;
+        }
+        while (currentTick < tick) {
+            final long current = ++currentTick;
+            // Cascade higher levels once the lower one wrapped
+            for (int level = LEVEL_COUNT - 1; level > 0; level--) {
+                final int shift = level * LEVEL_BITS;
+                if ((current & ((1L << shift) - 1)) != 0) continue;
+                final TaskImpl[] slots = levels[level];
+                if (slots == null) continue;
+                final int index = (int) (current >>> shift) & SLOT_MASK;
+                TaskImpl task = slots[index];
+                slots[index] = null;
+                while (task != null) {
+                    final TaskImpl next = task.wheelNext;
+                    insert(task);
+                    task = next;
+                }
+            }
+            // Expire level 0
+            final TaskImpl[] slots = levels[0];
+            if (slots == null) continue;
+            final int index = (int) current & SLOT_MASK;
+            TaskImpl task = slots[index];
+            slots[index] = null;
+            while (task != null) {
+                final TaskImpl next = task.wheelNext;
+                task.wheelNext = null;
+                if (task.wheelTarget > current) {
+                    insert(task);
+                } else {
+                    this.size = size - 1;
+                    consumer.accept(task);
+                }
+                task = next;
+            }
+            if (size == 0) {
+                this.currentTick = tick;
+                return;
+            }
+        }
+    }
+
+    private void insert(TaskImpl task) {
+        final long current = currentTick;
+        final long target = task.wheelTarget;
+        int level = 0;
+        int index = -1;
+        for (; level < LEVEL_COUNT; level++) {
+            final int shift = level * LEVEL_BITS;
+            if ((target >>> shift) - (current >>> shift) < SLOT_COUNT) {
+                index = (int) (target >>> shift) & SLOT_MASK;
+                break;
+            }
+        }
+        if (index == -1) {
+            // Further than the wheel can represent, park in the furthest slot and cascade again later
+            level = LEVEL_COUNT - 1;
+            index = (int) ((current >>> (level * LEVEL_BITS)) + SLOT_MASK) & SLOT_MASK;
+        }
+        TaskImpl[] slots = levels[level];
+        if (slots == null) slots = levels[level] = new TaskImpl[SLOT_COUNT];
+        task.wheelNext = slots[index];
+        slots[index] = task;
+    }
+}
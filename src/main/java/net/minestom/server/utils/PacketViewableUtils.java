@@ -9,6 +9,9 @@ import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceTickGroup;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketWriting;
@@ -63,11 +66,33 @@ public final class PacketViewableUtils {
         return storage;
     }
 
+    /**
+     * Sends the waiting packets of the viewables ticked by the server.
+     */
     public static void flush() {
+        flush(null);
+    }
+
+    /**
+     * Sends the waiting packets of the viewables ticked by a group.
+     *
+     * @param tickGroup the group of the viewables, null for the ones ticked by the server
+     */
+    public static void flush(@Nullable InstanceTickGroup tickGroup) {
         if (!ServerFlag.VIEWABLE_PACKET) return;
         Map<Viewable, ViewableStorage> map = storageMap;
-        map.entrySet().parallelStream().forEach(entry ->
-                entry.getValue().process(entry.getKey()));
+        map.entrySet().parallelStream()
+                .filter(entry -> tickGroup(entry.getKey()) == tickGroup)
+                .forEach(entry -> entry.getValue().process(entry.getKey()));
+    }
+
+    private static @Nullable InstanceTickGroup tickGroup(Viewable viewable) {
+        final Instance instance = switch (viewable) {
+            case Entity entity -> entity.getInstance();
+            case Chunk chunk -> chunk.getInstance();
+            default -> null;
+        };
+        return instance != null ? instance.getTickGroup() : null;
     }
 
     public static void prepareViewablePacket(@NotNull Viewable viewable, @NotNull ServerPacket serverPacket) {
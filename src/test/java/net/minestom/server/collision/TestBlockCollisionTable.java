@@ -0,0 +1,53 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBlockCollisionTable {
+
+    private static @NotNull Stream<Arguments> flagCases() {
+        return Stream.of(
+                Arguments.of(Block.AIR, BlockCollisionTable.EMPTY | BlockCollisionTable.SHORT),
+                Arguments.of(Block.STONE, BlockCollisionTable.FULL_CUBE),
+                Arguments.of(Block.OAK_SLAB, 0),
+                Arguments.of(Block.OAK_FENCE, BlockCollisionTable.TALL),
+                Arguments.of(Block.OAK_TRAPDOOR, BlockCollisionTable.SHORT)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("flagCases")
+    void flags(@NotNull Block block, int expectedFlags) {
+        assertEquals(expectedFlags, BlockCollisionTable.flags(block));
+    }
+
+    @Test
+    void sweepMatchesShape() {
+        final BoundingBox moving = new BoundingBox(0.6, 1.8, 0.6);
+        final Pos start = new Pos(0.5, 2.2, 0.3);
+        final Vec velocity = new Vec(0.4, -1.5, 0.9);
+        for (Block block : new Block[]{Block.STONE, Block.OAK_STAIRS, Block.OAK_SLAB, Block.OAK_FENCE, Block.AIR}) {
+            SweepResult expected = new SweepResult(1 - Vec.EPSILON, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
+            SweepResult actual = new SweepResult(1 - Vec.EPSILON, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
+            final boolean expectedHit = block.registry().collisionShape()
+                    .intersectBoxSwept(start, velocity, new Vec(0, 0, 1), moving, expected);
+            final boolean actualHit = BlockCollisionTable.sweep(block, 0, 0, 1, start, velocity, moving, actual);
+            assertEquals(expectedHit, actualHit, block.name());
+            assertEquals(expected.res, actual.res, block.name());
+            assertEquals(expected.normalX, actual.normalX);
+            assertEquals(expected.normalY, actual.normalY);
+            assertEquals(expected.normalZ, actual.normalZ);
+            assertSame(expected.collidedShape, actual.collidedShape);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package net.minestom.server.command;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
+import net.minestom.server.network.player.GameProfile;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,6 +108,32 @@ public class CommandManagerTest {
         assertTrue(checkAB.get());
     }
 
+    @Test
+    public void testVisibilityProfile() {
+        var manager = new CommandManager();
+        var command = new Command("cmd");
+        command.setCondition((sender, commandString) -> sender instanceof Player player && player.getUsername().startsWith("admin"));
+        manager.register(command);
+
+        var admin1 = new Player(null, new GameProfile(UUID.randomUUID(), "admin1"));
+        var admin2 = new Player(null, new GameProfile(UUID.randomUUID(), "admin2"));
+        var user = new Player(null, new GameProfile(UUID.randomUUID(), "user"));
+
+        // Without profiles, every player gets its own packet
+        assertInstanceOf(DeclareCommandsPacket.class, manager.declareCommandsPacket(admin1));
+
+        manager.setVisibilityProfileProvider(player -> player.getUsername().startsWith("admin") ? "admin" : null);
+        var adminPacket = assertInstanceOf(CachedPacket.class, manager.declareCommandsPacket(admin1));
+        assertSame(adminPacket, manager.declareCommandsPacket(admin2));
+        assertEquals(2, manager.createDeclareCommandsPacket(admin2).nodes().size());
+        assertEquals(1, manager.createDeclareCommandsPacket(user).nodes().size());
+
+        // Registration changes invalidate the cached packets
+        manager.register(new Command("other"));
+        assertNotSame(adminPacket, manager.declareCommandsPacket(admin1));
+        assertEquals(3, manager.createDeclareCommandsPacket(admin1).nodes().size());
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
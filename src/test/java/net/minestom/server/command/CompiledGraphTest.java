@@ -0,0 +1,77 @@
+package net.minestom.server.command;
+
+import net.minestom.server.command.builder.Command;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static net.minestom.server.command.builder.arguments.ArgumentType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledGraphTest {
+
+    private static Graph graph() {
+        return Graph.merge(Set.of(
+                new Command("foo") {{
+                    addSubcommand(new Command("bar") {{
+                        addSyntax((sender, context) -> {}, Literal("a"), Integer("value"));
+                        addSyntax((sender, context) -> {}, Literal("b"), Word("word").from("x", "y"));
+                        addSyntax((sender, context) -> {}, Word("word").from("a", "c"), Literal("d"));
+                    }});
+                    addSubcommand(new Command("baz", "qux"));
+                    addSyntax((sender, context) -> {}, Literal("lit"), String("text"));
+                    addSyntax((sender, context) -> {}, Entity("entity"));
+                }},
+                new Command("def") {{
+                    setDefaultExecutor((sender, context) -> {});
+                    addSyntax((sender, context) -> {}, Literal("a"), Literal("b"), Literal("c"));
+                }},
+                new Command("tp", "teleport") {{
+                    addSyntax((sender, context) -> {}, RelativeVec3("pos"));
+                }}
+        ));
+    }
+
+    @Test
+    public void sameResults() {
+        final Graph graph = graph();
+        final CompiledGraph compiled = new CompiledGraph(graph, 0);
+        final CommandSender sender = new ServerSender();
+        for (String input : List.of("", "foo", "foo ", "foo bar", "foo bar a", "foo bar a 5", "foo bar a five",
+                "foo bar b x", "foo bar b z", "foo bar c", "foo bar c d", "foo bar d", "foo baz", "foo qux",
+                "foo unknown", "foo lit", "foo lit text", "foo @p", "def", "def a", "def a b", "def a b c", "def z",
+                "tp", "tp 1 2 3", "tp ~ ~ ~", "teleport 1 2", "unknown", "foo  bar")) {
+            final CommandParser.Result expected = CommandParser.parser().parse(sender, graph, input);
+            final CommandParser.Result result = compiled.parse(sender, input);
+            assertEquals(expected.getClass(), result.getClass(), input);
+            assertEquals(expected.args(), result.args(), input);
+        }
+    }
+
+    @Test
+    public void cacheResults() {
+        final CompiledGraph compiled = new CompiledGraph(graph(), 16);
+        final CommandSender sender = new ServerSender();
+
+        final CommandParser.Result result = compiled.parse(sender, "foo bar a 5");
+        assertInstanceOf(CommandParser.Result.KnownCommand.Valid.class, result);
+        assertSame(result, compiled.parse(sender, "foo bar a 5"));
+        assertSame(compiled.parse(sender, "unknown"), compiled.parse(sender, "unknown"));
+        // Different sender type
+        assertNotSame(result, compiled.parse(new ConsoleSender(), "foo bar a 5"));
+        // Entity parsing may depend on the sender
+        assertNotSame(compiled.parse(sender, "foo @p"), compiled.parse(sender, "foo @p"));
+    }
+
+    @Test
+    public void cacheEviction() {
+        final CompiledGraph compiled = new CompiledGraph(graph(), 2);
+        final CommandSender sender = new ServerSender();
+
+        final CommandParser.Result result = compiled.parse(sender, "tp 1 2 3");
+        compiled.parse(sender, "tp 1 2 4");
+        compiled.parse(sender, "tp 1 2 5");
+        assertNotSame(result, compiled.parse(sender, "tp 1 2 3"));
+    }
+}
@@ -0,0 +1,63 @@
+package net.minestom.server.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerChunkTrackerTest {
+
+    @Test
+    public void markSent() {
+        var tracker = new PlayerChunkTracker(2);
+        tracker.setView(0, 0, 2);
+        assertTrue(tracker.markSent(1, -2));
+        assertTrue(tracker.isSent(1, -2));
+        assertFalse(tracker.markSent(1, -2), "Chunk should only be sent once");
+        tracker.unmarkSent(1, -2);
+        assertFalse(tracker.isSent(1, -2));
+        assertTrue(tracker.markSent(1, -2));
+    }
+
+    @Test
+    public void outOfView() {
+        var tracker = new PlayerChunkTracker(2);
+        tracker.setView(0, 0, 2);
+        // Not tracked
+        assertTrue(tracker.markSent(3, 0));
+        assertTrue(tracker.markSent(3, 0));
+        assertFalse(tracker.isSent(3, 0));
+    }
+
+    @Test
+    public void ringMovement() {
+        var tracker = new PlayerChunkTracker(2);
+        tracker.setView(0, 0, 2);
+        assertTrue(tracker.markSent(-2, 0));
+        // Move so that (3, 0) shares the slot of (-2, 0), which is now out of view
+        tracker.setView(1, 0, 2);
+        assertTrue(tracker.markSent(3, 0), "Stale slots should be overwritten");
+        assertTrue(tracker.isSent(3, 0));
+        assertFalse(tracker.isSent(-2, 0));
+        // Unmarking the stale chunk must not affect the visible one
+        tracker.unmarkSent(-2, 0);
+        assertTrue(tracker.isSent(3, 0));
+    }
+
+    @Test
+    public void clampedRange() {
+        var tracker = new PlayerChunkTracker(2);
+        tracker.setView(0, 0, 10);
+        assertFalse(tracker.isInView(3, 0));
+        assertTrue(tracker.isInView(2, 2));
+    }
+
+    @Test
+    public void clear() {
+        var tracker = new PlayerChunkTracker(2);
+        tracker.setView(0, 0, 2);
+        tracker.markSent(0, 0);
+        tracker.clear();
+        assertFalse(tracker.isSent(0, 0));
+        assertTrue(tracker.markSent(0, 0));
+    }
+}
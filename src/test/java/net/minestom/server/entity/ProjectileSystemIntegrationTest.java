@@ -0,0 +1,79 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.event.entity.projectile.ProjectileCollideWithBlockEvent;
+import net.minestom.server.event.entity.projectile.ProjectileCollideWithEntityEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ProjectileSystemIntegrationTest {
+
+    @Test
+    public void blockHit(Env env) {
+        final Instance instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        for (int y = 41; y <= 43; y++) instance.setBlock(5, y, 0, Block.STONE);
+
+        final var eventRef = new AtomicReference<ProjectileCollideWithBlockEvent>();
+        env.process().eventHandler().addListener(ProjectileCollideWithBlockEvent.class, eventRef::set);
+
+        final ProjectileSystem projectiles = instance.getProjectileSystem();
+        projectiles.spawn(EntityType.ARROW, null, new Pos(0.5, 42, 0.5), new Vec(20, 0, 0));
+        for (int i = 0; i < 10 && eventRef.get() == null; i++) instance.tick(0);
+
+        final var event = eventRef.get();
+        assertNotNull(event, "Projectile should have hit the wall");
+        assertEquals(5, event.getCollisionPosition().blockX());
+        assertEquals(Block.STONE, event.getBlock());
+        assertInstanceOf(EntityProjectile.class, event.getEntity());
+        assertEquals(0, projectiles.size(), "Stuck projectiles should leave the batched simulation");
+    }
+
+    @Test
+    public void entityHit(Env env) {
+        final Instance instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        final Entity shooter = new LivingEntity(EntityType.SKELETON);
+        shooter.setInstance(instance, new Pos(0.5, 40, 0.5)).join();
+        final LivingEntity target = new LivingEntity(EntityType.ZOMBIE);
+        target.setInstance(instance, new Pos(5.5, 40, 0.5)).join();
+
+        final var eventRef = new AtomicReference<ProjectileCollideWithEntityEvent>();
+        env.process().eventHandler().addListener(ProjectileCollideWithEntityEvent.class, eventRef::set);
+
+        final ProjectileSystem projectiles = instance.getProjectileSystem();
+        final int id = projectiles.spawn(EntityType.ARROW, shooter, new Pos(0.5, 41.5, 0.5), new Vec(20, 0, 0));
+        for (int i = 0; i < 10 && eventRef.get() == null; i++) instance.tick(0);
+
+        final var event = eventRef.get();
+        assertNotNull(event, "Projectile should have hit the target");
+        assertSame(target, event.getTarget(), "Shooter must be ignored");
+        assertSame(shooter, ((EntityProjectile) event.getEntity()).getShooter());
+        assertNotEquals(id, shooter.getEntityId());
+        assertEquals(0, projectiles.size());
+    }
+
+    @Test
+    public void removal(Env env) {
+        final Instance instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        final ProjectileSystem projectiles = instance.getProjectileSystem();
+        final int id = projectiles.spawn(EntityType.ARROW, null, new Pos(0.5, 60, 0.5), new Vec(0, 1, 0));
+        instance.tick(0);
+        assertEquals(1, projectiles.size());
+        projectiles.remove(id);
+        instance.tick(0);
+        assertEquals(0, projectiles.size());
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -211,6 +212,7 @@ public class PlayerIntegrationTest {
         var player = connection.connect(instance, new Pos(0, 42, 0));
 
         player.setDisplayName(Component.text("Display Name!"));
+        env.tick();
 
         var connection2 = env.createConnection();
         var tracker2 = connection2.trackIncoming(PlayerInfoUpdatePacket.class);
@@ -224,6 +226,7 @@ public class PlayerIntegrationTest {
         var tracker3 = connection2.trackIncoming(PlayerInfoUpdatePacket.class);
 
         player.setDisplayName(Component.text("Other Name!"));
+        env.tick();
 
         var displayNamePackets2 = tracker3.collect().stream().filter((packet) ->
                         packet.actions().stream().anyMatch((act) -> act == PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME))
@@ -236,6 +239,45 @@ public class PlayerIntegrationTest {
         assertEquals(2, displayNamePackets3);
     }
 
+    @Test
+    public void playerInfoAggregation(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+        var other = env.createPlayer(instance, new Pos(0, 42, 0));
+        env.tick();
+
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        player.setGameMode(GameMode.CREATIVE);
+        other.setGameMode(GameMode.CREATIVE);
+        player.refreshLatency(50);
+        player.setDisplayName(Component.text("First"));
+        player.setDisplayName(Component.text("Second"));
+        other.refreshLatency(100);
+        assertEquals(0, tracker.collect().size(), "Changes should be sent on the next tick");
+
+        env.tick();
+        var packets = tracker.collect();
+        assertEquals(2, packets.size());
+        var playerPacket = packets.stream().filter(packet -> packet.entries().getFirst().uuid().equals(player.getUuid()))
+                .findFirst().orElseThrow();
+        assertEquals(EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE, PlayerInfoUpdatePacket.Action.UPDATE_LATENCY,
+                PlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME), playerPacket.actions());
+        assertEquals(1, playerPacket.entries().size());
+        assertEquals(Component.text("Second"), playerPacket.entries().getFirst().displayName());
+        assertEquals(50, playerPacket.entries().getFirst().latency());
+
+        // Players sharing the same changes are grouped
+        var tracker2 = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        player.refreshLatency(10);
+        other.refreshLatency(20);
+        env.tick();
+        tracker2.assertSingle(packet -> {
+            assertEquals(EnumSet.of(PlayerInfoUpdatePacket.Action.UPDATE_LATENCY), packet.actions());
+            assertEquals(2, packet.entries().size());
+        });
+    }
+
     @Test
     public void setView(Env env) {
         var instance = env.createFlatInstance();
@@ -0,0 +1,148 @@
+package net.minestom.server.entity.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.entity.Player;
+import net.minestom.server.entity.TabListScope;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.network.packet.server.play.PlayerInfoRemovePacket;
+import net.minestom.server.network.packet.server.play.PlayerInfoUpdatePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PlayerTabListIntegrationTest {
+
+    @Test
+    public void instanceScope(Env env) {
+        env.process().connection().setTabListScope(TabListScope.instance());
+        var instanceA = env.createFlatInstance();
+        var instanceB = env.createFlatInstance();
+        var playerA = env.createPlayer(instanceA, new Pos(0, 42, 0));
+        var playerB = env.createPlayer(instanceB, new Pos(0, 42, 0));
+
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        var player = connection.connect(instanceA, new Pos(0, 42, 0));
+        var listed = listed(tracker.collect());
+        assertTrue(listed.contains(playerA.getUuid()));
+        assertTrue(listed.contains(player.getUuid()));
+        assertFalse(listed.contains(playerB.getUuid()), "Players of other instances should not be listed");
+
+        // Updates are only sent to the players listing each other
+        var updateTracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        playerB.setGameMode(GameMode.CREATIVE);
+        env.tick();
+        updateTracker.assertEmpty();
+        playerA.setGameMode(GameMode.CREATIVE);
+        env.tick();
+        updateTracker.assertSingle(packet -> assertEquals(playerA.getUuid(), packet.entries().getFirst().uuid()));
+
+        // Changing instance moves the player to the other group
+        var joinTracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        playerB.setInstance(instanceA).join();
+        assertTrue(listed(joinTracker.collect()).contains(playerB.getUuid()));
+
+        var removeTracker = connection.trackIncoming(PlayerInfoRemovePacket.class);
+        playerA.setInstance(instanceB, new Pos(0, 42, 0)).join();
+        removeTracker.assertSingle(packet -> assertEquals(List.of(playerA.getUuid()), packet.uuids()));
+    }
+
+    @Test
+    public void filterScope(Env env) {
+        AtomicBoolean visible = new AtomicBoolean(true);
+        env.process().connection().setTabListScope(TabListScope.filter((viewer, target) -> visible.get(), 1));
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        connection.connect(instance, new Pos(0, 42, 0));
+        // Far away so that the entities are not visible
+        var first = env.createPlayer(instance, new Pos(1000, 42, 1000));
+        var second = env.createPlayer(instance, new Pos(1000, 42, 1000));
+
+        var listed = listed(tracker.collect());
+        assertTrue(listed.contains(first.getUuid()));
+        assertFalse(listed.contains(second.getUuid()), "The tab-list should be limited");
+
+        var removeTracker = connection.trackIncoming(PlayerInfoRemovePacket.class);
+        visible.set(false);
+        first.refreshTabList();
+        removeTracker.assertSingle(packet -> assertEquals(List.of(first.getUuid()), packet.uuids()));
+    }
+
+    @Test
+    public void unlistedVisibleEntity(Env env) {
+        env.process().connection().setTabListScope(TabListScope.filter((viewer, target) -> false, 10));
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        connection.connect(instance, new Pos(0, 42, 0));
+        Player other = env.createPlayer(instance, new Pos(0, 42, 0));
+
+        // The entry is required to spawn the entity, but the player is not listed
+        var entries = tracker.collect().stream()
+                .filter(packet -> packet.actions().contains(PlayerInfoUpdatePacket.Action.ADD_PLAYER))
+                .flatMap(packet -> packet.entries().stream())
+                .filter(entry -> entry.uuid().equals(other.getUuid()))
+                .toList();
+        assertFalse(entries.isEmpty());
+        assertTrue(entries.stream().noneMatch(PlayerInfoUpdatePacket.Entry::listed));
+
+        var removeTracker = connection.trackIncoming(PlayerInfoRemovePacket.class);
+        other.teleport(new Pos(1000, 42, 1000)).join();
+        env.tick();
+        removeTracker.assertSingle(packet -> assertEquals(List.of(other.getUuid()), packet.uuids()));
+    }
+
+    @Test
+    public void addPacketOverride(Env env) {
+        // Overrides should reach the players joining after the overridden player
+        env.process().connection().setPlayerProvider((connection, gameProfile) -> new Player(connection, gameProfile) {
+            @Override
+            protected @NotNull PlayerInfoUpdatePacket getAddPlayerToList() {
+                final PlayerInfoUpdatePacket packet = super.getAddPlayerToList();
+                final PlayerInfoUpdatePacket.Entry entry = packet.entries().getFirst();
+                return new PlayerInfoUpdatePacket(packet.actions(), List.of(new PlayerInfoUpdatePacket.Entry(entry.uuid(),
+                        "custom", entry.properties(), entry.listed(), entry.latency(), entry.gameMode(),
+                        entry.displayName(), entry.chatSession(), entry.listOrder())));
+            }
+
+            @Override
+            public void sendChunk(@NotNull Chunk chunk) {
+                sendPacket(chunk.getFullDataPacket());
+            }
+        });
+        var instance = env.createFlatInstance();
+        var first = env.createPlayer(instance, new Pos(0, 42, 0));
+
+        var connection = env.createConnection();
+        var tracker = connection.trackIncoming(PlayerInfoUpdatePacket.class);
+        connection.connect(instance, new Pos(0, 42, 0));
+        assertTrue(tracker.collect().stream()
+                .filter(packet -> packet.actions().contains(PlayerInfoUpdatePacket.Action.ADD_PLAYER))
+                .flatMap(packet -> packet.entries().stream())
+                .anyMatch(entry -> entry.uuid().equals(first.getUuid()) && entry.username().equals("custom")));
+    }
+
+    private static Set<UUID> listed(List<PlayerInfoUpdatePacket> packets) {
+        Set<UUID> listed = new HashSet<>();
+        for (PlayerInfoUpdatePacket packet : packets) {
+            if (!packet.actions().contains(PlayerInfoUpdatePacket.Action.UPDATE_LISTED)) continue;
+            for (PlayerInfoUpdatePacket.Entry entry : packet.entries()) {
+                if (entry.listed()) listed.add(entry.uuid());
+                else listed.remove(entry.uuid());
+            }
+        }
+        return listed;
+    }
+}
@@ -0,0 +1,67 @@
+package net.minestom.server.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventDispatchGeneratorTest {
+
+    record TestEvent(int value) implements Event {
+    }
+
+    @Test
+    public void sequenceOrder() {
+        List<Integer> calls = new ArrayList<>();
+        List<MethodHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final int index = i;
+            handles.add(EventDispatchGenerator.consumer((Consumer<TestEvent>) e -> calls.add(index)));
+        }
+        Consumer<TestEvent> consumer = EventDispatchGenerator.generate(EventDispatchGenerator.sequence(handles));
+        consumer.accept(new TestEvent(0));
+        assertEquals(List.of(0, 1, 2, 3, 4), calls);
+    }
+
+    @Test
+    public void longSequence() {
+        List<Integer> calls = new ArrayList<>();
+        List<MethodHandle> handles = new ArrayList<>();
+        final int count = EventDispatchGenerator.MAX_INLINED * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            handles.add(EventDispatchGenerator.consumer((Consumer<TestEvent>) e -> calls.add(index)));
+        }
+        Consumer<TestEvent> consumer = EventDispatchGenerator.generate(EventDispatchGenerator.sequence(handles));
+        consumer.accept(new TestEvent(0));
+        assertEquals(count, calls.size());
+        for (int i = 0; i < count; i++) assertEquals(i, calls.get(i));
+    }
+
+    @Test
+    public void filter() {
+        List<Integer> calls = new ArrayList<>();
+        EventFilter<TestEvent, Integer> filter = EventFilter.from(TestEvent.class, Integer.class, TestEvent::value);
+        MethodHandle target = EventDispatchGenerator.consumer((Consumer<TestEvent>) e -> calls.add(e.value()));
+        MethodHandle filtered = EventDispatchGenerator.filter((event, value) -> (Integer) value > 5, filter, target);
+        Consumer<TestEvent> consumer = EventDispatchGenerator.generate(filtered);
+        consumer.accept(new TestEvent(1));
+        consumer.accept(new TestEvent(10));
+        assertEquals(List.of(10), calls);
+    }
+
+    @Test
+    public void exceptionPropagation() {
+        List<MethodHandle> handles = List.of(
+                EventDispatchGenerator.consumer((Consumer<TestEvent>) e -> {
+                    throw new IllegalStateException("test");
+                }),
+                EventDispatchGenerator.consumer((Consumer<TestEvent>) e -> fail("Dispatch should have been interrupted")));
+        Consumer<TestEvent> consumer = EventDispatchGenerator.generate(EventDispatchGenerator.sequence(handles));
+        assertThrows(IllegalStateException.class, () -> consumer.accept(new TestEvent(0)));
+    }
+}
@@ -0,0 +1,111 @@
+package net.minestom.server.event;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.trait.CancellableEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventNodePostTest {
+
+    static class CancellableTest implements CancellableEvent {
+        private boolean cancelled = false;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    record ValueEvent(int value) implements Event {
+    }
+
+    @Test
+    public void completedSnapshot() throws InterruptedException {
+        var node = EventNode.all("main");
+        var child = EventNode.all("child");
+        node.addChild(child);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        // Registered first, the snapshot must still be taken after the synchronous listeners
+        node.addPostListener(CancellableTest.class, CancellableTest::isCancelled, cancelled -> {
+            result.set(cancelled);
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        });
+        child.addListener(CancellableTest.class, event -> event.setCancelled(true));
+
+        assertTrue(node.hasListener(CancellableTest.class));
+        node.call(new CancellableTest());
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(result.get(), "The snapshot should see the completed event");
+        assertNotSame(Thread.currentThread(), thread.get(), "Post listeners should run off-thread");
+    }
+
+    @Test
+    public void childPostListener() throws InterruptedException {
+        var node = EventNode.all("main");
+        var child = EventNode.event("child", EventFilter.ALL, event -> event instanceof ValueEvent value && value.value() > 5);
+        node.addChild(child);
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        child.addPostListener(EventPostListener.of(ValueEvent.class, event -> {
+            values.add(event.value());
+            latch.countDown();
+        }));
+        assertTrue(node.hasListener(ValueEvent.class));
+
+        node.call(new ValueEvent(1));
+        node.call(new ValueEvent(10));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(10), values, "The node predicate should apply to post listeners");
+    }
+
+    @Test
+    public void removal() {
+        var node = EventNode.all("main");
+        final long submitted = EventPostExecutor.metrics().submitted();
+        var listener = EventPostListener.of(ValueEvent.class, event -> {
+        });
+        node.addPostListener(listener);
+        assertTrue(node.hasListener(ValueEvent.class));
+        node.removePostListener(listener);
+        assertFalse(node.hasListener(ValueEvent.class));
+        node.call(new ValueEvent(0));
+        assertEquals(submitted, EventPostExecutor.metrics().submitted(), "The listener should have been removed");
+    }
+
+    @Test
+    public void failingListener() throws InterruptedException {
+        MinecraftServer.init();
+        var node = EventNode.all("main");
+        CountDownLatch latch = new CountDownLatch(1);
+        node.addListener(ValueEvent.class, event -> {
+            throw new IllegalStateException("Expected failure");
+        });
+        node.addPostListener(EventPostListener.of(ValueEvent.class, event -> latch.countDown()));
+        node.call(new ValueEvent(0));
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "The post phase should run after a failing listener");
+    }
+
+    @Test
+    public void ignoredSnapshot() {
+        var node = EventNode.all("main");
+        final long submitted = EventPostExecutor.metrics().submitted();
+        node.addPostListener(ValueEvent.class, event -> null, value -> fail("Null snapshots should be ignored"));
+        node.call(new ValueEvent(0));
+        assertEquals(submitted, EventPostExecutor.metrics().submitted());
+    }
+}
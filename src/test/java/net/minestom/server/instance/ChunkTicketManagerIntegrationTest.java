@@ -0,0 +1,134 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkTicketManagerIntegrationTest {
+
+    @Test
+    public void ticketHoldsChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var tickets = instance.chunkTickets();
+        tickets.setAutoUnload(true);
+        tickets.setUnloadDelay(0);
+
+        var ticket = tickets.addTicket(ChunkTicketManager.Type.PLUGIN, 10, 10, 1);
+        assertEquals(1, tickets.getTicketCount(11, 11));
+        assertEquals(0, tickets.getTicketCount(12, 12));
+        tickUntilScanned(env);
+        for (int x = 9; x <= 11; x++) {
+            for (int z = 9; z <= 11; z++) {
+                assertNotNull(instance.getChunk(x, z), "Chunk held by a ticket should stay loaded");
+            }
+        }
+
+        tickets.removeTicket(ticket);
+        assertTrue(ticket.isReleased());
+        assertEquals(0, tickets.getTicketCount(10, 10));
+        tickUntilScanned(env);
+        assertNull(instance.getChunk(10, 10));
+        assertNull(instance.getChunk(11, 11));
+    }
+
+    @Test
+    public void ticketExpiry(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var tickets = instance.chunkTickets();
+        var type = new ChunkTicketManager.Type("test", 3);
+        var ticket = tickets.addTicket(type, 0, 0, 0);
+        assertEquals(1, tickets.getTicketCount(0, 0));
+        for (int i = 0; i < 3; i++) env.tick();
+        assertTrue(ticket.isReleased());
+        assertEquals(0, tickets.getTicketCount(0, 0));
+    }
+
+    @Test
+    public void unloadDelay(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var tickets = instance.chunkTickets();
+        tickets.setAutoUnload(true);
+        tickets.setUnloadDelay(ChunkTicketManager.SCAN_INTERVAL * 2);
+        instance.loadChunk(20, 20).join();
+
+        tickUntilScanned(env);
+        assertNotNull(instance.getChunk(20, 20), "Chunk should stay loaded until the delay expires");
+        for (int i = 0; i < ChunkTicketManager.SCAN_INTERVAL * 3; i++) env.tick();
+        assertNull(instance.getChunk(20, 20));
+    }
+
+    @Test
+    public void playerViewHoldsChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var tickets = instance.chunkTickets();
+        tickets.setAutoUnload(true);
+        tickets.setUnloadDelay(0);
+        env.createPlayer(instance, new Pos(0, 42, 0));
+        instance.loadChunk(50, 50).join();
+
+        tickUntilScanned(env);
+        assertNotNull(instance.getChunk(0, 0), "Chunk viewed by a player should stay loaded");
+        assertNull(instance.getChunk(50, 50));
+    }
+
+    @Test
+    public void saveBeforeUnload(Env env) {
+        List<Chunk> saved = new CopyOnWriteArrayList<>();
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+                return null;
+            }
+
+            @Override
+            public void saveChunk(@NotNull Chunk chunk) {
+                saved.add(chunk);
+            }
+        });
+        var tickets = instance.chunkTickets();
+        tickets.setAutoUnload(true);
+        tickets.setUnloadDelay(0);
+        var clean = instance.loadChunk(0, 0).join();
+        var dirty = instance.loadChunk(1, 0).join();
+        instance.setBlock(16, 50, 0, Block.STONE);
+
+        tickUntilScanned(env);
+        assertNull(instance.getChunk(0, 0), "Unmodified chunk should be unloaded directly");
+        assertTrue(env.tickWhile(() -> instance.getChunk(1, 0) != null, Duration.ofSeconds(5)));
+        assertEquals(List.of(dirty), saved, "Only the modified chunk should be saved");
+        assertFalse(saved.contains(clean));
+    }
+
+    @Test
+    public void chunkBudget(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var tickets = instance.chunkTickets();
+        tickets.setChunkBudget(2);
+        var ticket = tickets.addTicket(ChunkTicketManager.Type.PLUGIN, 0, 0, 0);
+        instance.loadChunk(1, 0).join();
+        tickUntilScanned(env);
+        instance.loadChunk(2, 0).join();
+        instance.loadChunk(3, 0).join();
+
+        tickUntilScanned(env);
+        assertEquals(2, instance.getChunks().size());
+        assertNotNull(instance.getChunk(0, 0), "Held chunk should never be evicted");
+        assertNull(instance.getChunk(1, 0), "Least recently used chunk should be evicted first");
+        tickets.removeTicket(ticket);
+    }
+
+    private static void tickUntilScanned(Env env) {
+        for (int i = 0; i < ChunkTicketManager.SCAN_INTERVAL; i++) env.tick();
+    }
+}
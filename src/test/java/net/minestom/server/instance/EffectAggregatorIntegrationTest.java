@@ -0,0 +1,95 @@
+package net.minestom.server.instance;
+
+import net.kyori.adventure.sound.Sound;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.network.packet.server.play.ParticlePacket;
+import net.minestom.server.network.packet.server.play.SoundEffectPacket;
+import net.minestom.server.particle.Particle;
+import net.minestom.server.sound.SoundEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EffectAggregatorIntegrationTest {
+
+    @Test
+    public void bundlePerViewer(Env env) {
+        var instance = env.createFlatInstance();
+        instance.getEffectAggregator().setEnabled(true);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0));
+        var farConnection = env.createConnection();
+        farConnection.connect(instance, new Pos(200, 42, 200));
+
+        var tracker = connection.trackIncoming(ServerPacket.class);
+        var farTracker = farConnection.trackIncoming(ServerPacket.class);
+        instance.sendGroupedPacket(particle(new Vec(1, 42, 0)));
+        instance.sendGroupedPacket(particle(new Vec(2, 42, 0)));
+        instance.playSound(Sound.sound(SoundEvent.ENTITY_GENERIC_EXPLODE, Sound.Source.MASTER, 1, 1), 0, 42, 0);
+        assertTrue(tracker.collect().stream().noneMatch(ParticlePacket.class::isInstance), "Effects are sent on the next tick");
+
+        env.tick();
+        var packets = tracker.collect().stream()
+                .filter(packet -> packet instanceof BundlePacket || packet instanceof ParticlePacket || packet instanceof SoundEffectPacket)
+                .toList();
+        assertEquals(5, packets.size());
+        assertInstanceOf(BundlePacket.class, packets.getFirst());
+        assertInstanceOf(BundlePacket.class, packets.getLast());
+        assertTrue(farTracker.collect().stream().noneMatch(packet -> packet instanceof ParticlePacket || packet instanceof SoundEffectPacket),
+                "Effects out of range should be culled");
+        assertEquals(3, instance.getEffectAggregator().getMetrics().queued());
+        assertEquals(3, instance.getEffectAggregator().getMetrics().sent());
+        assertEquals(3, instance.getEffectAggregator().getMetrics().culled());
+    }
+
+    @Test
+    public void budget(Env env) {
+        var instance = env.createFlatInstance();
+        var aggregator = instance.getEffectAggregator();
+        aggregator.setEnabled(true);
+        aggregator.setBudget(2);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0));
+
+        var tracker = connection.trackIncoming(ParticlePacket.class);
+        var near = particle(new Vec(1, 42, 0));
+        var middle = particle(new Vec(5, 42, 0));
+        var far = particle(new Vec(10, 42, 0));
+        aggregator.queue(near);
+        aggregator.queue(near);
+        aggregator.queue(far);
+        aggregator.queue(middle);
+        env.tick();
+
+        assertEquals(List.of(near, middle), tracker.collect(), "Duplicates then the farthest effects are dropped");
+        var metrics = aggregator.getMetrics();
+        assertEquals(4, metrics.queued());
+        assertEquals(2, metrics.sent());
+        assertEquals(1, metrics.deduplicated());
+        assertEquals(1, metrics.dropped());
+        assertEquals(1, metrics.throttledPlayers());
+    }
+
+    @Test
+    public void disabled(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0));
+
+        var tracker = connection.trackIncoming(ParticlePacket.class);
+        instance.sendGroupedPacket(particle(new Vec(1, 42, 0)));
+        tracker.assertSingle();
+    }
+
+    private static ParticlePacket particle(Vec position) {
+        return new ParticlePacket(Particle.FLAME, position, Vec.ZERO, 0, 1);
+    }
+}
@@ -0,0 +1,102 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.ExplosionPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ExplosionIntegrationTest {
+
+    @Test
+    public void bulkSetBlocks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0));
+        var chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        Int2ObjectMap<Block> blocks = new Int2ObjectOpenHashMap<>();
+        blocks.put(CoordConversion.chunkBlockIndex(1, 39, 1), Block.AIR);
+        blocks.put(CoordConversion.chunkBlockIndex(2, 38, 1), Block.AIR);
+        blocks.put(CoordConversion.chunkBlockIndex(1, 5, 1), Block.DIAMOND_BLOCK);
+
+        var blockTracker = connection.trackIncoming(BlockChangePacket.class);
+        var tracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        instance.setBlocks(chunk, blocks);
+        blockTracker.assertEmpty();
+        var packets = tracker.collect();
+        assertEquals(2, packets.size(), "One packet per section");
+        assertEquals(3, packets.stream().mapToInt(packet -> packet.blocks().length).sum());
+
+        assertEquals(Block.AIR, instance.getBlock(1, 39, 1));
+        assertEquals(Block.AIR, instance.getBlock(2, 38, 1));
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(1, 5, 1));
+    }
+
+    @Test
+    public void raycastExplosion(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setExplosionSupplier(RaycastExplosion.SUPPLIER);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0));
+        var entity = new LivingEntity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(8.5, 40, 11.5)).join();
+        final float health = entity.getHealth();
+
+        var blockTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var explosionTracker = connection.trackIncoming(ExplosionPacket.class);
+        instance.explode(8.5f, 40f, 8.5f, 4f);
+
+        assertEquals(Block.AIR, instance.getBlock(8, 39, 8));
+        assertEquals(Block.STONE, instance.getBlock(8, 20, 8), "Out of range");
+        assertFalse(blockTracker.collect().isEmpty());
+        explosionTracker.assertSingle();
+
+        assertTrue(entity.getHealth() < health);
+        assertTrue(entity.getVelocity().z() > 0, "The entity should be pushed away");
+    }
+
+    @Test
+    public void destroyHandlerPosition(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setExplosionSupplier(RaycastExplosion.SUPPLIER);
+        instance.loadChunk(1, 1).join();
+        List<Point> destroyed = new ArrayList<>();
+        var handler = new BlockHandler() {
+            @Override
+            public void onDestroy(@NotNull Destroy destroy) {
+                destroyed.add(destroy.getBlockPosition());
+            }
+
+            @Override
+            public @NotNull Key getKey() {
+                return Key.key("minestom:explosion_test");
+            }
+        };
+        instance.setBlock(20, 39, 21, Block.STONE.withHandler(handler));
+
+        instance.explode(20.5f, 40f, 21.5f, 4f);
+        assertEquals(Block.AIR, instance.getBlock(20, 39, 21));
+        assertEquals(List.of(new Vec(20, 39, 21)), destroyed, "The global position should be reported");
+    }
+}
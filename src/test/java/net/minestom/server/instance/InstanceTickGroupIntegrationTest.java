@@ -0,0 +1,87 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceTickGroupIntegrationTest {
+
+    @Test
+    public void isolatedTick(Env env) {
+        var instanceManager = env.process().instance();
+        var group = new InstanceTickGroup("test", 10, 1);
+        try {
+            var instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+            instance.setTickGroup(group);
+            instanceManager.registerInstance(instance);
+            assertEquals(Set.of(instance), group.getInstances());
+            assertSame(group.dispatcher(), instance.dispatcher());
+            assertThrows(IllegalStateException.class, () -> instance.setTickGroup(null));
+
+            var entity = new Entity(EntityType.ZOMBIE);
+            entity.setInstance(instance, new Pos(0, 40, 0)).join();
+
+            // Not ticked by the server
+            env.tick();
+            assertEquals(0, entity.getAliveTicks());
+            assertEquals(0, instance.getWorldAge());
+
+            group.tick(System.nanoTime());
+            assertEquals(1, entity.getAliveTicks());
+            assertEquals(1, instance.getWorldAge());
+            assertTrue(group.getTickTime() >= 0);
+
+            instanceManager.unregisterInstance(instance);
+            assertTrue(group.getInstances().isEmpty());
+        } finally {
+            group.shutdown();
+        }
+    }
+
+    @Test
+    public void loadedChunks(Env env) {
+        var group = new InstanceTickGroup("chunks", 20, 1);
+        try {
+            var instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+            instance.loadChunk(0, 0).join();
+            // The chunk partition belongs to the server dispatcher
+            assertThrows(IllegalStateException.class, () -> instance.setTickGroup(group));
+            assertNull(instance.getTickGroup());
+        } finally {
+            group.shutdown();
+        }
+    }
+
+    @Test
+    public void sharedInstance(Env env) {
+        var instanceManager = env.process().instance();
+        var group = new InstanceTickGroup("shared", 20, 1);
+        try {
+            var container = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD);
+            container.setTickGroup(group);
+            instanceManager.registerInstance(container);
+            var shared = instanceManager.createSharedInstance(container);
+            // Shared chunks are ticked by the container group
+            assertSame(group, shared.getTickGroup());
+            assertEquals(Set.of(container, shared), group.getInstances());
+
+            group.tick(System.nanoTime());
+            assertEquals(1, shared.getWorldAge());
+
+            instanceManager.unregisterInstance(shared);
+            instanceManager.unregisterInstance(container);
+        } finally {
+            group.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.instance.generator;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class GeneratorRegionIntegrationTest {
+
+    @Test
+    public void region(Env env) {
+        var instance = env.process().instance().createInstanceContainer();
+        List<GenerationUnit> units = new CopyOnWriteArrayList<>();
+        instance.setGenerator(unit -> {
+            units.add(unit);
+            unit.modifier().fillHeight(-64, -60, Block.STONE);
+        });
+        instance.loadRegion(-2, -2, 4, 4).join();
+
+        assertEquals(1, units.size(), "The region should be generated as a single unit");
+        final GenerationUnit unit = units.getFirst();
+        assertEquals(new Vec(-32, -64, -32), unit.absoluteStart());
+        assertEquals(64, unit.size().x());
+        assertEquals(64, unit.size().z());
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                assertNotNull(instance.getChunk(x, z));
+                assertEquals(Block.STONE, instance.getBlock(x * 16, -64, z * 16));
+                assertEquals(Block.AIR, instance.getBlock(x * 16, -60, z * 16));
+            }
+        }
+    }
+
+    @Test
+    public void regionPartiallyLoaded(Env env) {
+        var instance = env.process().instance().createInstanceContainer();
+        instance.loadChunk(0, 0).join();
+        instance.setGenerator(unit -> unit.modifier().fillHeight(-64, -60, Block.STONE));
+        instance.loadRegion(0, 0, 2, 1).join();
+        // Already loaded, must not be regenerated
+        assertEquals(Block.AIR, instance.getBlock(0, -64, 0));
+        assertEquals(Block.STONE, instance.getBlock(16, -64, 0));
+    }
+
+    @Test
+    public void regionFork(Env env) {
+        var instance = env.process().instance().createInstanceContainer();
+        instance.setGenerator(unit -> unit.fork(setter -> setter.setBlock(unit.absoluteStart().add(0, 0, 32), Block.GRASS_BLOCK)));
+        instance.loadRegion(0, 0, 1, 2).join();
+        instance.setGenerator(null);
+        instance.loadChunk(0, 2).join();
+        assertEquals(Block.GRASS_BLOCK, instance.getBlock(0, -64, 32));
+    }
+
+    @Test
+    public void parallelChunk(Env env) {
+        var instance = env.process().instance().createInstanceContainer();
+        instance.setGenerator(Generator.parallel(unit -> {
+            unit.modifier().fill(Block.STONE);
+            unit.fork(setter -> setter.setBlock(unit.absoluteStart().add(16, 0, 0), Block.GRASS_BLOCK));
+        }));
+        instance.loadChunk(0, 0).join();
+        instance.setGenerator(null);
+        instance.loadChunk(1, 0).join();
+        assertEquals(Block.STONE, instance.getBlock(0, 0, 0));
+        assertEquals(Block.GRASS_BLOCK, instance.getBlock(16, 0, 0));
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -368,6 +369,46 @@ public class GeneratorTest {
         assertEquals(expectedStones, stones);
     }
 
+    @Test
+    public void subdividedFork() {
+        GenSection[] sections = new GenSection[4];
+        Arrays.setAll(sections, i -> new GenSection());
+        var chunkUnit = GeneratorImpl.chunk(null, sections, 0, 0, 0);
+        Generator generator = unit -> unit.fork(setter -> setter.setBlock(unit.absoluteStart().add(16, 0, 0), Block.STONE));
+        generator.generateAll(chunkUnit.subdivide());
+        // Forks from the sections must be registered on the chunk
+        assertEquals(sections.length, chunkUnit.forks().size());
+    }
+
+    @Test
+    public void parallelGeneration() {
+        final int sectionCount = 24;
+        GenSection[] sections = new GenSection[sectionCount];
+        Arrays.setAll(sections, i -> new GenSection());
+        var chunkUnit = GeneratorImpl.chunk(null, sections, 0, -4, 0);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Generator.parallel(unit -> {
+            threads.add(Thread.currentThread());
+            unit.modifier().fill(Block.STONE);
+            unit.fork(setter -> setter.setBlock(unit.absoluteStart().add(16, 0, 0), Block.STONE));
+        }).generate(chunkUnit);
+        assertFalse(threads.contains(Thread.currentThread()), "Sections should be generated on the pool");
+        assertEquals(sectionCount, chunkUnit.forks().size());
+        for (GenSection section : sections) {
+            assertEquals(16 * 16 * 16, section.blocks().count());
+        }
+    }
+
+    @Test
+    public void parallelGenerationException() {
+        GenSection[] sections = new GenSection[4];
+        Arrays.setAll(sections, i -> new GenSection());
+        var chunkUnit = GeneratorImpl.chunk(null, sections, 0, 0, 0);
+        assertThrows(IllegalStateException.class, () -> Generator.parallel(unit -> {
+            throw new IllegalStateException();
+        }).generate(chunkUnit));
+    }
+
     static GenerationUnit dummyUnit(Point start, Point end) {
         return unit(null, null, start, end, null);
     }
@@ -2,6 +2,7 @@ package net.minestom.server.inventory;
 
 import net.kyori.adventure.text.Component;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.inventory.InventoryItemChangeEvent;
 import net.minestom.server.event.item.ItemDropEvent;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
@@ -11,6 +12,8 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -217,4 +220,52 @@ public class InventoryIntegrationTest {
             assertEquals(MAGIC_STACK, slot.itemStack());
         });
     }
+
+    @Test
+    public void batchedSlotUpdates(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setBatchUpdates(true);
+        player.openInventory(inventory);
+        AtomicInteger events = new AtomicInteger();
+        env.process().eventHandler().addListener(InventoryItemChangeEvent.class, event -> events.incrementAndGet());
+
+        var packetTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.setItemStack(3, ItemStack.of(Material.STONE));
+        inventory.setItemStack(3, MAGIC_STACK);
+        inventory.setItemStack(5, MAGIC_STACK);
+        packetTracker.assertEmpty(); // Sent at the end of the tick
+        assertEquals(3, events.get(), "Events should still be called for every modification");
+
+        packetTracker = connection.trackIncoming(SetSlotPacket.class);
+        env.tick();
+        var packets = packetTracker.collect();
+        assertEquals(2, packets.size(), "Repeated writes to a slot should be deduplicated");
+        assertEquals(3, packets.get(0).slot());
+        assertEquals(MAGIC_STACK, packets.get(0).itemStack());
+        assertEquals(5, packets.get(1).slot());
+    }
+
+    @Test
+    public void batchedFullUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setBatchUpdates(true);
+        player.openInventory(inventory);
+
+        var slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        for (int i = 0; i < inventory.getSize(); i++) {
+            inventory.setItemStack(i, MAGIC_STACK);
+        }
+        env.tick();
+        slotTracker.assertEmpty();
+        windowTracker.assertSingle(packet -> assertEquals(MAGIC_STACK, packet.items().get(53)));
+    }
 }
@@ -0,0 +1,119 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import net.minestom.server.map.framebuffers.LargeDirectFramebuffer;
+import net.minestom.server.map.framebuffers.LargeGraphics2DFramebuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapColorsTest {
+
+    @Test
+    public void closestIndex() {
+        Random random = new Random(12345);
+        for (int i = 0; i < 1000; i++) {
+            final int rgb = random.nextInt(0x1000000);
+            assertEquals(distance(rgb, bruteForce(rgb)), distance(rgb, MapColors.closestIndex(rgb)),
+                    "Invalid closest color for " + Integer.toHexString(rgb));
+            // Alpha is ignored
+            assertEquals(MapColors.closestIndex(rgb), MapColors.closestIndex(0xFF000000 | rgb));
+            assertEquals(MapColors.closestIndex(rgb), MapColors.closestColor(rgb).getIndex());
+        }
+    }
+
+    @Test
+    public void paletteColors() {
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final int rgb = MapColors.PreciseMapColor.toRGB(base, multiplier);
+                assertEquals(0, distance(rgb, MapColors.closestIndex(rgb)));
+            }
+        }
+    }
+
+    @Test
+    public void closestIndices() {
+        Random random = new Random(54321);
+        int[] argb = new int[256];
+        for (int i = 0; i < argb.length; i++) argb[i] = random.nextInt();
+        byte[] colors = new byte[argb.length + 2];
+        MapColors.closestIndices(argb, 0, colors, 2, argb.length);
+        assertEquals(0, colors[0]);
+        assertEquals(0, colors[1]);
+        for (int i = 0; i < argb.length; i++) {
+            assertEquals(MapColors.closestIndex(argb[i]), colors[i + 2]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> MapColors.closestIndices(argb, 1, colors, 0, argb.length));
+    }
+
+    @Test
+    public void graphicsFramebuffer() {
+        var framebuffer = new Graphics2DFramebuffer();
+        framebuffer.set(5, 10, 0xFF0000);
+        framebuffer.set(127, 127, 0x00FF00);
+        final byte[] colors = framebuffer.toMapColors();
+        assertEquals(MapColors.closestIndex(0xFF0000), colors[Framebuffer.index(5, 10)]);
+        assertEquals(MapColors.closestIndex(0x00FF00), colors[Framebuffer.index(127, 127)]);
+        assertEquals(MapColors.closestIndex(0), colors[Framebuffer.index(0, 0)]);
+    }
+
+    @Test
+    public void largeSubView() {
+        var framebuffer = new LargeGraphics2DFramebuffer(200, 150);
+        framebuffer.set(130, 20, 0xFF0000);
+        framebuffer.set(199, 149, 0x0000FF);
+        final byte[] colors = framebuffer.createSubView(128, 0).toMapColors();
+        assertEquals(MapColors.closestIndex(0xFF0000), colors[Framebuffer.index(2, 20)]);
+        assertEquals(MapColors.closestIndex(0), colors[Framebuffer.index(71, 127)]);
+        // Outside of the framebuffer
+        assertEquals(MapColors.NONE.baseColor(), colors[Framebuffer.index(72, 0)]);
+        assertEquals(MapColors.NONE.baseColor(), colors[Framebuffer.index(127, 127)]);
+        final byte[] bottom = framebuffer.createSubView(128, 128).toMapColors();
+        assertEquals(MapColors.closestIndex(0x0000FF), bottom[Framebuffer.index(71, 21)]);
+        assertEquals(MapColors.NONE.baseColor(), bottom[Framebuffer.index(71, 22)]);
+    }
+
+    @Test
+    public void largeDirectNegativeView() {
+        var framebuffer = new LargeDirectFramebuffer(128, 128);
+        framebuffer.setMapColor(0, 0, MapColors.GRASS.baseColor());
+        final byte[] colors = framebuffer.createSubView(-10, -5).toMapColors();
+        assertEquals(MapColors.GRASS.baseColor(), colors[Framebuffer.index(10, 5)]);
+        assertEquals(MapColors.NONE.baseColor(), colors[Framebuffer.index(9, 5)]);
+        assertEquals(MapColors.NONE.baseColor(), colors[Framebuffer.index(10, 4)]);
+    }
+
+    private static byte bruteForce(int rgb) {
+        byte closest = 0;
+        int closestDistance = Integer.MAX_VALUE;
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final byte index = multiplier.apply(base);
+                final int distance = distance(rgb, index);
+                if (distance < closestDistance) {
+                    closest = index;
+                    closestDistance = distance;
+                }
+            }
+        }
+        return closest;
+    }
+
+    private static int distance(int rgb, byte index) {
+        final MapColors base = MapColors.values()[(index & 0xFF) >> 2];
+        MapColors.Multiplier multiplier = null;
+        for (MapColors.Multiplier m : MapColors.Multiplier.values()) {
+            if (m.apply(base) == index) multiplier = m;
+        }
+        final int key = MapColors.PreciseMapColor.toRGB(base, multiplier);
+        final int dr = ((key >> 16) & 0xFF) - ((rgb >> 16) & 0xFF);
+        final int dg = ((key >> 8) & 0xFF) - ((rgb >> 8) & 0xFF);
+        final int db = (key & 0xFF) - (rgb & 0xFF);
+        return dr * dr + dg * dg + db * db;
+    }
+}
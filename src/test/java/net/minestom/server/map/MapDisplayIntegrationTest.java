@@ -0,0 +1,54 @@
+package net.minestom.server.map;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class MapDisplayIntegrationTest {
+
+    @Test
+    public void deltaAndLateViewer(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+        var framebuffer = new DirectFramebuffer();
+        var display = new MapDisplay(5, framebuffer);
+        display.addViewer(player);
+
+        // First update sends the whole map
+        var tracker = connection.trackIncoming(MapDataPacket.class);
+        display.update();
+        tracker.assertSingle(packet -> assertEquals(128 * 128, packet.colorContent().data().length));
+
+        // No change
+        tracker = connection.trackIncoming(MapDataPacket.class);
+        display.update();
+        tracker.assertEmpty();
+
+        // Only the changed pixel
+        framebuffer.set(3, 4, MapColors.GRASS.baseColor());
+        tracker = connection.trackIncoming(MapDataPacket.class);
+        display.update();
+        tracker.assertSingle(packet -> {
+            assertEquals(5, packet.mapId());
+            assertEquals(1, packet.colorContent().data().length);
+        });
+
+        // Late viewer receives the current frame
+        var lateConnection = env.createConnection();
+        var latePlayer = lateConnection.connect(instance, new Pos(0, 42, 0));
+        var lateTracker = lateConnection.trackIncoming(MapDataPacket.class);
+        display.addViewer(latePlayer);
+        lateTracker.assertSingle(packet -> {
+            final byte[] data = packet.colorContent().data();
+            assertEquals(128 * 128, data.length);
+            assertEquals(MapColors.GRASS.baseColor(), data[Framebuffer.index(3, 4)]);
+        });
+    }
+}
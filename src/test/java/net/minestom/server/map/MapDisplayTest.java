@@ -0,0 +1,78 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapDisplayTest {
+
+    @Test
+    public void unchanged() {
+        final byte[] frame = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        assertEquals(List.of(), MapDisplay.deltaPackets(1, frame, frame.clone()));
+    }
+
+    @Test
+    public void singlePixel() {
+        final byte[] previous = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        final byte[] colors = previous.clone();
+        colors[Framebuffer.index(40, 70)] = 5;
+        var packets = MapDisplay.deltaPackets(1, previous, colors);
+        assertEquals(1, packets.size());
+        assertContent(packets.getFirst(), 40, 70, 1, 1);
+        assertArrayEquals(new byte[]{5}, packets.getFirst().colorContent().data());
+    }
+
+    @Test
+    public void rectangle() {
+        final byte[] previous = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        final byte[] colors = previous.clone();
+        // Spans several bands
+        colors[Framebuffer.index(10, 3)] = 1;
+        colors[Framebuffer.index(12, 12)] = 2;
+        colors[Framebuffer.index(11, 20)] = 3;
+        var packets = MapDisplay.deltaPackets(1, previous, colors);
+        assertEquals(1, packets.size());
+        assertContent(packets.getFirst(), 10, 3, 3, 18);
+        final byte[] data = packets.getFirst().colorContent().data();
+        assertEquals(1, data[0]);
+        assertEquals(2, data[Framebuffer.index(2, 9, 3)]);
+        assertEquals(3, data[Framebuffer.index(1, 17, 3)]);
+    }
+
+    @Test
+    public void distantChanges() {
+        final byte[] previous = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        final byte[] colors = previous.clone();
+        colors[Framebuffer.index(0, 0)] = 1;
+        colors[Framebuffer.index(127, 127)] = 2;
+        var packets = MapDisplay.deltaPackets(1, previous, colors);
+        assertEquals(2, packets.size(), "Distant changes should not be merged");
+        assertContent(packets.get(0), 0, 0, 1, 1);
+        assertContent(packets.get(1), 127, 127, 1, 1);
+    }
+
+    @Test
+    public void fullChange() {
+        final byte[] previous = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        final byte[] colors = previous.clone();
+        Arrays.fill(colors, (byte) 7);
+        var packets = MapDisplay.deltaPackets(1, previous, colors);
+        assertEquals(1, packets.size());
+        assertContent(packets.getFirst(), 0, 0, 128, 128);
+    }
+
+    private static void assertContent(MapDataPacket packet, int x, int z, int width, int height) {
+        final MapDataPacket.ColorContent content = packet.colorContent();
+        assertNotNull(content);
+        assertEquals(x, content.x() & 0xFF);
+        assertEquals(z, content.z() & 0xFF);
+        assertEquals(width, content.columns() & 0xFF);
+        assertEquals(height, content.rows() & 0xFF);
+        assertEquals(width * height, content.data().length);
+    }
+}
@@ -0,0 +1,104 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.TagsPacket;
+import net.minestom.server.network.packet.server.configuration.RegistryDataPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConfigurationPayloadIntegrationTest {
+
+    @Test
+    public void excludeVanilla(Env env) throws Exception {
+        assertPayload(env, true, false);
+    }
+
+    @Test
+    public void full(Env env) throws Exception {
+        assertPayload(env, false, false);
+    }
+
+    @Test
+    public void compressed(Env env) throws Exception {
+        assertPayload(env, true, true);
+        assertPayload(env, false, true);
+    }
+
+    private static void assertPayload(Env env, boolean excludeVanilla, boolean compressed) throws Exception {
+        final BufferedPacket payload = env.process().connection().configurationPayload(excludeVanilla, compressed);
+        assertNotNull(payload);
+        // Shared as long as the registries are not modified
+        assertSame(payload, env.process().connection().configurationPayload(excludeVanilla, compressed));
+
+        final byte[] received = sendThroughSocket(payload);
+        var buffer = NetworkBuffer.wrap(received, 0, received.length, env.process());
+        var result = PacketReading.readServers(buffer, ConnectionState.CONFIGURATION, compressed);
+        if (!(result instanceof PacketReading.Result.Success<ServerPacket> success)) {
+            fail("Failed to read the payload: " + result);
+            return;
+        }
+        assertEquals(0, buffer.readableBytes());
+        List<ServerPacket> packets = success.packets().stream().map(PacketReading.ParsedPacket::packet).toList();
+
+        // One packet per registry followed by the tags
+        assertInstanceOf(TagsPacket.class, packets.getLast());
+        List<RegistryDataPacket> registries = packets.subList(0, packets.size() - 1).stream()
+                .map(RegistryDataPacket.class::cast).toList();
+        assertEquals(18, registries.size());
+        final String biomeRegistry = env.process().biome().id();
+        var biomes = registries.stream().filter(packet -> packet.registryId().equals(biomeRegistry)).findFirst();
+        assertTrue(biomes.isPresent());
+        assertFalse(biomes.get().entries().isEmpty());
+        // Vanilla entries are only sent by reference to known packs clients
+        if (excludeVanilla) {
+            assertTrue(biomes.get().entries().stream().anyMatch(entry -> entry.data() == null));
+        } else {
+            assertTrue(biomes.get().entries().stream().allMatch(entry -> entry.data() != null));
+        }
+    }
+
+    private static byte[] sendThroughSocket(BufferedPacket payload) throws IOException {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel channel = server.accept()) {
+                var connection = new PlayerSocketConnection(channel, client.getLocalAddress());
+                connection.setConnectionState(ConnectionState.CONFIGURATION);
+                connection.sendPacket(payload);
+
+                // Read concurrently, the payload may not fit in the socket buffers
+                var reader = CompletableFuture.supplyAsync(() -> {
+                    ByteBuffer received = ByteBuffer.allocate((int) payload.length());
+                    try {
+                        while (received.hasRemaining()) {
+                            if (client.read(received) == -1) break;
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return received;
+                });
+                while (!reader.isDone()) connection.flushSync();
+                final ByteBuffer received = reader.join();
+                assertFalse(received.hasRemaining(), "Missing data");
+                return received.array();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConnectionManagerIntegrationTest {
+
+    @Test
+    public void onlinePlayerLookup(Env env) {
+        var connectionManager = env.process().connection();
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        final String username = player.getUsername();
+
+        assertSame(player, connectionManager.getOnlinePlayerByUuid(player.getUuid()));
+        assertNull(connectionManager.getOnlinePlayerByUuid(UUID.randomUUID()));
+        assertSame(player, connectionManager.getOnlinePlayerByUsername(username.toUpperCase()));
+        assertSame(player, connectionManager.findOnlinePlayer(username.substring(0, 2)));
+
+        assertEquals(List.of(player), List.copyOf(connectionManager.getOnlinePlayersByPrefix(username.substring(0, 3).toLowerCase())));
+        assertEquals(List.of(player), List.copyOf(connectionManager.getOnlinePlayersByPrefix("")));
+        assertTrue(connectionManager.getOnlinePlayersByPrefix(username + "_").isEmpty());
+        assertTrue(connectionManager.getOnlinePlayersByPrefix("\uFFFF").isEmpty());
+        assertSame(player, connectionManager.findOnlinePlayer(username.substring(0, 1) + "\uFFFF"));
+
+        connectionManager.removePlayer(player.getPlayerConnection());
+        assertNull(connectionManager.getOnlinePlayerByUuid(player.getUuid()));
+        assertNull(connectionManager.getOnlinePlayerByUsername(username));
+        assertTrue(connectionManager.getOnlinePlayersByPrefix("").isEmpty());
+    }
+}
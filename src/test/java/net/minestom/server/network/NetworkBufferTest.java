@@ -12,6 +12,7 @@ import org.jetbrains.annotations.UnknownNullability;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.channels.Pipe;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Consumer;
@@ -531,6 +532,31 @@ public class NetworkBufferTest {
         assertThrows(IllegalArgumentException.class, () -> buffer.read(STRING_IO_UTF8)); // oom
     }
 
+    @Test
+    public void gatheringWrite() throws IOException {
+        var first = NetworkBuffer.resizableBuffer(8);
+        first.write(INT, 1);
+        first.write(INT, 2);
+        var second = NetworkBuffer.resizableBuffer(4);
+        second.write(INT, 3);
+        second.readOnly();
+
+        var pipe = Pipe.open();
+        final long written = NetworkBuffer.writeChannel(pipe.sink(),
+                new NetworkBuffer[]{first, second, first},
+                new long[]{0, 0, 4}, new long[]{4, 4, 4}, 0, 3);
+        assertEquals(12, written);
+        // Indexes are untouched
+        assertEquals(0, first.readIndex());
+        assertEquals(0, second.readIndex());
+
+        var result = NetworkBuffer.resizableBuffer(12);
+        while (result.writeIndex() < 12) result.readChannel(pipe.source());
+        assertEquals(1, result.read(INT));
+        assertEquals(3, result.read(INT));
+        assertEquals(2, result.read(INT));
+    }
+
     static <T> void assertBufferType(NetworkBuffer.@NotNull Type<T> type, @UnknownNullability T value, byte[] expected, @NotNull Action<T> action) {
         var buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
         action.write(buffer, type, value);
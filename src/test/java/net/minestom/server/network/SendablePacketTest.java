@@ -49,6 +49,22 @@ public class SendablePacketTest {
         assertSame(packet, cached.packet(ConnectionState.PLAY));
     }
 
+    @Test
+    public void cachedCompression() {
+        var packet = new SystemChatPacket(Component.text("Hello World!".repeat(100)), false);
+        var cached = new CachedPacket(packet);
+
+        var uncompressed = PacketWriting.allocateTrimmedPacket(ConnectionState.PLAY, packet, 0);
+        assertTrue(NetworkBuffer.equals(uncompressed, cached.body(ConnectionState.PLAY, false)));
+        var compressed = PacketWriting.allocateTrimmedPacket(ConnectionState.PLAY, packet,
+                MinecraftServer.getCompressionThreshold());
+        assertTrue(NetworkBuffer.equals(compressed, cached.body(ConnectionState.PLAY, true)));
+
+        cached.invalidate();
+        assertFalse(cached.isValid());
+        assertTrue(NetworkBuffer.equals(uncompressed, cached.body(ConnectionState.PLAY, false)));
+    }
+
     @Test
     public void trimmed() throws DataFormatException {
         var packet = new ClientAnimationPacket(PlayerHand.MAIN);
@@ -1,16 +1,25 @@
 package net.minestom.server.network;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PluginMessagePacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 
 import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SocketWriteTest {
 
@@ -92,6 +101,41 @@ public class SocketWriteTest {
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.writeIndex(), "Invalid buffer position");
     }
 
+    @Test
+    public void gatheredFirst() throws IOException {
+        MinecraftServer.init();
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel channel = server.accept()) {
+                var connection = new PlayerSocketConnection(channel, client.getLocalAddress());
+                connection.setConnectionState(ConnectionState.PLAY);
+
+                // Large enough to be gathered instead of copied into the pooled buffer
+                var cached = new CachedPacket(new PluginMessagePacket("minestom:gathered", new byte[4096]));
+                var body = cached.body(ConnectionState.PLAY, false);
+                assertNotNull(body);
+                assertTrue(body.isReadOnly());
+                var small = new PluginMessagePacket("minestom:copied", new byte[]{1, 2, 3});
+                var smallBody = PacketWriting.allocateTrimmedPacket(ConnectionState.PLAY, small, 0);
+
+                connection.sendPacket(cached);
+                connection.sendPacket(small);
+                connection.flushSync();
+
+                ByteBuffer received = ByteBuffer.allocate((int) (body.capacity() + smallBody.capacity()));
+                while (received.hasRemaining()) {
+                    if (client.read(received) == -1) break;
+                }
+                assertFalse(received.hasRemaining(), "Missing data");
+                var expected = ByteBuffer.allocate(received.capacity());
+                expected.put(body.read(NetworkBuffer.RAW_BYTES));
+                expected.put(smallBody.read(NetworkBuffer.RAW_BYTES));
+                assertArrayEquals(expected.array(), received.array());
+            }
+        }
+    }
+
     private static int getVarIntSize(int input) {
         return (input & 0xFFFFFF80) == 0
                 ? 1 : (input & 0xFFFFC000) == 0
@@ -0,0 +1,48 @@
+package net.minestom.server.registry;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.message.ChatType;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class DynamicRegistryIntegrationTest {
+
+    @Test
+    public void registryDataCached(Env env) {
+        var process = env.process();
+        var registry = process.chatType();
+        for (boolean excludeVanilla : new boolean[]{true, false}) {
+            var packet = assertInstanceOf(CachedPacket.class, registry.registryDataPacket(process, excludeVanilla));
+            assertSame(packet, registry.registryDataPacket(process, excludeVanilla));
+            NetworkBuffer body = packet.body(ConnectionState.CONFIGURATION);
+            assertNotNull(body);
+            assertSame(body, packet.body(ConnectionState.CONFIGURATION));
+        }
+    }
+
+    @Test
+    public void registryDataInvalidation(Env env) {
+        var process = env.process();
+        var registry = process.chatType();
+        var vanilla = (CachedPacket) registry.registryDataPacket(process, true);
+        var full = (CachedPacket) registry.registryDataPacket(process, false);
+        NetworkBuffer vanillaBody = vanilla.body(ConnectionState.CONFIGURATION);
+        NetworkBuffer fullBody = full.body(ConnectionState.CONFIGURATION);
+
+        Key key = registry.getName(0);
+        assertNotNull(key);
+        ChatType chatType = registry.get(key);
+        assertNotNull(chatType);
+        registry.register(key, chatType);
+
+        assertNotSame(vanillaBody, vanilla.body(ConnectionState.CONFIGURATION));
+        assertNotSame(fullBody, full.body(ConnectionState.CONFIGURATION));
+    }
+}
@@ -0,0 +1,76 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.network.packet.server.play.ResetScorePacket;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.server.network.packet.server.play.UpdateScorePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class SidebarIntegrationTest {
+
+    @Test
+    public void unchangedLines(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+        var sidebar = new Sidebar(Component.text("Title"));
+        sidebar.createLine(new Sidebar.ScoreboardLine("line", Component.text("Content"), 1));
+        sidebar.addViewer(player);
+
+        var tracker = connection.trackIncoming(ServerPacket.class);
+        sidebar.updateLineContent("line", Component.text("Content"));
+        sidebar.updateLineScore("line", 1);
+        sidebar.setTitle(Component.text("Title"));
+        tracker.assertEmpty();
+
+        sidebar.updateLineContent("line", Component.text("Other"));
+        tracker.assertSingle(TeamsPacket.class, packet -> assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action()));
+    }
+
+    @Test
+    public void setLines(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+        var sidebar = new Sidebar(Component.text("Title"));
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("kept", Component.text("Kept"), 3),
+                new Sidebar.ScoreboardLine("changed", Component.text("Before"), 2),
+                new Sidebar.ScoreboardLine("removed", Component.text("Removed"), 1)));
+        sidebar.addViewer(player);
+
+        var tracker = connection.trackIncoming(ServerPacket.class);
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("kept", Component.text("Kept"), 3),
+                new Sidebar.ScoreboardLine("changed", Component.text("After"), 2),
+                new Sidebar.ScoreboardLine("added", Component.text("Added"), 1)));
+        var packets = tracker.collect();
+        assertInstanceOf(BundlePacket.class, packets.getFirst());
+        assertInstanceOf(BundlePacket.class, packets.getLast());
+        assertEquals(1, packets.stream().filter(ResetScorePacket.class::isInstance).count());
+        assertEquals(1, packets.stream().filter(UpdateScorePacket.class::isInstance).count(), "Only the added line should be scored");
+        assertEquals(3, packets.stream().filter(TeamsPacket.class::isInstance).count(), "Removed, updated and added teams");
+
+        assertEquals(Component.text("After"), sidebar.getLine("changed").getContent());
+        assertNull(sidebar.getLine("removed"));
+        assertNotNull(sidebar.getLine("added"));
+        assertEquals(3, sidebar.getLines().size());
+
+        var unchangedTracker = connection.trackIncoming(ServerPacket.class);
+        sidebar.setLines(List.of(
+                new Sidebar.ScoreboardLine("kept", Component.text("Kept"), 3),
+                new Sidebar.ScoreboardLine("changed", Component.text("After"), 2),
+                new Sidebar.ScoreboardLine("added", Component.text("Added"), 1)));
+        unchangedTracker.assertEmpty();
+    }
+}
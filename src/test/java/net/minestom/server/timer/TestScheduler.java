@@ -201,4 +201,37 @@ public class TestScheduler {
         scheduler.processTickEnd();
         assertTrue(result.get(), "Tick end task must be executed after 1 second");
     }
+
+    @Test
+    public void longTickDelay() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        final int[] delays = {63, 64, 65, 4095, 4096, 4097, 300_000};
+        final int[] executedAt = new int[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            final int index = i;
+            scheduler.buildTask(() -> executedAt[index] = -1)
+                    .delay(TaskSchedule.tick(delays[i]))
+                    .schedule();
+        }
+        for (int tick = 1; tick <= 300_000; tick++) {
+            scheduler.processTick();
+            for (int i = 0; i < delays.length; i++) {
+                if (executedAt[i] == -1) executedAt[i] = tick;
+            }
+        }
+        assertArrayEquals(delays, executedAt, "Tick tasks must be executed exactly after their delay");
+    }
+
+    @Test
+    public void idleSchedulerDelay() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        // Advance without any task, then schedule relative to the current tick
+        for (int i = 0; i < 1000; i++) scheduler.processTick();
+        AtomicBoolean result = new AtomicBoolean(false);
+        scheduler.buildTask(() -> result.set(true)).delay(TaskSchedule.tick(2)).schedule();
+        scheduler.processTick();
+        assertFalse(result.get(), "Task should not be executed before its delay");
+        scheduler.processTick();
+        assertTrue(result.get(), "Task must be executed after 2 ticks");
+    }
 }
@@ -17,6 +17,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -141,5 +142,10 @@ final class TestConnectionImpl implements TestConnection {
             // Send immediately
             sendPacket(chunk.getFullDataPacket());
         }
+
+        @Override
+        public void sendChunks(@NotNull Collection<@NotNull Chunk> chunks) {
+            chunks.forEach(this::sendChunk);
+        }
     }
 }